@@ -0,0 +1,139 @@
+package com.tech.api_gateway.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.reactive.ReactorLoadBalancerExchangeFilterFunction;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Token verification keys fetched from auth-service's JWKS endpoint and
+ * cached by {@code kid}.
+ * <p>
+ * Lookups never block. The key set is fetched again when a token names an
+ * unknown {@code kid} (a rotation) and, in the background, once the cached
+ * set is older than {@code refreshIntervalMs} (so retired keys drop out).
+ * Fetches start at most once per {@code minRefreshIntervalMs}, so tokens
+ * with made-up ids or an auth-service outage cannot flood auth-service.
+ * Concurrent callers share a single in-flight request.
+ */
+@Component
+public class JwksKeyStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwksKeyStore.class);
+
+    private final WebClient webClient;
+    private final String jwksUri;
+    private final long refreshIntervalMs;
+    private final long minRefreshIntervalMs;
+    private final Duration timeout;
+    private final AtomicReference<Mono<Void>> inFlight = new AtomicReference<>();
+
+    private volatile Map<String, PublicKey> keys = Map.of();
+    private volatile long lastFetchAttempt;
+    private volatile long lastFetched;
+
+    public JwksKeyStore(WebClient.Builder webClientBuilder,
+                        ReactorLoadBalancerExchangeFilterFunction loadBalancer,
+                        @Value("${app.jwt.jwks-uri:http://auth-service/api/v1/auth/.well-known/jwks.json}") String jwksUri,
+                        @Value("${app.jwt.jwks-refresh-interval-ms:300000}") long refreshIntervalMs,
+                        @Value("${app.jwt.jwks-min-refresh-interval-ms:10000}") long minRefreshIntervalMs,
+                        @Value("${app.jwt.jwks-timeout-ms:2000}") long timeoutMs) {
+        // The host part of jwksUri is a service id resolved through discovery.
+        this.webClient = webClientBuilder.filter(loadBalancer).build();
+        this.jwksUri = jwksUri;
+        this.refreshIntervalMs = refreshIntervalMs;
+        this.minRefreshIntervalMs = minRefreshIntervalMs;
+        this.timeout = Duration.ofMillis(timeoutMs);
+    }
+
+    /**
+     * The cached key for {@code kid}, or null if it is not known yet.
+     */
+    public PublicKey find(String kid) {
+        if (System.currentTimeMillis() - lastFetched >= refreshIntervalMs) {
+            refresh().subscribe();
+        }
+        return kid == null ? null : keys.get(kid);
+    }
+
+    /**
+     * Refetches the key set unless that was already attempted within
+     * {@code minRefreshIntervalMs}. Completes once the cache is up to date;
+     * fetch failures are logged and leave the current keys in place.
+     */
+    public Mono<Void> refresh() {
+        if (System.currentTimeMillis() - lastFetchAttempt < minRefreshIntervalMs) {
+            Mono<Void> current = inFlight.get();
+            return current != null ? current : Mono.empty();
+        }
+        return fetch();
+    }
+
+    private Mono<Void> fetch() {
+        Mono<Void> current = inFlight.get();
+        if (current != null) {
+            return current;
+        }
+        Mono<Void> request = webClient.get()
+                .uri(jwksUri)
+                .retrieve()
+                .bodyToMono(JsonWebKeySet.class)
+                .timeout(timeout)
+                .doOnSubscribe(subscription -> lastFetchAttempt = System.currentTimeMillis())
+                .doOnNext(this::replaceKeys)
+                .doOnError(e -> logger.warn("Could not fetch JWKS from {}: {}", jwksUri, e.toString()))
+                .onErrorResume(e -> Mono.empty())
+                .doFinally(signal -> inFlight.set(null))
+                .then()
+                .cache();
+        return inFlight.compareAndSet(null, request) ? request : fetch();
+    }
+
+    private void replaceKeys(JsonWebKeySet keySet) {
+        Map<String, PublicKey> fetched = new HashMap<>();
+        if (keySet.keys() != null) {
+            for (JsonWebKey jwk : keySet.keys()) {
+                if (!"RSA".equals(jwk.kty()) || jwk.kid() == null || (jwk.use() != null && !"sig".equals(jwk.use()))) {
+                    continue;
+                }
+                try {
+                    fetched.put(jwk.kid(), toPublicKey(jwk));
+                } catch (GeneralSecurityException | IllegalArgumentException e) {
+                    logger.warn("Skipping unusable JWK {}: {}", jwk.kid(), e.getMessage());
+                }
+            }
+        }
+        keys = Map.copyOf(fetched);
+        lastFetched = System.currentTimeMillis();
+        logger.debug("Loaded {} JWT verification keys", fetched.size());
+    }
+
+    private static PublicKey toPublicKey(JsonWebKey jwk) throws GeneralSecurityException {
+        Base64.Decoder decoder = Base64.getUrlDecoder();
+        RSAPublicKeySpec spec = new RSAPublicKeySpec(
+                new BigInteger(1, decoder.decode(jwk.n())),
+                new BigInteger(1, decoder.decode(jwk.e())));
+        return KeyFactory.getInstance("RSA").generatePublic(spec);
+    }
+
+    record JsonWebKeySet(List<JsonWebKey> keys) {
+    }
+
+    record JsonWebKey(String kty, String kid, String use, String n, String e) {
+    }
+}
@@ -1,12 +1,13 @@
 package com.tech.api_gateway.security;
 
+import io.jsonwebtoken.Claims;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.ReactiveSecurityContextHolder;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.server.ServerWebExchange;
@@ -14,43 +15,63 @@ import org.springframework.web.server.WebFilter;
 import org.springframework.web.server.WebFilterChain;
 import reactor.core.publisher.Mono;
 
+import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-
 @Component
 public class JwtAuthenticationFilter implements WebFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Autowired
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider) {
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, VerifiedTokenCache verifiedTokenCache) {
         this.jwtTokenProvider = jwtTokenProvider;
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
-@Override
-public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
-    String token = resolveToken(exchange.getRequest());
-
-    if (StringUtils.hasText(token) && this.jwtTokenProvider.validateToken(token)) {
-        return Mono.just(this.jwtTokenProvider.getUsername(token))
-                .flatMap(username ->
-                        Mono.just(Jwts.parserBuilder().setSigningKey(jwtTokenProvider.key()).build().parseClaimsJws(token).getBody())
-                                .map(claims -> {
-                                    List<String> roles = (List<String>) claims.get("roles");
-                                    return new UsernamePasswordAuthenticationToken(
-                                            username,
-                                            null,
-                                            roles.stream().map(SimpleGrantedAuthority::new).collect(Collectors.toList())
-                                    );
-                                })
-                )
-                .flatMap(authentication -> chain.filter(exchange).contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication)));
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String token = resolveToken(exchange.getRequest());
+        if (!StringUtils.hasText(token)) {
+            return chain.filter(exchange);
+        }
+
+        Authentication authentication = verifiedTokenCache.get(token);
+        if (authentication != null) {
+            return proceed(exchange, chain, authentication);
+        }
+        return jwtTokenProvider.parseClaims(token)
+                .map(claims -> Optional.of(cache(token, claims)))
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(verified -> proceed(exchange, chain, verified.orElse(null)));
+    }
+
+    private static Mono<Void> proceed(ServerWebExchange exchange, WebFilterChain chain, Authentication authentication) {
+        if (authentication == null) {
+            return chain.filter(exchange);
+        }
+        return chain.filter(exchange).contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication));
+    }
+
+    private Authentication cache(String token, Claims claims) {
+        Authentication authentication = toAuthentication(claims);
+        Date expiration = claims.getExpiration();
+        verifiedTokenCache.put(token, authentication, expiration == null ? null : expiration.getTime());
+        return authentication;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Authentication toAuthentication(Claims claims) {
+        List<String> roles = claims.get("roles", List.class);
+        return new UsernamePasswordAuthenticationToken(
+                claims.getSubject(),
+                null,
+                roles == null ? List.of() : roles.stream().map(SimpleGrantedAuthority::new).collect(Collectors.toList())
+        );
     }
-    return chain.filter(exchange);
-}
 
     private String resolveToken(ServerHttpRequest request) {
         String bearerToken = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
@@ -1,48 +1,86 @@
 package com.tech.api_gateway.security;
 
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
-import org.springframework.beans.factory.annotation.Value;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 
 import java.security.Key;
+import java.util.Optional;
 
+/**
+ * Verifies RS256 tokens issued by auth-service against the public keys in
+ * {@link JwksKeyStore}, selected by the token's {@code kid} header.
+ */
 @Component
 public class JwtTokenProvider {
 
-    @Value("${app.jwt-secret}")
-    private String jwtSecret;
+    private static final Logger logger = LoggerFactory.getLogger(JwtTokenProvider.class);
 
-    protected Key key() {
-        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
+    private final JwksKeyStore keyStore;
+    // The parser is immutable and safe to share; it looks the verification key up by kid.
+    private final JwtParser parser;
+
+    public JwtTokenProvider(JwksKeyStore keyStore) {
+        this.keyStore = keyStore;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        Key key = keyStore.find(header.getKeyId());
+                        if (key == null) {
+                            throw new UnknownSigningKeyException(header.getKeyId());
+                        }
+                        return key;
+                    }
+                })
+                .build();
     }
 
-    public String getUsername(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claims.getSubject();
+    /**
+     * Verifies the token and returns its claims, or empty if the token is
+     * malformed, expired, unsupported or wrongly signed. A token signed with
+     * a key that is not cached yet waits for one JWKS refresh and is checked again.
+     */
+    public Mono<Claims> parseClaims(String token) {
+        try {
+            return Mono.justOrEmpty(verify(token));
+        } catch (UnknownSigningKeyException e) {
+            return keyStore.refresh().then(Mono.fromCallable(() -> {
+                try {
+                    return verify(token).orElse(null);
+                } catch (UnknownSigningKeyException stillUnknown) {
+                    logger.debug("JWT signed with unknown key id: {}", stillUnknown.getMessage());
+                    return null;
+                }
+            }));
+        }
     }
 
-    public boolean validateToken(String token) {
+    private Optional<Claims> verify(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key())
-                    .build()
-                    .parse(token);
-            return true;
+            return Optional.of(parser.parseClaimsJws(token).getBody());
+        } catch (UnknownSigningKeyException e) {
+            throw e;
         } catch (MalformedJwtException e) {
-            System.err.println("Invalid JWT token: " + e.getMessage());
+            logger.debug("Invalid JWT token: {}", e.getMessage());
         } catch (ExpiredJwtException e) {
-            System.err.println("JWT token is expired: " + e.getMessage());
+            logger.debug("JWT token is expired: {}", e.getMessage());
         } catch (UnsupportedJwtException e) {
-            System.err.println("JWT token is unsupported: " + e.getMessage());
+            logger.debug("JWT token is unsupported: {}", e.getMessage());
         } catch (IllegalArgumentException e) {
-            System.err.println("JWT claims string is empty: " + e.getMessage());
+            logger.debug("JWT claims string is empty: {}", e.getMessage());
+        } catch (JwtException e) {
+            logger.debug("JWT token rejected: {}", e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    private static class UnknownSigningKeyException extends JwtException {
+
+        UnknownSigningKeyException(String kid) {
+            super(String.valueOf(kid));
         }
-        return false;
     }
 }
@@ -0,0 +1,71 @@
+package com.tech.api_gateway.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded cache of tokens that already passed signature verification, so
+ * repeat requests from the same session skip parsing and signature checks.
+ * <p>
+ * Entries expire with the token itself (or after {@code maxTtlMillis} if the
+ * token has no expiry) and the least recently used entry is dropped once
+ * {@code maxSize} is reached. Keys are the full token string, so a cache hit
+ * is only possible for the exact bytes that were verified.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final int maxSize;
+    private final long maxTtlMillis;
+    private final Map<String, Entry> entries;
+
+    public VerifiedTokenCache(@Value("${app.jwt-cache.max-size:10000}") int maxSize,
+                              @Value("${app.jwt-cache.max-ttl-seconds:900}") long maxTtlSeconds) {
+        this.maxSize = maxSize;
+        this.maxTtlMillis = maxTtlSeconds * 1000;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > VerifiedTokenCache.this.maxSize;
+            }
+        };
+    }
+
+    public Authentication get(String token) {
+        synchronized (entries) {
+            Entry entry = entries.get(token);
+            if (entry == null) {
+                return null;
+            }
+            if (System.currentTimeMillis() >= entry.expiresAt()) {
+                entries.remove(token);
+                return null;
+            }
+            return entry.authentication();
+        }
+    }
+
+    /**
+     * @param expiresAtMillis the token's {@code exp} in epoch millis, or null if it has none
+     */
+    public void put(String token, Authentication authentication, Long expiresAtMillis) {
+        long cap = System.currentTimeMillis() + maxTtlMillis;
+        long expiresAt = expiresAtMillis == null ? cap : Math.min(expiresAtMillis, cap);
+        synchronized (entries) {
+            entries.put(token, new Entry(authentication, expiresAt));
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private record Entry(Authentication authentication, long expiresAt) {
+    }
+}
@@ -0,0 +1,168 @@
+package com.tech.api_gateway.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.loadbalancer.reactive.ReactorLoadBalancerExchangeFilterFunction;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class JwksKeyStoreTest {
+
+    private final AtomicInteger fetches = new AtomicInteger();
+    private final List<String> responses = new ArrayList<>();
+
+    /**
+     * A key store whose JWKS requests are answered from {@link #responses} in
+     * turn, the last one repeating.
+     */
+    private JwksKeyStore keyStore(long minRefreshIntervalMs) {
+        ExchangeFunction jwksEndpoint = request -> {
+            int fetch = fetches.getAndIncrement();
+            String body = responses.get(Math.min(fetch, responses.size() - 1));
+            return Mono.just(ClientResponse.create(HttpStatus.OK)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .body(body)
+                    .build());
+        };
+        // Passes requests straight through instead of resolving the service id.
+        ReactorLoadBalancerExchangeFilterFunction loadBalancer =
+                mock(ReactorLoadBalancerExchangeFilterFunction.class, withSettings().defaultAnswer(CALLS_REAL_METHODS));
+        doAnswer(invocation -> invocation.<ExchangeFunction>getArgument(1).exchange(invocation.getArgument(0)))
+                .when(loadBalancer).filter(any(ClientRequest.class), any(ExchangeFunction.class));
+        return new JwksKeyStore(WebClient.builder().exchangeFunction(jwksEndpoint), loadBalancer,
+                "http://auth-service/api/v1/auth/.well-known/jwks.json", 300_000, minRefreshIntervalMs, 2000);
+    }
+
+    private static KeyPair keyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        return generator.generateKeyPair();
+    }
+
+    private static RSAPublicKey publicKey() throws Exception {
+        return (RSAPublicKey) keyPair().getPublic();
+    }
+
+    private static String jwk(String kid, RSAPublicKey key) {
+        return """
+                {"kty":"RSA","kid":"%s","use":"sig","alg":"RS256","n":"%s","e":"%s"}"""
+                .formatted(kid, base64Url(key.getModulus()), base64Url(key.getPublicExponent()));
+    }
+
+    private static String jwks(String... jwks) {
+        return "{\"keys\":[" + String.join(",", jwks) + "]}";
+    }
+
+    private static String base64Url(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    @Test
+    void refresh_shouldLoadKeyForUnknownKid() throws Exception {
+        RSAPublicKey rotated = publicKey();
+        responses.add(jwks(jwk("old", publicKey())));
+        responses.add(jwks(jwk("old", publicKey()), jwk("new", rotated)));
+        JwksKeyStore keyStore = keyStore(0);
+        keyStore.refresh().block();
+
+        assertNull(keyStore.find("new"));
+        keyStore.refresh().block();
+
+        assertEquals(rotated, keyStore.find("new"));
+        assertEquals(2, fetches.get());
+    }
+
+    @Test
+    void refresh_shouldFetchAtMostOncePerMinInterval() throws Exception {
+        responses.add(jwks(jwk("current", publicKey())));
+        JwksKeyStore keyStore = keyStore(60_000);
+
+        keyStore.refresh().block();
+        keyStore.refresh().block();
+        keyStore.refresh().block();
+
+        assertNotNull(keyStore.find("current"));
+        assertNull(keyStore.find("made-up"));
+        assertEquals(1, fetches.get());
+    }
+
+    @Test
+    void refresh_shouldSkipUnusableKeysAndKeepTheRest() throws Exception {
+        RSAPublicKey valid = publicKey();
+        responses.add(jwks(
+                "{\"kty\":\"RSA\",\"kid\":\"bad-modulus\",\"use\":\"sig\",\"n\":\"!!!\",\"e\":\"AQAB\"}",
+                "{\"kty\":\"EC\",\"kid\":\"elliptic\",\"use\":\"sig\",\"crv\":\"P-256\"}",
+                jwk("encryption", valid).replace("\"sig\"", "\"enc\""),
+                jwk("valid", valid)));
+        JwksKeyStore keyStore = keyStore(0);
+
+        keyStore.refresh().block();
+
+        assertEquals(valid, keyStore.find("valid"));
+        assertNull(keyStore.find("bad-modulus"));
+        assertNull(keyStore.find("elliptic"));
+        assertNull(keyStore.find("encryption"));
+    }
+
+    @Test
+    void refresh_shouldKeepCachedKeysWhenFetchFails() throws Exception {
+        RSAPublicKey key = publicKey();
+        responses.add(jwks(jwk("current", key)));
+        responses.add("not json");
+        JwksKeyStore keyStore = keyStore(0);
+        keyStore.refresh().block();
+
+        keyStore.refresh().block();
+
+        assertEquals(key, keyStore.find("current"));
+        assertEquals(2, fetches.get());
+    }
+
+    @Test
+    void find_shouldVerifyRs256TokenAgainstPublishedJwks() throws Exception {
+        // Signed and published the way auth-service's JwtTokenProvider and SigningKeyStore do it.
+        KeyPair keyPair = keyPair();
+        responses.add(jwks(jwk("issuer-key", (RSAPublicKey) keyPair.getPublic())));
+        String token = Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, "issuer-key")
+                .setSubject("alice@example.com")
+                .claim("roles", List.of("ROLE_USER"))
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(keyPair.getPrivate(), SignatureAlgorithm.RS256)
+                .compact();
+
+        Claims claims = new JwtTokenProvider(keyStore(0)).parseClaims(token).block();
+
+        assertEquals("alice@example.com", claims.getSubject());
+        assertEquals(List.of("ROLE_USER"), claims.get("roles", List.class));
+        assertEquals(1, fetches.get());
+    }
+}
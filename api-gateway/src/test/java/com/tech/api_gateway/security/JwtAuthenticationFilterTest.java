@@ -0,0 +1,101 @@
+package com.tech.api_gateway.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class JwtAuthenticationFilterTest {
+
+    private final JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
+    private final VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(10, 900);
+    private final JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtTokenProvider, verifiedTokenCache);
+
+    /**
+     * Runs the filter for a request with {@code token} and returns the
+     * authentication the rest of the chain saw, or null if there was none.
+     */
+    private Authentication filter(String token) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get("/api/v1/orders");
+        if (token != null) {
+            request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        }
+        AtomicReference<Authentication> seen = new AtomicReference<>();
+        WebFilterChain chain = exchange -> ReactiveSecurityContextHolder.getContext()
+                .map(SecurityContext::getAuthentication)
+                .doOnNext(seen::set)
+                .then();
+        filter.filter(MockServerWebExchange.from(request), chain).block();
+        return seen.get();
+    }
+
+    private static Claims claims(String subject) {
+        return Jwts.claims().setSubject(subject).setExpiration(new Date(System.currentTimeMillis() + 60_000));
+    }
+
+    @Test
+    void filter_shouldUseCachedAuthenticationWithoutVerifyingAgain() {
+        Authentication cached = new UsernamePasswordAuthenticationToken("alice", null, List.of());
+        verifiedTokenCache.put("token", cached, System.currentTimeMillis() + 60_000);
+
+        assertSame(cached, filter("token"));
+        verifyNoInteractions(jwtTokenProvider);
+    }
+
+    @Test
+    void filter_shouldVerifyUnknownTokenOnceAndCacheIt() {
+        Claims claims = claims("alice");
+        claims.put("roles", List.of("ROLE_CUSTOMER"));
+        when(jwtTokenProvider.parseClaims("token")).thenReturn(Mono.just(claims));
+
+        Authentication first = filter("token");
+        Authentication second = filter("token");
+
+        assertEquals("alice", first.getPrincipal());
+        assertEquals(List.of("ROLE_CUSTOMER"), first.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+        assertSame(first, second);
+        verify(jwtTokenProvider, times(1)).parseClaims("token");
+    }
+
+    @Test
+    void filter_shouldAuthenticateTokenWithoutRolesClaimWithNoAuthorities() {
+        when(jwtTokenProvider.parseClaims("token")).thenReturn(Mono.just(claims("alice")));
+
+        Authentication authentication = filter("token");
+
+        assertNotNull(authentication);
+        assertTrue(authentication.isAuthenticated());
+        assertEquals("alice", authentication.getPrincipal());
+        assertTrue(authentication.getAuthorities().isEmpty());
+    }
+
+    @Test
+    void filter_shouldPassRejectedTokenOnUnauthenticatedWithoutCachingIt() {
+        when(jwtTokenProvider.parseClaims("token")).thenReturn(Mono.empty());
+
+        assertNull(filter("token"));
+        assertEquals(0, verifiedTokenCache.size());
+    }
+
+    @Test
+    void filter_shouldIgnoreRequestWithoutBearerToken() {
+        assertNull(filter(null));
+        verifyNoInteractions(jwtTokenProvider);
+    }
+}
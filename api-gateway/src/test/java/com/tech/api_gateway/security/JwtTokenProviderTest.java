@@ -0,0 +1,92 @@
+package com.tech.api_gateway.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PublicKey;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Checks tokens built the way auth-service issues them: RS256 with the key id
+ * in the {@code kid} header and the authorities in a {@code roles} claim.
+ */
+class JwtTokenProviderTest {
+
+    private final JwksKeyStore keyStore = mock(JwksKeyStore.class);
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(keyStore);
+
+    private static KeyPair keyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        return generator.generateKeyPair();
+    }
+
+    private static String token(String kid, KeyPair keyPair, long expiresInMillis) {
+        return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, kid)
+                .setSubject("alice@example.com")
+                .claim("roles", List.of("ROLE_USER"))
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + expiresInMillis))
+                .signWith(keyPair.getPrivate(), SignatureAlgorithm.RS256)
+                .compact();
+    }
+
+    @Test
+    void parseClaims_shouldVerifyTokenSignedWithPublishedKey() throws Exception {
+        KeyPair keyPair = keyPair();
+        when(keyStore.find("k1")).thenReturn(keyPair.getPublic());
+
+        Claims claims = jwtTokenProvider.parseClaims(token("k1", keyPair, 60_000)).block();
+
+        assertEquals("alice@example.com", claims.getSubject());
+        assertEquals(List.of("ROLE_USER"), claims.get("roles", List.class));
+        verify(keyStore, never()).refresh();
+    }
+
+    @Test
+    void parseClaims_shouldRefreshKeysOnceForUnknownKid() throws Exception {
+        KeyPair keyPair = keyPair();
+        PublicKey[] published = {null};
+        when(keyStore.find("k2")).thenAnswer(invocation -> published[0]);
+        when(keyStore.refresh()).thenReturn(Mono.fromRunnable(() -> published[0] = keyPair.getPublic()));
+
+        Claims claims = jwtTokenProvider.parseClaims(token("k2", keyPair, 60_000)).block();
+
+        assertEquals("alice@example.com", claims.getSubject());
+        verify(keyStore, times(1)).refresh();
+    }
+
+    @Test
+    void parseClaims_shouldRejectTokenWhoseKidStaysUnknown() throws Exception {
+        when(keyStore.refresh()).thenReturn(Mono.empty());
+
+        assertNull(jwtTokenProvider.parseClaims(token("made-up", keyPair(), 60_000)).block());
+        verify(keyStore, times(1)).refresh();
+    }
+
+    @Test
+    void parseClaims_shouldRejectTokenSignedWithAnotherKey() throws Exception {
+        when(keyStore.find("k1")).thenReturn(keyPair().getPublic());
+
+        assertNull(jwtTokenProvider.parseClaims(token("k1", keyPair(), 60_000)).block());
+    }
+
+    @Test
+    void parseClaims_shouldRejectExpiredToken() throws Exception {
+        KeyPair keyPair = keyPair();
+        when(keyStore.find("k1")).thenReturn(keyPair.getPublic());
+
+        assertNull(jwtTokenProvider.parseClaims(token("k1", keyPair, -1_000)).block());
+    }
+}
@@ -0,0 +1,65 @@
+package com.tech.api_gateway.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiedTokenCacheTest {
+
+    private static final long IN_AN_HOUR = System.currentTimeMillis() + 3_600_000;
+
+    private static Authentication authentication(String user) {
+        return new UsernamePasswordAuthenticationToken(user, null, List.of());
+    }
+
+    @Test
+    void get_shouldReturnCachedAuthenticationBeforeExpiry() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, 900);
+        Authentication alice = authentication("alice");
+
+        cache.put("token", alice, IN_AN_HOUR);
+
+        assertSame(alice, cache.get("token"));
+        assertNull(cache.get("other-token"));
+    }
+
+    @Test
+    void get_shouldDropEntryOnceTokenExpires() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, 900);
+
+        cache.put("token", authentication("alice"), System.currentTimeMillis() - 1);
+
+        assertNull(cache.get("token"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void get_shouldDropEntryAfterMaxTtlEvenIfTokenIsStillValid() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, 0);
+
+        cache.put("token", authentication("alice"), IN_AN_HOUR);
+        cache.put("token-without-exp", authentication("bob"), null);
+
+        assertNull(cache.get("token"));
+        assertNull(cache.get("token-without-exp"));
+    }
+
+    @Test
+    void put_shouldEvictLeastRecentlyUsedEntryAtMaxSize() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(2, 900);
+        cache.put("first", authentication("alice"), IN_AN_HOUR);
+        cache.put("second", authentication("bob"), IN_AN_HOUR);
+        cache.get("first");
+
+        cache.put("third", authentication("carol"), IN_AN_HOUR);
+
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get("first"));
+        assertNull(cache.get("second"));
+        assertNotNull(cache.get("third"));
+    }
+}
@@ -1,15 +0,0 @@
-package com.tech.authservice.config;
-
-import org.modelmapper.ModelMapper;
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-
-@Configuration
-public class ApplicationConfig {
-
-    @Bean
-    public ModelMapper modelMapper() {
-
-        return new ModelMapper();
-    }
-}
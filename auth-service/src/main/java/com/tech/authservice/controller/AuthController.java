@@ -5,8 +5,10 @@ import com.tech.authservice.dto.LoginRequest;
 import com.tech.authservice.dto.RefreshTokenRequest;
 import com.tech.authservice.dto.RegisterRequest;
 import com.tech.authservice.model.User;
+import com.tech.authservice.security.CustomUserDetailsService;
 import com.tech.authservice.security.JwtTokenProvider;
 import com.tech.authservice.service.UserService;
+import io.jsonwebtoken.Claims;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
@@ -16,10 +18,14 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Optional;
+
 @RestController
 @RequestMapping("/api/v1/auth")
 public class AuthController {
@@ -29,16 +35,19 @@ public class AuthController {
     private AuthenticationManager authenticationManager;
     private UserService userService;
     private JwtTokenProvider jwtTokenProvider;
+    private CustomUserDetailsService userDetailsService;
 
     @Value("${app.jwt-expiration-milliseconds}")
     private long jwtExpirationDate;
 
     public AuthController(AuthenticationManager authenticationManager,
                           UserService userService,
-                          JwtTokenProvider jwtTokenProvider) {
+                          JwtTokenProvider jwtTokenProvider,
+                          CustomUserDetailsService userDetailsService) {
         this.authenticationManager = authenticationManager;
         this.userService = userService;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.userDetailsService = userDetailsService;
     }
 
     @PostMapping("/register")
@@ -82,13 +91,22 @@ public class AuthController {
     public ResponseEntity<AuthResponse> refreshToken(@Valid @RequestBody RefreshTokenRequest refreshTokenRequest) {
         String refreshToken = refreshTokenRequest.getRefreshToken();
 
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
+        Optional<Claims> claims = jwtTokenProvider.parseClaims(refreshToken);
+        if (claims.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
         }
 
-        String username = jwtTokenProvider.getUsername(refreshToken);
-
-        Authentication authentication = new UsernamePasswordAuthenticationToken(username, null);
+        // Requests are authorized from the roles claim alone, so take it from the stored user rather than
+        // the old token: a deleted user gets no new tokens and a role change applies from the next refresh.
+        UserDetails userDetails;
+        try {
+            userDetails = userDetailsService.loadUserByUsername(claims.get().getSubject());
+        } catch (UsernameNotFoundException e) {
+            logger.warn("Refusing to refresh token for unknown user {}", claims.get().getSubject());
+            return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
+        }
+        Authentication authentication = new UsernamePasswordAuthenticationToken(
+                userDetails.getUsername(), null, userDetails.getAuthorities());
         String newAccessToken = jwtTokenProvider.generateToken(authentication);
         String newRefreshToken = jwtTokenProvider.generateRefreshToken(authentication);
 
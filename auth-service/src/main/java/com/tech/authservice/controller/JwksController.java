@@ -0,0 +1,35 @@
+package com.tech.authservice.controller;
+
+import com.tech.authservice.security.SigningKeyStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Publishes the token verification keys so other services can check tokens
+ * locally. Lives under {@code /api/v1/auth} so it is public and routed by the gateway.
+ */
+@RestController
+@RequestMapping("/api/v1/auth/.well-known")
+public class JwksController {
+
+    private SigningKeyStore signingKeys;
+    private CacheControl cacheControl;
+
+    public JwksController(SigningKeyStore signingKeys,
+                          @Value("${app.jwt.jwks-max-age-seconds:300}") long maxAgeSeconds) {
+        this.signingKeys = signingKeys;
+        this.cacheControl = CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds)).cachePublic();
+    }
+
+    @GetMapping("/jwks.json")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok().cacheControl(cacheControl).body(signingKeys.jwks());
+    }
+}
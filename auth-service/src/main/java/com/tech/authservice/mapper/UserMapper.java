@@ -0,0 +1,34 @@
+package com.tech.authservice.mapper;
+
+import com.tech.authservice.dto.UserResponse;
+import com.tech.authservice.model.User;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+
+/**
+ * Hand-written mappings between {@link User} and {@link UserResponse}.
+ */
+@Component
+public class UserMapper {
+
+    public UserResponse toResponse(User user) {
+        UserResponse response = new UserResponse();
+        response.setId(user.getId());
+        response.setFirstName(user.getFirstName());
+        response.setLastName(user.getLastName());
+        response.setEmail(user.getEmail());
+        response.setRoles(user.getRoles() == null ? null : new HashSet<>(user.getRoles()));
+        return response;
+    }
+
+    public User toEntity(UserResponse response) {
+        return User.builder()
+                .id(response.getId())
+                .firstName(response.getFirstName())
+                .lastName(response.getLastName())
+                .email(response.getEmail())
+                .roles(response.getRoles() == null ? null : new HashSet<>(response.getRoles()))
+                .build();
+    }
+}
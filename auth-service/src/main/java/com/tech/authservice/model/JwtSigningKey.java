@@ -0,0 +1,39 @@
+package com.tech.authservice.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * An RSA key pair for signing tokens, shared by every auth-service instance.
+ * The key with no {@code retiresAt} and the latest {@code createdAt} signs new
+ * tokens; retired keys stay published for verification until {@code retiresAt}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "signing_keys")
+public class JwtSigningKey {
+
+    @Id
+    @Column(length = 36)
+    private String kid;
+
+    // Base64 PKCS#8; the table holds private keys, so guard the auth database like any other secret store.
+    @Column(nullable = false, length = 8192)
+    private String privateKey;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    private Instant retiresAt;
+}
@@ -0,0 +1,31 @@
+package com.tech.authservice.repository;
+
+import com.tech.authservice.model.JwtSigningKey;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface JwtSigningKeyRepository extends JpaRepository<JwtSigningKey, String> {
+
+    // Locks the signing keys so only one instance at a time decides whether to rotate.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<JwtSigningKey> findAllByRetiresAtIsNullOrderByCreatedAtDesc();
+
+    List<JwtSigningKey> findAllByOrderByCreatedAtAsc();
+
+    @Modifying
+    @Query("update JwtSigningKey k set k.retiresAt = :retiresAt where k.retiresAt is null")
+    int retireSigningKeys(@Param("retiresAt") Instant retiresAt);
+
+    @Modifying
+    @Query("delete from JwtSigningKey k where k.retiresAt <= :now")
+    int deleteRetiredBefore(@Param("now") Instant now);
+}
@@ -1,29 +1,46 @@
 package com.tech.authservice.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-
+import java.util.Optional;
+
+/**
+ * Authenticates requests from the bearer token alone. The principal and its
+ * authorities come from the signed {@code sub} and {@code roles} claims, so
+ * no database lookup is needed per request.
+ * <p>
+ * With {@code app.jwt.revocation-check.enabled=true} the user is also looked
+ * up through {@link UserDetailsCache}: deleted users are rejected and the
+ * stored roles take precedence over the token's, at most
+ * {@code app.user-cache.ttl-seconds} behind the database.
+ */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private JwtTokenProvider jwtTokenProvider;
-    private UserDetailsService userDetailsService;
+    private UserDetailsCache userDetailsCache;
+    private boolean revocationCheck;
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider,
+                                   UserDetailsCache userDetailsCache,
+                                   @Value("${app.jwt.revocation-check.enabled:false}") boolean revocationCheck) {
         this.jwtTokenProvider = jwtTokenProvider;
-        this.userDetailsService = userDetailsService;
+        this.userDetailsCache = userDetailsCache;
+        this.revocationCheck = revocationCheck;
     }
 
     @Override
@@ -33,26 +50,37 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = getTokenFromRequest(request);
 
-        if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-            String username = jwtTokenProvider.getUsername(token);
-
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-
-            UsernamePasswordAuthenticationToken authenticationToken =
-                    new UsernamePasswordAuthenticationToken(
-                            userDetails,
-                            null,
-                            userDetails.getAuthorities()
-                    );
-
-            authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-
-            SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+        if (StringUtils.hasText(token)) {
+            jwtTokenProvider.parseClaims(token)
+                    .flatMap(this::toUserDetails)
+                    .ifPresent(userDetails -> {
+                        UsernamePasswordAuthenticationToken authenticationToken =
+                                new UsernamePasswordAuthenticationToken(
+                                        userDetails,
+                                        null,
+                                        userDetails.getAuthorities()
+                                );
+
+                        authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+
+                        SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+                    });
         }
 
         filterChain.doFilter(request, response);
     }
 
+    private Optional<UserDetails> toUserDetails(Claims claims) {
+        String username = claims.getSubject();
+        if (!StringUtils.hasText(username)) {
+            return Optional.empty();
+        }
+        if (revocationCheck) {
+            return userDetailsCache.get(username);
+        }
+        return Optional.of(new User(username, "", jwtTokenProvider.getAuthorities(claims)));
+    }
+
     private String getTokenFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
 
@@ -62,4 +90,4 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         return null;
     }
-}
\ No newline at end of file
+}
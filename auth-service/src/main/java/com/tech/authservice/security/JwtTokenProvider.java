@@ -1,20 +1,27 @@
 package com.tech.authservice.security;
 
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
 
 @Component
 public class JwtTokenProvider {
 
-    @Value("${app.jwt-secret}")
-    private String jwtSecret;
+    private static final Logger logger = LoggerFactory.getLogger(JwtTokenProvider.class);
+
+    private final SigningKeyStore signingKeys;
+    // The parser is immutable and safe to share; it looks the verification key up by kid.
+    private final JwtParser parser;
 
     @Value("${app.jwt-expiration-milliseconds}")
     private long jwtExpirationDate;
@@ -22,19 +29,38 @@ public class JwtTokenProvider {
     @Value("${app.jwt-refresh-expiration-milliseconds}")
     private long jwtRefreshExpirationDate;
 
+    public JwtTokenProvider(SigningKeyStore signingKeys) {
+        this.signingKeys = signingKeys;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        Key key = signingKeys.publicKey(header.getKeyId());
+                        if (key == null) {
+                            throw new UnsupportedJwtException("Unknown signing key id: " + header.getKeyId());
+                        }
+                        return key;
+                    }
+                })
+                .build();
+    }
+
     public String generateToken(Authentication authentication) {
         String username = authentication.getName();
         Date currentDate = new Date();
         Date expireDate = new Date(currentDate.getTime() + jwtExpirationDate);
 
+        SigningKeyStore.SigningKey signingKey = signingKeys.current();
+
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, signingKey.kid())
                 .setSubject(username)
                 .claim("roles", authentication.getAuthorities().stream()
                         .map(grantedAuthority -> grantedAuthority.getAuthority())
                         .toList())
                 .setIssuedAt(new Date())
                 .setExpiration(expireDate)
-                .signWith(key())
+                .signWith(signingKey.privateKey(), SignatureAlgorithm.RS256)
                 .compact();
     }
 
@@ -43,46 +69,59 @@ public class JwtTokenProvider {
         Date currentDate = new Date();
         Date expireDate = new Date(currentDate.getTime() + jwtRefreshExpirationDate);
 
+        SigningKeyStore.SigningKey signingKey = signingKeys.current();
+
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, signingKey.kid())
                 .setSubject(username)
                 .claim("roles", authentication.getAuthorities().stream()
                         .map(grantedAuthority -> grantedAuthority.getAuthority())
                         .toList())
                 .setIssuedAt(new Date())
                 .setExpiration(expireDate)
-                .signWith(key())
+                .signWith(signingKey.privateKey(), SignatureAlgorithm.RS256)
                 .compact();
     }
 
-    private Key key() {
-        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
-    }
-
-    public String getUsername(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claims.getSubject();
-    }
-
-    public boolean validateToken(String token) {
+    /**
+     * Verifies the token and returns its claims in a single parse, or empty if
+     * the token is malformed, expired, unsupported or wrongly signed.
+     */
+    public Optional<Claims> parseClaims(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key())
-                    .build()
-                    .parse(token);
-            return true;
+            return Optional.of(parser.parseClaimsJws(token).getBody());
         } catch (MalformedJwtException e) {
-            System.err.println("Invalid JWT token: " + e.getMessage());
+            logger.debug("Invalid JWT token: {}", e.getMessage());
         } catch (ExpiredJwtException e) {
-            System.err.println("JWT token is expired: " + e.getMessage());
+            logger.debug("JWT token is expired: {}", e.getMessage());
         } catch (UnsupportedJwtException e) {
-            System.err.println("JWT token is unsupported: " + e.getMessage());
+            logger.debug("JWT token is unsupported: {}", e.getMessage());
         } catch (IllegalArgumentException e) {
-            System.err.println("JWT claims string is empty: " + e.getMessage());
+            logger.debug("JWT claims string is empty: {}", e.getMessage());
+        } catch (JwtException e) {
+            logger.debug("JWT token rejected: {}", e.getMessage());
         }
-        return false;
+        return Optional.empty();
+    }
+
+    /**
+     * The authorities in the token's {@code roles} claim, or none if it has no such claim.
+     */
+    public List<GrantedAuthority> getAuthorities(Claims claims) {
+        List<?> roles = claims.get("roles", List.class);
+        if (roles == null) {
+            return List.of();
+        }
+        return roles.stream()
+                .map(role -> (GrantedAuthority) new SimpleGrantedAuthority(role.toString()))
+                .toList();
+    }
+
+    public String getUsername(String token) {
+        return parser.parseClaimsJws(token).getBody().getSubject();
+    }
+
+    public boolean validateToken(String token) {
+        return parseClaims(token).isPresent();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,252 @@
+package com.tech.authservice.security;
+
+import com.tech.authservice.model.JwtSigningKey;
+import com.tech.authservice.repository.JwtSigningKeyRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * RSA key pairs used to sign access and refresh tokens.
+ * <p>
+ * Tokens are signed with the current key and carry its id in the {@code kid}
+ * header. The published keys are served as a JSON Web Key Set, so verifiers
+ * can pick up a new key without a redeploy.
+ * <p>
+ * Keys live in the {@code signing_keys} table, so every instance signs with
+ * the same key, publishes the same set and keeps it across restarts. Every
+ * {@code refreshIntervalMs} each instance rotates the key if it is older than
+ * {@code rotationIntervalMs}, under a row lock so only one of them does, and
+ * then reloads the table. A retired key stays published until every token it
+ * signed has expired. A token naming a key this instance has not loaded yet
+ * triggers a reload, at most once per {@code reloadMinIntervalMs}.
+ * <p>
+ * Alternatively, set {@code app.jwt.private-key} to a base64 PKCS#8 RSA key
+ * to sign with a fixed key and leave the table unused. A configured key is
+ * never rotated automatically; rotate it by deploying a new key under a new
+ * {@code app.jwt.key-id}.
+ */
+@Component
+public class SigningKeyStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(SigningKeyStore.class);
+
+    private final JwtSigningKeyRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final int keySize;
+    private final long retentionMillis;
+    private final long rotationIntervalMillis;
+    private final long reloadMinIntervalMillis;
+    private final boolean shared;
+
+    private volatile Map<String, PublishedKey> publishedKeys = Map.of();
+    private volatile SigningKey current;
+    private volatile Map<String, Object> jwks;
+    private volatile long lastReload;
+
+    public SigningKeyStore(JwtSigningKeyRepository repository,
+                           TransactionTemplate transactionTemplate,
+                           @Value("${app.jwt.key-size:2048}") int keySize,
+                           @Value("${app.jwt-refresh-expiration-milliseconds}") long retentionMillis,
+                           @Value("${app.jwt.key-rotation-interval-ms:86400000}") long rotationIntervalMillis,
+                           @Value("${app.jwt.key-reload-min-interval-ms:1000}") long reloadMinIntervalMillis,
+                           @Value("${app.jwt.private-key:}") String privateKey,
+                           @Value("${app.jwt.key-id:}") String keyId) throws GeneralSecurityException {
+        this.repository = repository;
+        this.transactionTemplate = transactionTemplate;
+        this.keySize = keySize;
+        this.retentionMillis = retentionMillis;
+        this.rotationIntervalMillis = rotationIntervalMillis;
+        this.reloadMinIntervalMillis = reloadMinIntervalMillis;
+        this.shared = !StringUtils.hasText(privateKey);
+        if (shared) {
+            refresh();
+        } else {
+            String kid = StringUtils.hasText(keyId) ? keyId : "configured";
+            KeyPair keyPair = loadKeyPair(privateKey);
+            publishedKeys = Map.of(kid, new PublishedKey((RSAPublicKey) keyPair.getPublic(), Long.MAX_VALUE));
+            current = new SigningKey(kid, keyPair.getPrivate());
+            jwks = toJwks(publishedKeys);
+        }
+    }
+
+    public SigningKey current() {
+        return current;
+    }
+
+    /**
+     * The public key for {@code kid}, or null if it was never issued or has been retired.
+     */
+    public RSAPublicKey publicKey(String kid) {
+        PublishedKey key = kid == null ? null : publishedKeys.get(kid);
+        if (key == null && kid != null && shared && System.currentTimeMillis() - lastReload >= reloadMinIntervalMillis) {
+            // Possibly signed by another instance right after it rotated.
+            reload();
+            key = publishedKeys.get(kid);
+        }
+        return key == null || key.retiresAt() <= System.currentTimeMillis() ? null : key.publicKey();
+    }
+
+    /**
+     * The published keys as a JSON Web Key Set (RFC 7517), rebuilt only when keys change.
+     */
+    public Map<String, Object> jwks() {
+        return jwks;
+    }
+
+    /**
+     * Rotates the shared key if it is due (or there is none yet) and reloads
+     * the keys other instances may have added or retired.
+     */
+    @Scheduled(fixedDelayString = "${app.jwt.key-refresh-interval-ms:60000}",
+            initialDelayString = "${app.jwt.key-refresh-interval-ms:60000}")
+    public void refresh() {
+        if (!shared) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            List<JwtSigningKey> signingKeys = repository.findAllByRetiresAtIsNullOrderByCreatedAtDesc();
+            Instant now = Instant.now();
+            if (signingKeys.isEmpty() || signingKeys.get(0).getCreatedAt().plusMillis(rotationIntervalMillis).isBefore(now)) {
+                insertSigningKey(now);
+            }
+        });
+        reload();
+    }
+
+    /**
+     * Replaces the shared signing key now, regardless of its age.
+     */
+    public void rotate() {
+        if (!shared) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            // Taken for the row lock only, so this cannot interleave with another instance's rotation.
+            repository.findAllByRetiresAtIsNullOrderByCreatedAtDesc();
+            insertSigningKey(Instant.now());
+        });
+        reload();
+    }
+
+    private void insertSigningKey(Instant now) {
+        KeyPair keyPair = generateKeyPair();
+        String kid = UUID.randomUUID().toString();
+        repository.retireSigningKeys(now.plusMillis(retentionMillis));
+        repository.deleteRetiredBefore(now);
+        repository.save(JwtSigningKey.builder()
+                .kid(kid)
+                .privateKey(Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()))
+                .createdAt(now)
+                .build());
+        logger.info("Generated JWT signing key, now signing with kid {}", kid);
+    }
+
+    private synchronized void reload() {
+        long now = System.currentTimeMillis();
+        Map<String, PublishedKey> loaded = new LinkedHashMap<>();
+        SigningKey signingKey = null;
+        for (JwtSigningKey row : repository.findAllByOrderByCreatedAtAsc()) {
+            long retiresAt = row.getRetiresAt() == null ? Long.MAX_VALUE : row.getRetiresAt().toEpochMilli();
+            if (retiresAt <= now) {
+                continue;
+            }
+            KeyPair keyPair;
+            try {
+                keyPair = loadKeyPair(row.getPrivateKey());
+            } catch (GeneralSecurityException | IllegalArgumentException e) {
+                logger.error("Skipping unreadable JWT signing key {}", row.getKid(), e);
+                continue;
+            }
+            loaded.put(row.getKid(), new PublishedKey((RSAPublicKey) keyPair.getPublic(), retiresAt));
+            // Rows are in creation order, so the last unretired one is the newest.
+            if (row.getRetiresAt() == null) {
+                signingKey = new SigningKey(row.getKid(), keyPair.getPrivate());
+            }
+        }
+        lastReload = now;
+        if (signingKey == null) {
+            throw new IllegalStateException("No JWT signing key in signing_keys");
+        }
+        if (!loaded.equals(publishedKeys)) {
+            publishedKeys = Map.copyOf(loaded);
+            jwks = toJwks(loaded);
+        }
+        current = signingKey;
+    }
+
+    private KeyPair generateKeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(keySize);
+            return generator.generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not generate an RSA signing key", e);
+        }
+    }
+
+    private static KeyPair loadKeyPair(String base64Pkcs8) throws GeneralSecurityException {
+        KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+        PrivateKey privateKey = keyFactory.generatePrivate(
+                new PKCS8EncodedKeySpec(Base64.getMimeDecoder().decode(base64Pkcs8)));
+        if (!(privateKey instanceof RSAPrivateCrtKey crtKey)) {
+            throw new GeneralSecurityException("app.jwt.private-key must be an RSA private key with CRT parameters");
+        }
+        RSAPublicKey publicKey = (RSAPublicKey) keyFactory.generatePublic(
+                new RSAPublicKeySpec(crtKey.getModulus(), crtKey.getPublicExponent()));
+        return new KeyPair(publicKey, privateKey);
+    }
+
+    private static Map<String, Object> toJwks(Map<String, PublishedKey> keys) {
+        List<Map<String, String>> jwkList = new ArrayList<>();
+        keys.forEach((kid, key) -> {
+            Map<String, String> jwk = new LinkedHashMap<>();
+            jwk.put("kty", "RSA");
+            jwk.put("kid", kid);
+            jwk.put("use", "sig");
+            jwk.put("alg", "RS256");
+            jwk.put("n", base64Url(key.publicKey().getModulus()));
+            jwk.put("e", base64Url(key.publicKey().getPublicExponent()));
+            jwkList.add(jwk);
+        });
+        return Map.of("keys", List.copyOf(jwkList));
+    }
+
+    // JWK integers are unsigned big-endian, so drop the sign byte BigInteger may prepend.
+    private static String base64Url(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    public record SigningKey(String kid, PrivateKey privateKey) {
+    }
+
+    private record PublishedKey(RSAPublicKey publicKey, long retiresAt) {
+    }
+}
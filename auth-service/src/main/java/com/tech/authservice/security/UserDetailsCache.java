@@ -0,0 +1,75 @@
+package com.tech.authservice.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Short-lived cache of user lookups for the optional revocation check in
+ * {@link JwtAuthenticationFilter}.
+ * <p>
+ * A deleted user or changed roles take effect within {@code ttlSeconds}
+ * instead of on every request. Users that no longer exist are cached as
+ * well, so a revoked token cannot force a database read per request. Once
+ * {@code maxSize} is reached the least recently used entry is dropped.
+ */
+@Component
+public class UserDetailsCache {
+
+    private final CustomUserDetailsService userDetailsService;
+    private final int maxSize;
+    private final long ttlMillis;
+    private final Map<String, Entry> entries;
+
+    public UserDetailsCache(CustomUserDetailsService userDetailsService,
+                            @Value("${app.user-cache.max-size:10000}") int maxSize,
+                            @Value("${app.user-cache.ttl-seconds:30}") long ttlSeconds) {
+        this.userDetailsService = userDetailsService;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > UserDetailsCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * The current user details for {@code username}, or empty if no such user exists.
+     */
+    public Optional<UserDetails> get(String username) {
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            Entry entry = entries.get(username);
+            if (entry != null && now < entry.expiresAt()) {
+                return Optional.ofNullable(entry.userDetails());
+            }
+        }
+
+        UserDetails userDetails;
+        try {
+            userDetails = userDetailsService.loadUserByUsername(username);
+        } catch (UsernameNotFoundException e) {
+            userDetails = null;
+        }
+        synchronized (entries) {
+            entries.put(username, new Entry(userDetails, now + ttlMillis));
+        }
+        return Optional.ofNullable(userDetails);
+    }
+
+    public void evict(String username) {
+        synchronized (entries) {
+            entries.remove(username);
+        }
+    }
+
+    private record Entry(UserDetails userDetails, long expiresAt) {
+    }
+}
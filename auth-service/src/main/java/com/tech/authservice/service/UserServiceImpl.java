@@ -3,10 +3,11 @@ package com.tech.authservice.service;
 import com.tech.authservice.dto.UserResponse;
 import com.tech.authservice.dto.UserUpdateRequest;
 import com.tech.authservice.exception.ResourceNotFoundException;
+import com.tech.authservice.mapper.UserMapper;
 import com.tech.authservice.model.User;
 import com.tech.authservice.model.enums.Role;
 import com.tech.authservice.repository.UserRepository;
-import org.modelmapper.ModelMapper;
+import com.tech.authservice.security.UserDetailsCache;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -19,12 +20,15 @@ public class UserServiceImpl implements UserService {
 
     private UserRepository userRepository;
     private PasswordEncoder passwordEncoder;
-    private ModelMapper modelMapper;
+    private UserMapper userMapper;
+    private UserDetailsCache userDetailsCache;
 
-    public UserServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder, ModelMapper modelMapper) {
+    public UserServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder, UserMapper userMapper,
+                           UserDetailsCache userDetailsCache) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
-        this.modelMapper = modelMapper;
+        this.userMapper = userMapper;
+        this.userDetailsCache = userDetailsCache;
     }
 
     @Override
@@ -45,14 +49,14 @@ public class UserServiceImpl implements UserService {
     public UserResponse getUserById(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId.toString()));
-        return modelMapper.map(user, UserResponse.class);
+        return userMapper.toResponse(user);
     }
 
     @Override
     public UserResponse getUserByEmail(String email) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "email", email));
-        return modelMapper.map(user, UserResponse.class);
+        return userMapper.toResponse(user);
     }
 
     @Override
@@ -60,12 +64,14 @@ public class UserServiceImpl implements UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId.toString()));
 
+        userDetailsCache.evict(user.getEmail());
+
         Optional.ofNullable(userUpdateRequest.getFirstName()).ifPresent(user::setFirstName);
         Optional.ofNullable(userUpdateRequest.getLastName()).ifPresent(user::setLastName);
         Optional.ofNullable(userUpdateRequest.getEmail()).ifPresent(user::setEmail);
 
         User updatedUser = userRepository.save(user);
-        return modelMapper.map(updatedUser, UserResponse.class);
+        return userMapper.toResponse(updatedUser);
     }
 
     @Override
@@ -73,6 +79,7 @@ public class UserServiceImpl implements UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId.toString()));
         userRepository.delete(user);
+        userDetailsCache.evict(user.getEmail());
     }
 
     @Override
@@ -82,11 +89,11 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public UserResponse mapToDTO(User user) {
-        return modelMapper.map(user, UserResponse.class);
+        return userMapper.toResponse(user);
     }
 
     @Override
     public User mapToEntity(UserResponse userResponse) {
-        return modelMapper.map(userResponse, User.class);
+        return userMapper.toEntity(userResponse);
     }
 }
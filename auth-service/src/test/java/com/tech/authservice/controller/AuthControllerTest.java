@@ -0,0 +1,72 @@
+package com.tech.authservice.controller;
+
+import com.tech.authservice.dto.AuthResponse;
+import com.tech.authservice.dto.RefreshTokenRequest;
+import com.tech.authservice.security.CustomUserDetailsService;
+import com.tech.authservice.security.JwtTokenProvider;
+import com.tech.authservice.security.JwtTestSupport;
+import com.tech.authservice.service.UserService;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AuthControllerTest {
+
+    private final CustomUserDetailsService userDetailsService = mock(CustomUserDetailsService.class);
+    private final JwtTokenProvider jwtTokenProvider = JwtTestSupport.tokenProvider();
+    private final AuthController authController = new AuthController(mock(AuthenticationManager.class),
+            mock(UserService.class), jwtTokenProvider, userDetailsService);
+
+    private RefreshTokenRequest refreshRequest(String username, String role) {
+        RefreshTokenRequest request = new RefreshTokenRequest();
+        request.setRefreshToken(jwtTokenProvider.generateRefreshToken(new UsernamePasswordAuthenticationToken(
+                username, null, List.of(new SimpleGrantedAuthority(role)))));
+        return request;
+    }
+
+    @Test
+    void refreshToken_shouldReturnUnauthorizedForDeletedUser() {
+        when(userDetailsService.loadUserByUsername("alice@example.com"))
+                .thenThrow(new UsernameNotFoundException("alice@example.com"));
+
+        ResponseEntity<AuthResponse> response = authController.refreshToken(refreshRequest("alice@example.com", "ROLE_USER"));
+
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+
+    @Test
+    void refreshToken_shouldIssueTokensWithStoredRoles() {
+        when(userDetailsService.loadUserByUsername("alice@example.com")).thenReturn(
+                new User("alice@example.com", "secret", List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+
+        ResponseEntity<AuthResponse> response = authController.refreshToken(refreshRequest("alice@example.com", "ROLE_ADMIN"));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        for (String token : List.of(response.getBody().getAccessToken(), response.getBody().getRefreshToken())) {
+            Claims claims = jwtTokenProvider.parseClaims(token).orElseThrow();
+            assertEquals("alice@example.com", claims.getSubject());
+            assertEquals(List.of("ROLE_USER"), claims.get("roles", List.class));
+        }
+    }
+
+    @Test
+    void refreshToken_shouldReturnUnauthorizedForInvalidToken() {
+        RefreshTokenRequest request = new RefreshTokenRequest();
+        request.setRefreshToken("not-a-jwt");
+
+        assertEquals(HttpStatus.UNAUTHORIZED, authController.refreshToken(request).getStatusCode());
+        verifyNoInteractions(userDetailsService);
+    }
+}
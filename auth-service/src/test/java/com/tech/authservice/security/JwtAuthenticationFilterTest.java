@@ -0,0 +1,87 @@
+package com.tech.authservice.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class JwtAuthenticationFilterTest {
+
+    private final UserDetailsCache userDetailsCache = mock(UserDetailsCache.class);
+    private final JwtTokenProvider jwtTokenProvider = JwtTestSupport.tokenProvider();
+
+    private String token(String username, String... roles) {
+        return jwtTokenProvider.generateToken(new UsernamePasswordAuthenticationToken(username, null,
+                List.of(roles).stream().map(SimpleGrantedAuthority::new).toList()));
+    }
+
+    /**
+     * Runs the filter for a request carrying {@code token} and returns the resulting authentication.
+     */
+    private Authentication filter(boolean revocationCheck, String token) throws Exception {
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtTokenProvider, userDetailsCache, revocationCheck);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users/me");
+        request.addHeader("Authorization", "Bearer " + token);
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertNotNull(chain.getRequest(), "the request must always continue down the chain");
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private static List<String> authorities(Authentication authentication) {
+        return authentication.getAuthorities().stream().map(GrantedAuthority::getAuthority).sorted().toList();
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilter_shouldTakeAuthoritiesFromClaimWithoutLookupWhenRevocationCheckIsOff() throws Exception {
+        Authentication authentication = filter(false, token("alice@example.com", "ROLE_USER", "ROLE_ADMIN"));
+
+        assertEquals("alice@example.com", authentication.getName());
+        assertEquals(List.of("ROLE_ADMIN", "ROLE_USER"), authorities(authentication));
+        verifyNoInteractions(userDetailsCache);
+    }
+
+    @Test
+    void doFilter_shouldRejectDeletedUserWhenRevocationCheckIsOn() throws Exception {
+        when(userDetailsCache.get("alice@example.com")).thenReturn(Optional.empty());
+
+        assertNull(filter(true, token("alice@example.com", "ROLE_ADMIN")));
+    }
+
+    @Test
+    void doFilter_shouldUseStoredRolesOverTokenRolesWhenRevocationCheckIsOn() throws Exception {
+        when(userDetailsCache.get("alice@example.com")).thenReturn(Optional.of(
+                new User("alice@example.com", "secret", List.of(new SimpleGrantedAuthority("ROLE_USER")))));
+
+        Authentication authentication = filter(true, token("alice@example.com", "ROLE_ADMIN"));
+
+        assertEquals("alice@example.com", authentication.getName());
+        assertEquals(List.of("ROLE_USER"), authorities(authentication));
+    }
+
+    @Test
+    void doFilter_shouldLeaveRequestUnauthenticatedForInvalidToken() throws Exception {
+        assertNull(filter(false, "not-a-jwt"));
+        verifyNoInteractions(userDetailsCache);
+    }
+}
@@ -0,0 +1,36 @@
+package com.tech.authservice.security;
+
+import com.tech.authservice.repository.JwtSigningKeyRepository;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPairGenerator;
+import java.util.Base64;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Builds a {@link JwtTokenProvider} with a freshly generated, configured
+ * signing key and short token lifetimes for tests that need no database.
+ */
+public final class JwtTestSupport {
+
+    private JwtTestSupport() {
+    }
+
+    public static JwtTokenProvider tokenProvider() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            String privateKey = Base64.getEncoder().encodeToString(generator.generateKeyPair().getPrivate().getEncoded());
+            SigningKeyStore signingKeys = new SigningKeyStore(mock(JwtSigningKeyRepository.class), null,
+                    2048, 60_000, 86_400_000, 1000, privateKey, "test");
+            JwtTokenProvider provider = new JwtTokenProvider(signingKeys);
+            ReflectionTestUtils.setField(provider, "jwtExpirationDate", 60_000L);
+            ReflectionTestUtils.setField(provider, "jwtRefreshExpirationDate", 120_000L);
+            return provider;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.tech.authservice.security;
+
+import com.tech.authservice.repository.JwtSigningKeyRepository;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigInteger;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs two {@link SigningKeyStore}s on one database, standing in for two
+ * auth-service instances.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SigningKeyStoreTest {
+
+    private static final long RETENTION_MS = 60_000;
+    private static final long ROTATION_INTERVAL_MS = 86_400_000;
+
+    @Autowired
+    private JwtSigningKeyRepository repository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private SigningKeyStore store(long retentionMillis, long rotationIntervalMillis) throws Exception {
+        return new SigningKeyStore(repository, transactionTemplate, 2048, retentionMillis, rotationIntervalMillis, 0, "", "");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, String>> keys(SigningKeyStore store) {
+        return (List<Map<String, String>>) store.jwks().get("keys");
+    }
+
+    private static List<String> kids(SigningKeyStore store) {
+        return keys(store).stream().map(jwk -> jwk.get("kid")).toList();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void constructor_shouldShareOneSigningKeyBetweenInstances() throws Exception {
+        SigningKeyStore first = store(RETENTION_MS, ROTATION_INTERVAL_MS);
+        SigningKeyStore second = store(RETENTION_MS, ROTATION_INTERVAL_MS);
+
+        assertEquals(1, repository.count());
+        assertEquals(first.current().kid(), second.current().kid());
+        assertEquals(first.jwks(), second.jwks());
+    }
+
+    @Test
+    void refresh_shouldRotateOnlyOnceKeyIsDue() throws Exception {
+        SigningKeyStore store = store(RETENTION_MS, ROTATION_INTERVAL_MS);
+        String kid = store.current().kid();
+
+        store.refresh();
+        assertEquals(kid, store.current().kid());
+
+        ReflectionTestUtils.setField(store, "rotationIntervalMillis", 0L);
+        store.refresh();
+        assertNotEquals(kid, store.current().kid());
+    }
+
+    @Test
+    void rotate_shouldKeepRetiredKeyPublishedUntilRetentionEnds() throws Exception {
+        SigningKeyStore store = store(RETENTION_MS, ROTATION_INTERVAL_MS);
+        String retiredKid = store.current().kid();
+
+        store.rotate();
+
+        String kid = store.current().kid();
+        assertNotEquals(retiredKid, kid);
+        assertNotNull(store.publicKey(retiredKid));
+        assertNotNull(store.publicKey(kid));
+        assertEquals(List.of(retiredKid, kid), kids(store));
+    }
+
+    @Test
+    void rotate_shouldDropRetiredKeyOnceRetentionHasPassed() throws Exception {
+        SigningKeyStore store = store(0, ROTATION_INTERVAL_MS);
+        String retiredKid = store.current().kid();
+
+        store.rotate();
+        store.rotate();
+
+        assertNull(store.publicKey(retiredKid));
+        assertEquals(List.of(store.current().kid()), kids(store));
+        assertFalse(repository.existsById(retiredKid));
+    }
+
+    @Test
+    void publicKey_shouldFindKeyRotatedByAnotherInstance() throws Exception {
+        SigningKeyStore first = store(RETENTION_MS, ROTATION_INTERVAL_MS);
+        SigningKeyStore second = store(RETENTION_MS, ROTATION_INTERVAL_MS);
+
+        first.rotate();
+
+        assertNotNull(second.publicKey(first.current().kid()));
+        assertEquals(first.jwks(), second.jwks());
+        assertEquals(first.current().kid(), second.current().kid());
+        assertNull(second.publicKey("unknown"));
+    }
+
+    @Test
+    void jwks_shouldPublishEachKeyAsRsaSigningJwk() throws Exception {
+        SigningKeyStore store = store(RETENTION_MS, ROTATION_INTERVAL_MS);
+        String kid = store.current().kid();
+
+        Map<String, String> jwk = keys(store).get(0);
+
+        assertEquals(List.of("kty", "kid", "use", "alg", "n", "e"), List.copyOf(jwk.keySet()));
+        assertEquals("RSA", jwk.get("kty"));
+        assertEquals(kid, jwk.get("kid"));
+        assertEquals("sig", jwk.get("use"));
+        assertEquals("RS256", jwk.get("alg"));
+        assertFalse(jwk.get("n").contains("="), "JWK integers are unpadded base64url");
+        Base64.Decoder decoder = Base64.getUrlDecoder();
+        assertEquals(store.publicKey(kid).getModulus(), new BigInteger(1, decoder.decode(jwk.get("n"))));
+        assertEquals(store.publicKey(kid).getPublicExponent(), new BigInteger(1, decoder.decode(jwk.get("e"))));
+    }
+
+    @Test
+    void jwks_shouldVerifyTokenSignedByAnotherInstance() throws Exception {
+        JwtTokenProvider issuer = new JwtTokenProvider(store(RETENTION_MS, ROTATION_INTERVAL_MS));
+        ReflectionTestUtils.setField(issuer, "jwtExpirationDate", 60_000L);
+        SigningKeyStore verifier = store(RETENTION_MS, ROTATION_INTERVAL_MS);
+        String token = issuer.generateToken(new UsernamePasswordAuthenticationToken("alice@example.com", null,
+                List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+
+        Map<String, String> jwk = keys(verifier).get(0);
+        Base64.Decoder decoder = Base64.getUrlDecoder();
+        PublicKey publicKey = KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(
+                new BigInteger(1, decoder.decode(jwk.get("n"))), new BigInteger(1, decoder.decode(jwk.get("e")))));
+
+        assertEquals("alice@example.com",
+                Jwts.parserBuilder().setSigningKey(publicKey).build().parseClaimsJws(token).getBody().getSubject());
+        assertTrue(new JwtTokenProvider(verifier).validateToken(token));
+    }
+}
@@ -0,0 +1,87 @@
+package com.tech.authservice.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class UserDetailsCacheTest {
+
+    private final CustomUserDetailsService userDetailsService = mock(CustomUserDetailsService.class);
+
+    private static UserDetails user(String username, String role) {
+        return new User(username, "secret", List.of(new SimpleGrantedAuthority(role)));
+    }
+
+    @Test
+    void get_shouldLoadUserOnceWithinTtl() {
+        UserDetailsCache cache = new UserDetailsCache(userDetailsService, 10, 60);
+        UserDetails alice = user("alice@example.com", "ROLE_USER");
+        when(userDetailsService.loadUserByUsername("alice@example.com")).thenReturn(alice);
+
+        assertEquals(Optional.of(alice), cache.get("alice@example.com"));
+        assertEquals(Optional.of(alice), cache.get("alice@example.com"));
+
+        verify(userDetailsService, times(1)).loadUserByUsername("alice@example.com");
+    }
+
+    @Test
+    void get_shouldReloadUserOnceTtlHasPassed() {
+        UserDetailsCache cache = new UserDetailsCache(userDetailsService, 10, 0);
+        when(userDetailsService.loadUserByUsername("alice@example.com"))
+                .thenReturn(user("alice@example.com", "ROLE_USER"), user("alice@example.com", "ROLE_ADMIN"));
+
+        cache.get("alice@example.com");
+        UserDetails reloaded = cache.get("alice@example.com").orElseThrow();
+
+        assertEquals(List.of(new SimpleGrantedAuthority("ROLE_ADMIN")), List.copyOf(reloaded.getAuthorities()));
+        verify(userDetailsService, times(2)).loadUserByUsername("alice@example.com");
+    }
+
+    @Test
+    void get_shouldCacheMissingUserAsEmpty() {
+        UserDetailsCache cache = new UserDetailsCache(userDetailsService, 10, 60);
+        when(userDetailsService.loadUserByUsername("gone@example.com"))
+                .thenThrow(new UsernameNotFoundException("gone@example.com"));
+
+        assertTrue(cache.get("gone@example.com").isEmpty());
+        assertTrue(cache.get("gone@example.com").isEmpty());
+
+        verify(userDetailsService, times(1)).loadUserByUsername("gone@example.com");
+    }
+
+    @Test
+    void evict_shouldMakeNextLookupReadTheUserAgain() {
+        UserDetailsCache cache = new UserDetailsCache(userDetailsService, 10, 60);
+        when(userDetailsService.loadUserByUsername("alice@example.com"))
+                .thenReturn(user("alice@example.com", "ROLE_USER"))
+                .thenThrow(new UsernameNotFoundException("alice@example.com"));
+        cache.get("alice@example.com");
+
+        cache.evict("alice@example.com");
+
+        assertTrue(cache.get("alice@example.com").isEmpty());
+        verify(userDetailsService, times(2)).loadUserByUsername("alice@example.com");
+    }
+
+    @Test
+    void get_shouldDropLeastRecentlyUsedUserAtMaxSize() {
+        UserDetailsCache cache = new UserDetailsCache(userDetailsService, 1, 60);
+        when(userDetailsService.loadUserByUsername(anyString()))
+                .thenAnswer(invocation -> user(invocation.getArgument(0), "ROLE_USER"));
+
+        cache.get("alice@example.com");
+        cache.get("bob@example.com");
+        cache.get("alice@example.com");
+
+        verify(userDetailsService, times(2)).loadUserByUsername("alice@example.com");
+        verify(userDetailsService, times(1)).loadUserByUsername("bob@example.com");
+    }
+}
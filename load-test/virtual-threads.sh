@@ -0,0 +1,29 @@
+#!/usr/bin/env bash
+# Compares a running service with and without virtual threads.
+#
+# Start the service once per mode, then run this script against it:
+#   VIRTUAL_THREADS_ENABLED=false java -jar restaurant-service/target/restaurant-service-0.0.1-SNAPSHOT.jar
+#   ./load-test/virtual-threads.sh platform
+#   VIRTUAL_THREADS_ENABLED=true  java -jar restaurant-service/target/restaurant-service-0.0.1-SNAPSHOT.jar
+#   ./load-test/virtual-threads.sh virtual
+#
+# Needs wrk (https://github.com/wg/wrk) and an open-file limit above the connection count.
+set -euo pipefail
+
+LABEL=${1:?usage: virtual-threads.sh <label>}
+URL=${URL:-http://localhost:8081/api/v1/restaurants/summary}
+CONNECTIONS=${CONNECTIONS:-5000}
+THREADS=${THREADS:-16}
+DURATION=${DURATION:-60s}
+OUT=${OUT:-load-test/results}
+
+mkdir -p "$OUT"
+ulimit -n $((CONNECTIONS + 1024))
+
+# Warm up the JIT and connection pool before measuring.
+wrk -t"$THREADS" -c"$CONNECTIONS" -d15s "$URL" > /dev/null
+
+wrk -t"$THREADS" -c"$CONNECTIONS" -d"$DURATION" --timeout 10s --latency "$URL" | tee "$OUT/$LABEL.txt"
+
+echo
+echo "$LABEL: $(grep 'Requests/sec' "$OUT/$LABEL.txt") | p99 $(grep ' 99%' "$OUT/$LABEL.txt" | awk '{print $2}')"
@@ -0,0 +1,55 @@
+package com.tech.order_service.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+/**
+ * Non-blocking persistence for the reactive order endpoints.
+ * <p>
+ * The connection pool and its transaction manager are deliberately not beans.
+ * A {@code ConnectionFactory} bean switches off Boot's JDBC {@code DataSource},
+ * and a second transaction manager switches off the JPA one. Either would
+ * break the blocking JPA path that shares this database.
+ */
+@Configuration
+public class ReactiveOrderConfig {
+
+    private final ConnectionPool connectionPool;
+
+    public ReactiveOrderConfig(@Value("${spring.r2dbc.url:r2dbc:h2:mem:///order-db}") String url,
+                               @Value("${spring.r2dbc.username:${spring.datasource.username:sa}}") String username,
+                               @Value("${spring.r2dbc.password:${spring.datasource.password:}}") String password,
+                               @Value("${spring.r2dbc.pool.max-size:10}") int maxSize) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .maxSize(maxSize)
+                .build());
+    }
+
+    @Bean
+    public DatabaseClient reactiveDatabaseClient() {
+        return DatabaseClient.create(connectionPool);
+    }
+
+    @Bean
+    public TransactionalOperator reactiveTransactionalOperator() {
+        return TransactionalOperator.create(new R2dbcTransactionManager(connectionPool));
+    }
+
+    @PreDestroy
+    public void close() {
+        connectionPool.dispose();
+    }
+}
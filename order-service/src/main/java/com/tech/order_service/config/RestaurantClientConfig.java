@@ -0,0 +1,25 @@
+package com.tech.order_service.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+/**
+ * HTTP client for restaurant-service, resolved through discovery.
+ */
+@Configuration
+public class RestaurantClientConfig {
+
+    @Bean
+    @LoadBalanced
+    public RestClient.Builder restaurantRestClientBuilder(@Value("${order.pricing.restaurant-service-uri:http://restaurant-service}") String baseUri,
+                                                          @Value("${order.pricing.timeout-ms:2000}") int timeoutMs) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(timeoutMs);
+        requestFactory.setReadTimeout(timeoutMs);
+        return RestClient.builder().baseUrl(baseUri).requestFactory(requestFactory);
+    }
+}
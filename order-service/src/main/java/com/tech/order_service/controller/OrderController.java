@@ -1,84 +1,125 @@
 package com.tech.order_service.controller;
 
-import com.tech.order_service.entity.Order;
-import com.tech.order_service.entity.OrderItem;
-import com.tech.order_service.event.OrderPlacedEvent;
-import com.tech.order_service.event.OrderItemEvent;
-import com.tech.order_service.repository.OrderRepository;
-import com.tech.order_service.service.OrderEventProducer;
+import com.tech.order_service.dto.OrderRequest;
+import com.tech.order_service.dto.OrderResponse;
+import com.tech.order_service.dto.OrderSearchCriteria;
+import com.tech.order_service.dto.OrderStatusUpdate;
+import com.tech.order_service.dto.OrderSummary;
+import com.tech.order_service.dto.PageResponse;
+import com.tech.order_service.entity.OrderStatus;
+import com.tech.order_service.idempotency.IdempotencyService;
+import com.tech.order_service.service.OrderService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/v1/orders")
 public class OrderController {
 
     @Autowired
-    private OrderRepository orderRepository;
+    private OrderService orderService;
 
     @Autowired
-    private OrderEventProducer orderEventProducer;
+    private IdempotencyService idempotencyService;
 
+    @Value("${order.batch.max-size:5000}")
+    private int maxBatchSize;
+
+    /**
+     * Creates an order. With an {@code Idempotency-Key} header, a retry of the
+     * same request returns the original response instead of placing the order
+     * again; see {@link IdempotencyService}.
+     */
     @PostMapping
-    public Order createOrder(@RequestBody Order order) {
-        order.setOrderDate(LocalDateTime.now());
-        for (OrderItem item : order.getOrderItems()) {
-            item.setOrder(order);
+    public ResponseEntity<OrderResponse> createOrder(@RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey,
+                                                     @RequestBody OrderRequest order) {
+        if (idempotencyKey == null) {
+            return ResponseEntity.ok(orderService.createOrder(order));
         }
-        Order savedOrder = orderRepository.save(order);
-
-        List<OrderItemEvent> orderItemEvents = savedOrder.getOrderItems().stream()
-                .map(item -> new OrderItemEvent(item.getProductId(), item.getQuantity(), item.getPrice()))
-                .collect(Collectors.toList());
-
-        OrderPlacedEvent orderPlacedEvent = new OrderPlacedEvent(
-                savedOrder.getId(),
-                savedOrder.getCustomerId(),
-                savedOrder.getRestaurantId(),
-                savedOrder.getTotalAmount(),
-                savedOrder.getOrderDate(),
-                orderItemEvents
-        );
-        orderEventProducer.sendOrderPlacedEvent(orderPlacedEvent);
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > 255) {
+            return ResponseEntity.badRequest().build();
+        }
+        IdempotencyService.Result<OrderResponse> result = idempotencyService.execute(
+                idempotencyKey, order, OrderResponse.class, () -> orderService.createOrder(order));
+        return switch (result.outcome()) {
+            case EXECUTED -> ResponseEntity.ok(result.response());
+            case REPLAYED -> ResponseEntity.ok().header("Idempotent-Replayed", "true").body(result.response());
+            case IN_PROGRESS -> ResponseEntity.status(HttpStatus.CONFLICT).build();
+            case KEY_REUSED -> ResponseEntity.unprocessableEntity().build();
+        };
+    }
 
-        return savedOrder;
+    /**
+     * Imports many orders in one transaction, e.g. a partner's backlog. Returns
+     * the new order ids in request order; if any order fails, none are saved.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<Long>> createOrders(@RequestBody List<OrderRequest> orders) {
+        if (orders.size() > maxBatchSize) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        }
+        return ResponseEntity.ok(orderService.createOrders(orders));
     }
 
+    /**
+     * Lists orders newest first, filtered by any combination of customer,
+     * restaurant, status and an order date range ({@code from} inclusive,
+     * {@code to} exclusive). Items are left out unless {@code includeItems=true}.
+     */
     @GetMapping
-    public List<Order> getAllOrders() {
-        return orderRepository.findAll();
+    public PageResponse<OrderSummary> getOrders(@RequestParam(required = false) Long customerId,
+                                                @RequestParam(required = false) Long restaurantId,
+                                                @RequestParam(required = false) OrderStatus status,
+                                                @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                                @RequestParam(defaultValue = "false") boolean includeItems,
+                                                @PageableDefault(size = 20, sort = "orderDate", direction = Sort.Direction.DESC) Pageable pageable) {
+        OrderSearchCriteria criteria = new OrderSearchCriteria(customerId, restaurantId, status, from, to);
+        return PageResponse.of(orderService.findOrders(criteria, pageable, includeItems));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Order> getOrderById(@PathVariable Long id) {
-        return orderRepository.findById(id)
+    public ResponseEntity<OrderResponse> getOrderById(@PathVariable Long id) {
+        return orderService.findOrder(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<Order> updateOrder(@PathVariable Long id, @RequestBody Order orderDetails) {
-        return orderRepository.findById(id)
-                .map(order -> {
-                    order.setCustomerId(orderDetails.getCustomerId());
-                    order.setRestaurantId(orderDetails.getRestaurantId());
-                    order.setTotalAmount(orderDetails.getTotalAmount());
-                    order.setStatus(orderDetails.getStatus());
-                    return ResponseEntity.ok(orderRepository.save(order));
-                }).orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<OrderResponse> updateOrder(@PathVariable Long id, @RequestBody OrderRequest orderDetails) {
+        return orderService.updateOrder(id, orderDetails)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Moves the order one step through its lifecycle. Returns 409 if the
+     * transition is not allowed or the order changed since {@code version}.
+     */
+    @PatchMapping("/{id}/status")
+    public ResponseEntity<OrderResponse> changeStatus(@PathVariable Long id, @RequestBody OrderStatusUpdate update) {
+        if (update.status() == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        return orderService.changeStatus(id, update.status(), update.version())
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteOrder(@PathVariable Long id) {
-        return orderRepository.findById(id)
-                .map(order -> {
-                    orderRepository.delete(order);
-                    return ResponseEntity.ok().<Void>build();
-                }).orElse(ResponseEntity.notFound().build());
+        return orderService.deleteOrder(id)
+                ? ResponseEntity.ok().build()
+                : ResponseEntity.notFound().build();
     }
 }
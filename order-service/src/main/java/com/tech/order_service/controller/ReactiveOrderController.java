@@ -0,0 +1,36 @@
+package com.tech.order_service.controller;
+
+import com.tech.order_service.dto.OrderRequest;
+import com.tech.order_service.dto.OrderResponse;
+import com.tech.order_service.service.ReactiveOrderService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive variants of order creation and lookup. The request thread is
+ * released while the database work completes, so many concurrent
+ * submissions can share a small Tomcat pool.
+ */
+@RestController
+@RequestMapping("/api/v1/orders/reactive")
+public class ReactiveOrderController {
+
+    private final ReactiveOrderService reactiveOrderService;
+
+    public ReactiveOrderController(ReactiveOrderService reactiveOrderService) {
+        this.reactiveOrderService = reactiveOrderService;
+    }
+
+    @PostMapping
+    public Mono<OrderResponse> createOrder(@RequestBody OrderRequest order) {
+        return reactiveOrderService.createOrder(order);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<OrderResponse>> getOrderById(@PathVariable Long id) {
+        return reactiveOrderService.getOrder(id)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,4 @@
+package com.tech.order_service.dto;
+
+public record OrderItemRequest(Long productId, Integer quantity) {
+}
@@ -0,0 +1,11 @@
+package com.tech.order_service.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.math.BigDecimal;
+
+/**
+ * @param orderId the owning order, used to group items loaded for several orders at once
+ */
+public record OrderItemResponse(@JsonIgnore Long orderId, Long id, Long productId, Integer quantity, BigDecimal price) {
+}
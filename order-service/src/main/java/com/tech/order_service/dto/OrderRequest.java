@@ -0,0 +1,11 @@
+package com.tech.order_service.dto;
+
+import java.util.List;
+
+/**
+ * Body of the order create, update and bulk import endpoints. Ids, prices,
+ * the total and the order date are assigned by the service. New orders always
+ * start as {@code PLACED}; status changes go through the status endpoint.
+ */
+public record OrderRequest(Long customerId, Long restaurantId, List<OrderItemRequest> orderItems) {
+}
@@ -0,0 +1,16 @@
+package com.tech.order_service.dto;
+
+import com.tech.order_service.entity.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * An order with its items, as returned by the single-order endpoints.
+ * {@code version} is what a status change must name to guard against a
+ * concurrent change.
+ */
+public record OrderResponse(Long id, Long customerId, Long restaurantId, BigDecimal totalAmount, OrderStatus status,
+                            Long version, LocalDateTime orderDate, List<OrderItemResponse> orderItems) {
+}
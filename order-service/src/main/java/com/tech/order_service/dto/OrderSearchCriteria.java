@@ -0,0 +1,13 @@
+package com.tech.order_service.dto;
+
+import com.tech.order_service.entity.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Optional filters for listing orders; null fields are ignored. The date
+ * range is half-open: {@code from} inclusive, {@code to} exclusive.
+ */
+public record OrderSearchCriteria(Long customerId, Long restaurantId, OrderStatus status,
+                                  LocalDateTime from, LocalDateTime to) {
+}
@@ -0,0 +1,12 @@
+package com.tech.order_service.dto;
+
+import com.tech.order_service.entity.OrderStatus;
+
+/**
+ * Body of {@code PATCH /api/v1/orders/{id}/status}.
+ *
+ * @param version the order version the client last saw; optional, but without
+ *                it a change made in between is not detected
+ */
+public record OrderStatusUpdate(OrderStatus status, Long version) {
+}
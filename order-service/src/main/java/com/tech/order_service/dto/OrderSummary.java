@@ -0,0 +1,27 @@
+package com.tech.order_service.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.tech.order_service.entity.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * An order as listed by {@code GET /api/v1/orders}. Items are only present
+ * when the caller asked for them.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record OrderSummary(Long id, Long customerId, Long restaurantId, BigDecimal totalAmount, OrderStatus status,
+                           LocalDateTime orderDate, List<OrderItemResponse> orderItems) {
+
+    // Used by the JPQL constructor projection, which never touches order_items.
+    public OrderSummary(Long id, Long customerId, Long restaurantId, BigDecimal totalAmount, OrderStatus status,
+                        LocalDateTime orderDate) {
+        this(id, customerId, restaurantId, totalAmount, status, orderDate, null);
+    }
+
+    public OrderSummary withItems(List<OrderItemResponse> items) {
+        return new OrderSummary(id, customerId, restaurantId, totalAmount, status, orderDate, items);
+    }
+}
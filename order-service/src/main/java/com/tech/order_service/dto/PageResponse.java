@@ -0,0 +1,17 @@
+package com.tech.order_service.dto;
+
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/**
+ * One page of a listing, with a stable JSON shape regardless of the
+ * {@link Page} implementation behind it.
+ */
+public record PageResponse<T>(List<T> items, int page, int size, long totalElements, int totalPages) {
+
+    public static <T> PageResponse<T> of(Page<T> page) {
+        return new PageResponse<>(page.getContent(), page.getNumber(), page.getSize(),
+                page.getTotalElements(), page.getTotalPages());
+    }
+}
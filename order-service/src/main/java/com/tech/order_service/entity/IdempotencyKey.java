@@ -0,0 +1,64 @@
+package com.tech.order_service.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * A used {@code Idempotency-Key} and the response it produced, for the
+ * JPA-backed idempotency store.
+ */
+@Entity
+@Table(name = "idempotency_keys", indexes = {
+    @Index(name = "idx_idempotency_keys_expires", columnList = "expiresAt")
+})
+public class IdempotencyKey {
+
+    @Id
+    @Column(name = "idempotency_key", length = 255)
+    private String key;
+
+    @Column(nullable = false, length = 64)
+    private String requestHash;
+
+    @Column(length = 65535)
+    private String response;
+
+    @Column(nullable = false)
+    private long expiresAt;
+
+    public IdempotencyKey() {
+    }
+
+    public IdempotencyKey(String key, String requestHash, long expiresAt) {
+        this.key = key;
+        this.requestHash = requestHash;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getRequestHash() {
+        return requestHash;
+    }
+
+    public void setRequestHash(String requestHash) {
+        this.requestHash = requestHash;
+    }
+
+    public String getResponse() {
+        return response;
+    }
+
+    public void setResponse(String response) {
+        this.response = response;
+    }
+
+    public long getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(long expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
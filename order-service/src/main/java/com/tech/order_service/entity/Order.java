@@ -8,19 +8,32 @@ import java.util.List;
 import java.util.Objects;
 
 @Entity
-@Table(name = "orders", uniqueConstraints = {
-    @UniqueConstraint(columnNames = {"customerId", "restaurantId", "totalAmount"})
+@Table(name = "orders", indexes = {
+    // Each listing filter is usually combined with a date range and sorted by date.
+    @Index(name = "idx_orders_customer_date", columnList = "customerId, orderDate"),
+    @Index(name = "idx_orders_restaurant_date", columnList = "restaurantId, orderDate"),
+    @Index(name = "idx_orders_status_date", columnList = "status, orderDate"),
+    @Index(name = "idx_orders_date", columnList = "orderDate")
 })
 public class Order {
 
+    // Pooled sequence ids are assigned before the INSERT runs, so Hibernate can batch the inserts.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = 50)
     private Long id;
 
     private Long customerId;
     private Long restaurantId;
     private BigDecimal totalAmount;
-    private String status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16)
+    private OrderStatus status;
+
+    // Checked on every update, so concurrent status changes cannot silently overwrite each other.
+    @Version
+    private Long version;
 
     @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.LAZY, mappedBy = "order")
     private List<OrderItem> orderItems;
@@ -30,7 +43,7 @@ public class Order {
     public Order() {
     }
 
-    public Order(Long id, Long customerId, Long restaurantId, BigDecimal totalAmount, String status, List<OrderItem> orderItems, LocalDateTime orderDate) {
+    public Order(Long id, Long customerId, Long restaurantId, BigDecimal totalAmount, OrderStatus status, List<OrderItem> orderItems, LocalDateTime orderDate) {
         this.id = id;
         this.customerId = customerId;
         this.restaurantId = restaurantId;
@@ -72,14 +85,22 @@ public class Order {
         this.totalAmount = totalAmount;
     }
 
-    public String getStatus() {
+    public OrderStatus getStatus() {
         return status;
     }
 
-    public void setStatus(String status) {
+    public void setStatus(OrderStatus status) {
         this.status = status;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public List<OrderItem> getOrderItems() {
         return orderItems;
     }
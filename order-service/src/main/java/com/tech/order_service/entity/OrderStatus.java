@@ -0,0 +1,36 @@
+package com.tech.order_service.entity;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Lifecycle of an order. An order moves forward one step at a time until it
+ * is {@link #DELIVERED}, and can be {@link #CANCELLED} at any point before that.
+ */
+public enum OrderStatus {
+    PLACED,
+    ACCEPTED,
+    PREPARING,
+    READY,
+    DELIVERED,
+    CANCELLED;
+
+    private Set<OrderStatus> next;
+
+    static {
+        PLACED.next = EnumSet.of(ACCEPTED, CANCELLED);
+        ACCEPTED.next = EnumSet.of(PREPARING, CANCELLED);
+        PREPARING.next = EnumSet.of(READY, CANCELLED);
+        READY.next = EnumSet.of(DELIVERED, CANCELLED);
+        DELIVERED.next = EnumSet.noneOf(OrderStatus.class);
+        CANCELLED.next = EnumSet.noneOf(OrderStatus.class);
+    }
+
+    public boolean canTransitionTo(OrderStatus target) {
+        return next.contains(target);
+    }
+
+    public boolean isFinal() {
+        return next.isEmpty();
+    }
+}
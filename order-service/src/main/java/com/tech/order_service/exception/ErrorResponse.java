@@ -0,0 +1,8 @@
+package com.tech.order_service.exception;
+
+import org.springframework.http.HttpStatus;
+
+import java.time.LocalDateTime;
+
+public record ErrorResponse(LocalDateTime timestamp, HttpStatus status, String message, String path) {
+}
@@ -0,0 +1,54 @@
+package com.tech.order_service.exception;
+
+import com.tech.order_service.pricing.PriceLookupException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+
+@ControllerAdvice
+public class GlobalExceptionHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
+    @ExceptionHandler(InvalidStatusTransitionException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidStatusTransition(InvalidStatusTransitionException ex, WebRequest request) {
+        logger.warn("Rejected status change: {}", ex.getMessage());
+        return error(HttpStatus.CONFLICT, ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(InvalidOrderException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidOrder(InvalidOrderException ex, WebRequest request) {
+        logger.warn("Rejected order: {}", ex.getMessage());
+        return error(HttpStatus.UNPROCESSABLE_ENTITY, ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(InvalidSortException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidSort(InvalidSortException ex, WebRequest request) {
+        logger.warn("Rejected listing: {}", ex.getMessage());
+        return error(HttpStatus.BAD_REQUEST, ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(PriceLookupException.class)
+    public ResponseEntity<ErrorResponse> handlePriceLookupFailure(PriceLookupException ex, WebRequest request) {
+        logger.error("Price lookup failed: {}", ex.getMessage(), ex);
+        return error(HttpStatus.SERVICE_UNAVAILABLE, "Prices are temporarily unavailable; retry later", request);
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(ObjectOptimisticLockingFailureException ex, WebRequest request) {
+        logger.warn("Concurrent modification of {} {}", ex.getPersistentClassName(), ex.getIdentifier());
+        return error(HttpStatus.CONFLICT, "The order was modified concurrently; reload it and retry", request);
+    }
+
+    private static ResponseEntity<ErrorResponse> error(HttpStatus status, String message, WebRequest request) {
+        ErrorResponse errorResponse = new ErrorResponse(LocalDateTime.now(), status, message, request.getDescription(false));
+        return new ResponseEntity<>(errorResponse, status);
+    }
+}
@@ -0,0 +1,8 @@
+package com.tech.order_service.exception;
+
+public class InvalidOrderException extends RuntimeException {
+
+    public InvalidOrderException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.tech.order_service.exception;
+
+public class InvalidSortException extends RuntimeException {
+
+    public InvalidSortException(String message) {
+        super(message);
+    }
+}
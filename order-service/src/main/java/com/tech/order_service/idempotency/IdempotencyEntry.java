@@ -0,0 +1,15 @@
+package com.tech.order_service.idempotency;
+
+/**
+ * The stored state of one idempotency key.
+ *
+ * @param requestHash SHA-256 of the request body the key was first used with
+ * @param response    the serialized response, or null while the first request is still running
+ * @param expiresAt   epoch millis after which the key may be reused
+ */
+public record IdempotencyEntry(String requestHash, String response, long expiresAt) {
+
+    public boolean completed() {
+        return response != null;
+    }
+}
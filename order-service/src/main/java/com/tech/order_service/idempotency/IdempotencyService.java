@@ -0,0 +1,115 @@
+package com.tech.order_service.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Runs a request at most once per {@code Idempotency-Key}.
+ * <p>
+ * The first request with a key reserves it, runs, and stores its response.
+ * A retry with the same key and body gets that response back without running
+ * again. A retry that arrives while the first request is still running is
+ * turned away rather than run a second time. If the first request fails, the
+ * key is released so the client can retry.
+ * <p>
+ * If the process dies after the action committed but before the response was
+ * stored, the key stays reserved until it expires. Retries are then refused,
+ * which is safer than creating a duplicate.
+ */
+@Service
+public class IdempotencyService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IdempotencyService.class);
+
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+    private final long ttlMillis;
+
+    public IdempotencyService(IdempotencyStore idempotencyStore, ObjectMapper objectMapper,
+                              @Value("${order.idempotency.ttl-seconds:86400}") long ttlSeconds) {
+        this.idempotencyStore = idempotencyStore;
+        this.objectMapper = objectMapper;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    public <T> Result<T> execute(String key, Object request, Class<T> responseType, Supplier<T> action) {
+        String requestHash = hash(request);
+        Optional<IdempotencyEntry> existing = idempotencyStore.reserve(key, requestHash, System.currentTimeMillis() + ttlMillis);
+        if (existing.isPresent()) {
+            IdempotencyEntry entry = existing.get();
+            if (!entry.requestHash().equals(requestHash)) {
+                return new Result<>(Outcome.KEY_REUSED, null);
+            }
+            if (!entry.completed()) {
+                return new Result<>(Outcome.IN_PROGRESS, null);
+            }
+            return new Result<>(Outcome.REPLAYED, read(entry.response(), responseType));
+        }
+
+        T response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            idempotencyStore.release(key);
+            throw e;
+        }
+        idempotencyStore.complete(key, write(response));
+        return new Result<>(Outcome.EXECUTED, response);
+    }
+
+    @Scheduled(fixedDelayString = "${order.idempotency.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        idempotencyStore.purgeExpired(System.currentTimeMillis());
+    }
+
+    private String hash(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Could not hash request for idempotency check", e);
+        }
+    }
+
+    private String write(Object response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize response for idempotency key", e);
+        }
+    }
+
+    private <T> T read(String response, Class<T> responseType) {
+        try {
+            return objectMapper.readValue(response, responseType);
+        } catch (JsonProcessingException e) {
+            LOGGER.error("Stored idempotent response could not be read as {}", responseType.getSimpleName(), e);
+            throw new IllegalStateException("Could not read stored idempotent response", e);
+        }
+    }
+
+    public enum Outcome {
+        /** The action ran for this request. */
+        EXECUTED,
+        /** The action already ran for this key; the stored response is returned. */
+        REPLAYED,
+        /** The first request with this key has not finished yet. */
+        IN_PROGRESS,
+        /** The key was already used with a different request body. */
+        KEY_REUSED
+    }
+
+    public record Result<T>(Outcome outcome, T response) {
+    }
+}
@@ -0,0 +1,34 @@
+package com.tech.order_service.idempotency;
+
+import java.util.Optional;
+
+/**
+ * Remembers which idempotency keys have been used and the response each one
+ * produced. Expired entries behave as if they were absent.
+ * <p>
+ * {@link InMemoryIdempotencyStore} is the default. Set
+ * {@code order.idempotency.store=jpa} to use {@link JpaIdempotencyStore}, which
+ * keeps keys in the database: they survive restarts when the database does,
+ * and are shared between instances when instances share a database.
+ */
+public interface IdempotencyStore {
+
+    /**
+     * Atomically claims {@code key} if it is unused or expired.
+     *
+     * @return empty if the caller now owns the key, otherwise the entry that already holds it
+     */
+    Optional<IdempotencyEntry> reserve(String key, String requestHash, long expiresAt);
+
+    /**
+     * Records the response for a key reserved by the caller.
+     */
+    void complete(String key, String response);
+
+    /**
+     * Frees a reserved key whose request failed, so the client can retry it.
+     */
+    void release(String key);
+
+    void purgeExpired(long now);
+}
@@ -0,0 +1,69 @@
+package com.tech.order_service.idempotency;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Idempotency keys held in this instance's memory. Keys are lost on restart
+ * and not shared between instances.
+ * <p>
+ * Every key gets the same TTL, so insertion order is expiry order. Once
+ * {@code maxEntries} is reached the oldest key is dropped, which is the one
+ * that would have expired next.
+ */
+@Component
+@ConditionalOnProperty(name = "order.idempotency.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final Map<String, IdempotencyEntry> entries;
+
+    public InMemoryIdempotencyStore(@Value("${order.idempotency.max-entries:100000}") int maxEntries) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, IdempotencyEntry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public Optional<IdempotencyEntry> reserve(String key, String requestHash, long expiresAt) {
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            IdempotencyEntry existing = entries.get(key);
+            if (existing != null && now < existing.expiresAt()) {
+                return Optional.of(existing);
+            }
+            // Remove first so a reused key moves to the end of the expiry order.
+            entries.remove(key);
+            entries.put(key, new IdempotencyEntry(requestHash, null, expiresAt));
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void complete(String key, String response) {
+        synchronized (entries) {
+            entries.computeIfPresent(key, (k, entry) -> new IdempotencyEntry(entry.requestHash(), response, entry.expiresAt()));
+        }
+    }
+
+    @Override
+    public void release(String key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    @Override
+    public void purgeExpired(long now) {
+        synchronized (entries) {
+            entries.values().removeIf(entry -> entry.expiresAt() <= now);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.tech.order_service.idempotency;
+
+import com.tech.order_service.entity.IdempotencyKey;
+import com.tech.order_service.repository.IdempotencyKeyRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+/**
+ * Idempotency keys in the {@code idempotency_keys} table, seen by every
+ * instance when instances share a database. Each call runs in its own short
+ * transaction.
+ * The primary key on the idempotency key decides which of two concurrent
+ * first requests wins.
+ */
+@Component
+@ConditionalOnProperty(name = "order.idempotency.store", havingValue = "jpa")
+public class JpaIdempotencyStore implements IdempotencyStore {
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public JpaIdempotencyStore(IdempotencyKeyRepository idempotencyKeyRepository, TransactionTemplate transactionTemplate) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public Optional<IdempotencyEntry> reserve(String key, String requestHash, long expiresAt) {
+        long now = System.currentTimeMillis();
+        try {
+            return transactionTemplate.execute(status -> {
+                IdempotencyKey existing = idempotencyKeyRepository.findForUpdate(key).orElse(null);
+                if (existing == null) {
+                    idempotencyKeyRepository.saveAndFlush(new IdempotencyKey(key, requestHash, expiresAt));
+                    return Optional.<IdempotencyEntry>empty();
+                }
+                if (now < existing.getExpiresAt()) {
+                    return Optional.of(toEntry(existing));
+                }
+                existing.setRequestHash(requestHash);
+                existing.setResponse(null);
+                existing.setExpiresAt(expiresAt);
+                return Optional.<IdempotencyEntry>empty();
+            });
+        } catch (DataIntegrityViolationException e) {
+            // Another request inserted the same key between our lookup and insert.
+            return idempotencyKeyRepository.findById(key).map(JpaIdempotencyStore::toEntry);
+        }
+    }
+
+    @Override
+    public void complete(String key, String response) {
+        transactionTemplate.executeWithoutResult(status ->
+                idempotencyKeyRepository.findById(key).ifPresent(entity -> entity.setResponse(response)));
+    }
+
+    @Override
+    public void release(String key) {
+        transactionTemplate.executeWithoutResult(status -> idempotencyKeyRepository.deleteById(key));
+    }
+
+    @Override
+    public void purgeExpired(long now) {
+        transactionTemplate.executeWithoutResult(status -> idempotencyKeyRepository.deleteExpired(now));
+    }
+
+    private static IdempotencyEntry toEntry(IdempotencyKey entity) {
+        return new IdempotencyEntry(entity.getRequestHash(), entity.getResponse(), entity.getExpiresAt());
+    }
+}
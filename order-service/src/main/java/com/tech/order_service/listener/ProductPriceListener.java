@@ -0,0 +1,46 @@
+package com.tech.order_service.listener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tech.order_service.pricing.ProductPriceCache;
+import com.tech.shared_events.event.ProductPriceChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies menu price changes from restaurant-service to the local price cache.
+ * Each instance joins its own consumer group so every replica sees every
+ * change; older changes are covered by the cache loading menus on demand.
+ */
+@Component
+public class ProductPriceListener {
+
+    public static final String TOPIC = "product-price-events";
+    private static final Logger logger = LoggerFactory.getLogger(ProductPriceListener.class);
+
+    private final ProductPriceCache productPriceCache;
+    private final ObjectMapper objectMapper;
+
+    public ProductPriceListener(ProductPriceCache productPriceCache, ObjectMapper objectMapper) {
+        this.productPriceCache = productPriceCache;
+        this.objectMapper = objectMapper;
+    }
+
+    @KafkaListener(topics = TOPIC,
+            groupId = "order-price-cache-#{T(java.util.UUID).randomUUID()}",
+            properties = {
+                    "value.deserializer=org.apache.kafka.common.serialization.StringDeserializer",
+                    "auto.offset.reset=latest"
+            })
+    public void handlePriceChange(String payload) {
+        try {
+            ProductPriceChangedEvent event = objectMapper.readValue(payload, ProductPriceChangedEvent.class);
+            productPriceCache.apply(event);
+            logger.debug("Applied price change for product ID {}", event.productId());
+        } catch (JsonProcessingException e) {
+            logger.error("Discarding unreadable price change {}", payload, e);
+        }
+    }
+}
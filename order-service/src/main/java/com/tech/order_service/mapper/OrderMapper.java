@@ -0,0 +1,60 @@
+package com.tech.order_service.mapper;
+
+import com.tech.order_service.dto.OrderItemRequest;
+import com.tech.order_service.dto.OrderItemResponse;
+import com.tech.order_service.dto.OrderRequest;
+import com.tech.order_service.dto.OrderResponse;
+import com.tech.order_service.entity.Order;
+import com.tech.order_service.entity.OrderItem;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Mappings between order entities and their DTOs. Lists are sized up front
+ * and filled with plain loops, so a response costs one allocation per object
+ * it contains and nothing more.
+ */
+@Component
+public class OrderMapper {
+
+    /**
+     * Expects the order's items to be loaded already (see
+     * {@code OrderRepository#findWithItemsById}); reading a lazy collection
+     * here would issue a query per order.
+     */
+    public OrderResponse toResponse(Order order) {
+        return new OrderResponse(order.getId(), order.getCustomerId(), order.getRestaurantId(),
+                order.getTotalAmount(), order.getStatus(), order.getVersion(), order.getOrderDate(),
+                toItemResponses(order.getId(), order.getOrderItems()));
+    }
+
+    public List<OrderItemResponse> toItemResponses(Long orderId, List<OrderItem> items) {
+        if (items == null) {
+            return List.of();
+        }
+        List<OrderItemResponse> responses = new ArrayList<>(items.size());
+        for (OrderItem item : items) {
+            responses.add(new OrderItemResponse(orderId, item.getId(), item.getProductId(), item.getQuantity(), item.getPrice()));
+        }
+        return responses;
+    }
+
+    /**
+     * A new, unsaved order with each item linked back to it.
+     */
+    public Order toEntity(OrderRequest request) {
+        Order order = new Order();
+        order.setCustomerId(request.customerId());
+        order.setRestaurantId(request.restaurantId());
+
+        List<OrderItemRequest> itemRequests = request.orderItems() == null ? List.of() : request.orderItems();
+        List<OrderItem> items = new ArrayList<>(itemRequests.size());
+        for (OrderItemRequest itemRequest : itemRequests) {
+            items.add(new OrderItem(null, itemRequest.productId(), itemRequest.quantity(), null, order));
+        }
+        order.setOrderItems(items);
+        return order;
+    }
+}
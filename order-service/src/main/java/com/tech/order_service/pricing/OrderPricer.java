@@ -0,0 +1,60 @@
+package com.tech.order_service.pricing;
+
+import com.tech.order_service.entity.Order;
+import com.tech.order_service.entity.OrderItem;
+import com.tech.order_service.exception.InvalidOrderException;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sets each item's price and the order total from restaurant-service's
+ * prices. Client-supplied amounts are never used.
+ */
+@Component
+public class OrderPricer {
+
+    private final ProductPriceCache productPriceCache;
+
+    public OrderPricer(ProductPriceCache productPriceCache) {
+        this.productPriceCache = productPriceCache;
+    }
+
+    /**
+     * @throws InvalidOrderException if an item has no product, a quantity below one,
+     *                               or a product that is not on the restaurant's menu
+     * @throws PriceLookupException  if the restaurant's prices could not be loaded
+     */
+    public void price(Order order) {
+        if (order.getRestaurantId() == null) {
+            throw new InvalidOrderException("restaurantId is required");
+        }
+        List<OrderItem> items = order.getOrderItems() == null ? List.of() : order.getOrderItems();
+        List<Long> productIds = new ArrayList<>(items.size());
+        for (OrderItem item : items) {
+            if (item.getProductId() == null) {
+                throw new InvalidOrderException("Every order item needs a productId");
+            }
+            if (item.getQuantity() == null || item.getQuantity() < 1) {
+                throw new InvalidOrderException("Quantity of product " + item.getProductId() + " must be at least 1");
+            }
+            productIds.add(item.getProductId());
+        }
+
+        Map<Long, BigDecimal> prices = productPriceCache.pricesFor(order.getRestaurantId(), productIds);
+        BigDecimal total = BigDecimal.ZERO;
+        for (OrderItem item : items) {
+            BigDecimal price = prices.get(item.getProductId());
+            if (price == null) {
+                throw new InvalidOrderException("Product " + item.getProductId()
+                        + " is not on the menu of restaurant " + order.getRestaurantId());
+            }
+            item.setPrice(price);
+            total = total.add(price.multiply(BigDecimal.valueOf(item.getQuantity())));
+        }
+        order.setTotalAmount(total);
+    }
+}
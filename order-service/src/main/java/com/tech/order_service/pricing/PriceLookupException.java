@@ -0,0 +1,11 @@
+package com.tech.order_service.pricing;
+
+/**
+ * Prices could not be loaded from restaurant-service.
+ */
+public class PriceLookupException extends RuntimeException {
+
+    public PriceLookupException(Long restaurantId, Throwable cause) {
+        super("Could not load prices for restaurant " + restaurantId, cause);
+    }
+}
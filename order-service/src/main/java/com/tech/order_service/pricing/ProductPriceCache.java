@@ -0,0 +1,146 @@
+package com.tech.order_service.pricing;
+
+import com.tech.shared_events.event.ProductPriceChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Local copy of menu item prices, so pricing an order does not call
+ * restaurant-service.
+ * <p>
+ * A restaurant's menu is loaded in one request the first time one of its
+ * products is priced. After that, {@code product-price-events} keep it
+ * current. The menu is reloaded when it is older than {@code ttlMillis}, to
+ * recover from missed events, or when an order names a product the cache does
+ * not know. A product that is still unknown after a reload stays unknown until
+ * {@code minReloadIntervalMs} has passed, so bogus product ids cannot force a
+ * request each.
+ */
+@Component
+public class ProductPriceCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProductPriceCache.class);
+    private static final ParameterizedTypeReference<List<MenuItem>> MENU_TYPE = new ParameterizedTypeReference<>() {
+    };
+
+    private final RestClient restClient;
+    private final long ttlMillis;
+    private final long minReloadIntervalMs;
+    private final Map<Long, ProductPrice> prices = new ConcurrentHashMap<>();
+    private final Map<Long, Long> loadedAt = new ConcurrentHashMap<>();
+    // One lock per stripe of restaurants so concurrent orders trigger a single load.
+    private final Object[] loadLocks = new Object[64];
+
+    public ProductPriceCache(RestClient.Builder restaurantRestClientBuilder,
+                             @Value("${order.pricing.ttl-seconds:600}") long ttlSeconds,
+                             @Value("${order.pricing.min-reload-interval-ms:5000}") long minReloadIntervalMs) {
+        this.restClient = restaurantRestClientBuilder.build();
+        this.ttlMillis = ttlSeconds * 1000;
+        this.minReloadIntervalMs = minReloadIntervalMs;
+        for (int i = 0; i < loadLocks.length; i++) {
+            loadLocks[i] = new Object();
+        }
+    }
+
+    /**
+     * Current prices of {@code productIds} on {@code restaurantId}'s menu.
+     * Products that are not on that menu are left out of the result.
+     *
+     * @throws PriceLookupException if the menu had to be loaded and restaurant-service could not be reached
+     */
+    public Map<Long, BigDecimal> pricesFor(Long restaurantId, Collection<Long> productIds) {
+        if (needsLoad(restaurantId, productIds)) {
+            synchronized (loadLocks[Math.floorMod(restaurantId.hashCode(), loadLocks.length)]) {
+                if (needsLoad(restaurantId, productIds)) {
+                    load(restaurantId);
+                }
+            }
+        }
+        Map<Long, BigDecimal> result = new HashMap<>();
+        for (Long productId : productIds) {
+            ProductPrice price = prices.get(productId);
+            if (price != null && price.restaurantId().equals(restaurantId)) {
+                result.put(productId, price.price());
+            }
+        }
+        return result;
+    }
+
+    public void apply(ProductPriceChangedEvent event) {
+        if (event.productId() == null) {
+            return;
+        }
+        if (event.price() == null) {
+            prices.remove(event.productId());
+        } else {
+            prices.put(event.productId(), new ProductPrice(event.restaurantId(), event.price()));
+        }
+    }
+
+    private boolean needsLoad(Long restaurantId, Collection<Long> productIds) {
+        Long loaded = loadedAt.get(restaurantId);
+        long age = loaded == null ? Long.MAX_VALUE : System.currentTimeMillis() - loaded;
+        if (age >= ttlMillis) {
+            return true;
+        }
+        if (age < minReloadIntervalMs) {
+            return false;
+        }
+        for (Long productId : productIds) {
+            ProductPrice price = prices.get(productId);
+            if (price == null || !price.restaurantId().equals(restaurantId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void load(Long restaurantId) {
+        List<MenuItem> menu;
+        try {
+            menu = restClient.get()
+                    .uri("/api/v1/restaurants/{restaurantId}/menu", restaurantId)
+                    .retrieve()
+                    .body(MENU_TYPE);
+        } catch (HttpClientErrorException e) {
+            if (e.getStatusCode() != HttpStatus.NOT_FOUND) {
+                throw new PriceLookupException(restaurantId, e);
+            }
+            menu = List.of();
+        } catch (RestClientException e) {
+            throw new PriceLookupException(restaurantId, e);
+        }
+
+        prices.values().removeIf(price -> price.restaurantId().equals(restaurantId));
+        if (menu != null) {
+            for (MenuItem item : menu) {
+                if (item.id() != null && item.price() != null) {
+                    prices.put(item.id(), new ProductPrice(restaurantId, item.price()));
+                }
+            }
+        }
+        loadedAt.put(restaurantId, System.currentTimeMillis());
+        LOGGER.debug("Loaded {} prices for restaurant ID {}", menu == null ? 0 : menu.size(), restaurantId);
+    }
+
+    private record ProductPrice(Long restaurantId, BigDecimal price) {
+    }
+
+    // The fields of restaurant-service's ProductResponse that pricing needs.
+    private record MenuItem(Long id, BigDecimal price) {
+    }
+}
@@ -0,0 +1,24 @@
+package com.tech.order_service.repository;
+
+import com.tech.order_service.entity.IdempotencyKey;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, String> {
+
+    // Locked so two requests cannot both take over the same expired key.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select k from IdempotencyKey k where k.key = :key")
+    Optional<IdempotencyKey> findForUpdate(String key);
+
+    @Modifying
+    @Query("delete from IdempotencyKey k where k.expiresAt <= :now")
+    int deleteExpired(long now);
+}
@@ -1,9 +1,19 @@
 package com.tech.order_service.repository;
 
+import com.tech.order_service.dto.OrderItemResponse;
 import com.tech.order_service.entity.OrderItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
+
+    // Items for a whole page of orders in one statement, read through the order_id index.
+    @Query("select new com.tech.order_service.dto.OrderItemResponse(i.order.id, i.id, i.productId, i.quantity, i.price) "
+            + "from OrderItem i where i.order.id in :orderIds order by i.order.id, i.id")
+    List<OrderItemResponse> findResponsesByOrderIds(Collection<Long> orderIds);
 }
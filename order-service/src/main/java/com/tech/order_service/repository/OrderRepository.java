@@ -2,8 +2,15 @@ package com.tech.order_service.repository;
 
 import com.tech.order_service.entity.Order;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
-public interface OrderRepository extends JpaRepository<Order, Long> {
+public interface OrderRepository extends JpaRepository<Order, Long>, OrderRepositoryCustom {
+
+    // The order and its items in one select, instead of a second query when the items are first read.
+    @Query("select o from Order o left join fetch o.orderItems where o.id = :id")
+    Optional<Order> findWithItemsById(Long id);
 }
@@ -0,0 +1,14 @@
+package com.tech.order_service.repository;
+
+import com.tech.order_service.dto.OrderSearchCriteria;
+import com.tech.order_service.dto.OrderSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface OrderRepositoryCustom {
+
+    /**
+     * Orders matching every non-null criterion, projected without their items.
+     */
+    Page<OrderSummary> findSummaries(OrderSearchCriteria criteria, Pageable pageable);
+}
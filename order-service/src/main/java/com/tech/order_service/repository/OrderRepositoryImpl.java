@@ -0,0 +1,103 @@
+package com.tech.order_service.repository;
+
+import com.tech.order_service.dto.OrderSearchCriteria;
+import com.tech.order_service.dto.OrderSummary;
+import com.tech.order_service.entity.Order;
+import com.tech.order_service.exception.InvalidSortException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Builds the listing query from only the criteria that are present. Leaving
+ * absent filters out of the SQL, rather than writing {@code :param is null or ...},
+ * lets the database use the matching index on {@code orders}.
+ * <p>
+ * Only the listed {@link OrderSummary} fields can be sorted on, and
+ * {@code id DESC} is always appended so rows with equal sort values keep a
+ * stable order from page to page.
+ */
+class OrderRepositoryImpl implements OrderRepositoryCustom {
+
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("id", "customerId", "restaurantId", "totalAmount", "status", "orderDate");
+
+    private final EntityManager entityManager;
+
+    OrderRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Page<OrderSummary> findSummaries(OrderSearchCriteria criteria, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<OrderSummary> query = cb.createQuery(OrderSummary.class);
+        Root<Order> order = query.from(Order.class);
+        query.select(cb.construct(OrderSummary.class,
+                        order.get("id"), order.get("customerId"), order.get("restaurantId"),
+                        order.get("totalAmount"), order.get("status"), order.get("orderDate")))
+                .where(predicates(criteria, cb, order))
+                .orderBy(QueryUtils.toOrders(withTieBreaker(pageable.getSort()), order, cb));
+
+        List<OrderSummary> content = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        // Skips the count query when the first page already holds every match.
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(criteria));
+    }
+
+    /**
+     * @throws InvalidSortException if the sort names a property that is not sortable
+     */
+    private static Sort withTieBreaker(Sort sort) {
+        for (Sort.Order sortOrder : sort) {
+            if (!SORTABLE_PROPERTIES.contains(sortOrder.getProperty())) {
+                throw new InvalidSortException("Cannot sort orders by '" + sortOrder.getProperty()
+                        + "'; sortable properties are " + new TreeSet<>(SORTABLE_PROPERTIES));
+            }
+        }
+        return sort.getOrderFor("id") == null ? sort.and(Sort.by(Sort.Direction.DESC, "id")) : sort;
+    }
+
+    private long count(OrderSearchCriteria criteria) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Order> order = query.from(Order.class);
+        query.select(cb.count(order)).where(predicates(criteria, cb, order));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static Predicate[] predicates(OrderSearchCriteria criteria, CriteriaBuilder cb, Root<Order> order) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (criteria.customerId() != null) {
+            predicates.add(cb.equal(order.get("customerId"), criteria.customerId()));
+        }
+        if (criteria.restaurantId() != null) {
+            predicates.add(cb.equal(order.get("restaurantId"), criteria.restaurantId()));
+        }
+        if (criteria.status() != null) {
+            predicates.add(cb.equal(order.get("status"), criteria.status()));
+        }
+        if (criteria.from() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(order.get("orderDate"), criteria.from()));
+        }
+        if (criteria.to() != null) {
+            predicates.add(cb.lessThan(order.get("orderDate"), criteria.to()));
+        }
+        return predicates.toArray(new Predicate[0]);
+    }
+}
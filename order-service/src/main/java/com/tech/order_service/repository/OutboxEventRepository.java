@@ -0,0 +1,18 @@
+package com.tech.order_service.repository;
+
+import com.tech.order_service.entity.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // Row locks keep a second relay instance from publishing the same batch concurrently.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<OutboxEvent> findAllByOrderByIdAsc(Limit limit);
+}
@@ -0,0 +1,133 @@
+package com.tech.order_service.repository;
+
+import com.tech.order_service.entity.Order;
+import com.tech.order_service.entity.OrderItem;
+import com.tech.order_service.entity.OrderStatus;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * R2DBC access to the tables the JPA entities map, used by the reactive
+ * order endpoints. Column names follow Hibernate's snake_case naming.
+ * <p>
+ * Ids are drawn straight from the entity sequences. Hibernate's pooled
+ * optimizer only hands out ids from blocks ending at values it drew itself,
+ * so the two paths cannot collide.
+ */
+@Repository
+public class ReactiveOrderRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveOrderRepository(DatabaseClient reactiveDatabaseClient) {
+        this.databaseClient = reactiveDatabaseClient;
+    }
+
+    /**
+     * Inserts the order and its items, filling in the generated ids.
+     */
+    public Mono<Order> insert(Order order) {
+        GenericExecuteSpec insert = databaseClient.sql("INSERT INTO orders "
+                + "(id, customer_id, restaurant_id, total_amount, status, version, order_date) "
+                + "VALUES (NEXT VALUE FOR orders_seq, :customerId, :restaurantId, :totalAmount, :status, 0, :orderDate)");
+        insert = bind(insert, "customerId", order.getCustomerId(), Long.class);
+        insert = bind(insert, "restaurantId", order.getRestaurantId(), Long.class);
+        insert = bind(insert, "totalAmount", order.getTotalAmount(), BigDecimal.class);
+        insert = bind(insert, "status", order.getStatus() == null ? null : order.getStatus().name(), String.class);
+        insert = bind(insert, "orderDate", order.getOrderDate(), LocalDateTime.class);
+        return insert
+                .filter(statement -> statement.returnGeneratedValues("id"))
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .flatMap(id -> {
+                    order.setId(id);
+                    order.setVersion(0L);
+                    List<OrderItem> items = order.getOrderItems() == null ? List.of() : order.getOrderItems();
+                    return Flux.fromIterable(items)
+                            .concatMap(item -> insertItem(id, item))
+                            .then(Mono.just(order));
+                });
+    }
+
+    public Mono<Long> insertOutboxEvent(String topic, String eventKey, String payload, LocalDateTime createdAt) {
+        return databaseClient.sql("INSERT INTO outbox (id, topic, event_key, payload, created_at) "
+                        + "VALUES (NEXT VALUE FOR outbox_seq, :topic, :eventKey, :payload, :createdAt)")
+                .bind("topic", topic)
+                .bind("eventKey", eventKey)
+                .bind("payload", payload)
+                .bind("createdAt", createdAt)
+                .filter(statement -> statement.returnGeneratedValues("id"))
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    public Mono<Order> findById(Long id) {
+        Mono<Order> order = databaseClient.sql("SELECT id, customer_id, restaurant_id, total_amount, status, version, order_date "
+                        + "FROM orders WHERE id = :id")
+                .bind("id", id)
+                .map(ReactiveOrderRepository::toOrder)
+                .one();
+        Mono<List<OrderItem>> items = databaseClient.sql("SELECT id, product_id, quantity, price "
+                        + "FROM order_items WHERE order_id = :id ORDER BY id")
+                .bind("id", id)
+                .map(ReactiveOrderRepository::toItem)
+                .all()
+                .collectList();
+        return order.zipWith(items, (found, orderItems) -> {
+            found.setOrderItems(orderItems);
+            return found;
+        });
+    }
+
+    private Mono<OrderItem> insertItem(Long orderId, OrderItem item) {
+        GenericExecuteSpec insert = databaseClient.sql("INSERT INTO order_items (id, order_id, product_id, quantity, price) "
+                        + "VALUES (NEXT VALUE FOR order_items_seq, :orderId, :productId, :quantity, :price)")
+                .bind("orderId", orderId);
+        insert = bind(insert, "productId", item.getProductId(), Long.class);
+        insert = bind(insert, "quantity", item.getQuantity(), Integer.class);
+        insert = bind(insert, "price", item.getPrice(), BigDecimal.class);
+        return insert
+                .filter(statement -> statement.returnGeneratedValues("id"))
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .map(id -> {
+                    item.setId(id);
+                    return item;
+                });
+    }
+
+    private static GenericExecuteSpec bind(GenericExecuteSpec spec, String name, Object value, Class<?> type) {
+        return value == null ? spec.bindNull(name, type) : spec.bind(name, value);
+    }
+
+    private static Order toOrder(Readable row) {
+        String status = row.get("status", String.class);
+        Order order = new Order(
+                row.get("id", Long.class),
+                row.get("customer_id", Long.class),
+                row.get("restaurant_id", Long.class),
+                row.get("total_amount", BigDecimal.class),
+                status == null ? null : OrderStatus.valueOf(status),
+                null,
+                row.get("order_date", LocalDateTime.class));
+        order.setVersion(row.get("version", Long.class));
+        return order;
+    }
+
+    private static OrderItem toItem(Readable row) {
+        return new OrderItem(
+                row.get("id", Long.class),
+                row.get("product_id", Long.class),
+                row.get("quantity", Integer.class),
+                row.get("price", BigDecimal.class),
+                null);
+    }
+}
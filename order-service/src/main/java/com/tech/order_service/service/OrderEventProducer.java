@@ -1,29 +1,102 @@
 package com.tech.order_service.service;
 
-import com.tech.order_service.event.OrderPlacedEvent;
+import com.tech.shared_events.event.OrderPlacedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends {@link OrderPlacedEvent}s for the outbox relay without waiting for the
+ * broker.
+ * <p>
+ * Sends are asynchronous; batching and compression come from the
+ * {@code spring.kafka.producer.*} settings. At most {@code maxInFlight} sends
+ * may be unacknowledged at once. When that limit is reached, {@link #publish}
+ * waits up to {@code acquireTimeoutMs} and then fails the send. Retrying is
+ * left to the caller, which keeps its own durable copy of the event until the
+ * broker acknowledges it.
+ */
 @Service
 public class OrderEventProducer {
 
-    private static final String TOPIC = "order-placed-events";
+    public static final String TOPIC = "order-placed-events";
     private static final Logger LOGGER = LoggerFactory.getLogger(OrderEventProducer.class);
 
     private final KafkaTemplate<String, OrderPlacedEvent> kafkaTemplate;
+    private final Semaphore inFlight;
+    private final long acquireTimeoutMs;
+
+    private final Timer sendSuccess;
+    private final Timer sendFailure;
 
-    public OrderEventProducer(KafkaTemplate<String, OrderPlacedEvent> kafkaTemplate) {
+    public OrderEventProducer(KafkaTemplate<String, OrderPlacedEvent> kafkaTemplate,
+                              MeterRegistry meterRegistry,
+                              @Value("${order.events.max-in-flight:1000}") int maxInFlight,
+                              @Value("${order.events.acquire-timeout-ms:50}") long acquireTimeoutMs) {
         this.kafkaTemplate = kafkaTemplate;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+
+        this.sendSuccess = Timer.builder("order.events.send")
+                .description("Time from send to broker acknowledgement")
+                .tag("topic", TOPIC).tag("outcome", "success")
+                .register(meterRegistry);
+        this.sendFailure = Timer.builder("order.events.send")
+                .description("Time from send to broker acknowledgement")
+                .tag("topic", TOPIC).tag("outcome", "failure")
+                .register(meterRegistry);
+        Gauge.builder("order.events.in-flight", inFlight, permits -> maxInFlight - permits.availablePermits())
+                .description("Order events sent but not yet acknowledged")
+                .register(meterRegistry);
     }
 
-    public void sendOrderPlacedEvent(OrderPlacedEvent event) {
+    /**
+     * Sends one event under {@code key} and returns the broker
+     * acknowledgement. Counts against the in-flight limit and records send
+     * metrics.
+     */
+    public CompletableFuture<SendResult<String, OrderPlacedEvent>> publish(String key, OrderPlacedEvent event) {
+        try {
+            if (!inFlight.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                return CompletableFuture.failedFuture(new IllegalStateException(
+                        "Too many unacknowledged order events, deferring event for order ID " + event.orderId()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        }
+
+        long start = System.nanoTime();
         try {
-            kafkaTemplate.send(TOPIC, event.getOrderId().toString(), event);
-            LOGGER.info(String.format("Produced OrderPlacedEvent => %s", event));
+            return kafkaTemplate.send(TOPIC, key, event)
+                    .whenComplete((result, ex) -> {
+                        inFlight.release();
+                        (ex == null ? sendSuccess : sendFailure).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                        if (ex == null) {
+                            LOGGER.debug("Produced OrderPlacedEvent for order ID {} at offset {}",
+                                    event.orderId(), result.getRecordMetadata().offset());
+                        }
+                    });
         } catch (Exception e) {
-            LOGGER.error("Error sending OrderPlacedEvent to Kafka", e);
+            inFlight.release();
+            sendFailure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return CompletableFuture.failedFuture(e);
         }
     }
+
+    @PreDestroy
+    public void flush() {
+        kafkaTemplate.flush();
+    }
 }
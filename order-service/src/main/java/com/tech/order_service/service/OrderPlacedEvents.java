@@ -0,0 +1,47 @@
+package com.tech.order_service.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tech.order_service.entity.Order;
+import com.tech.order_service.entity.OrderItem;
+import com.tech.shared_events.event.OrderItemEvent;
+import com.tech.shared_events.event.OrderPlacedEvent;
+
+import java.util.List;
+
+/**
+ * Builds the {@link OrderPlacedEvent} for a saved order and its outbox payload,
+ * shared by the blocking and reactive order paths.
+ */
+public final class OrderPlacedEvents {
+
+    private OrderPlacedEvents() {
+    }
+
+    public static OrderPlacedEvent of(Order savedOrder) {
+        List<OrderItem> items = savedOrder.getOrderItems();
+        OrderItemEvent[] orderItemEvents = new OrderItemEvent[items.size()];
+        for (int i = 0; i < orderItemEvents.length; i++) {
+            OrderItem item = items.get(i);
+            orderItemEvents[i] = new OrderItemEvent(item.getProductId(), item.getQuantity(), item.getPrice());
+        }
+
+        // An immutable list is taken over by the event as it is, so the items are copied once.
+        return new OrderPlacedEvent(
+                savedOrder.getId(),
+                savedOrder.getCustomerId(),
+                savedOrder.getRestaurantId(),
+                savedOrder.getTotalAmount(),
+                savedOrder.getOrderDate(),
+                List.of(orderItemEvents)
+        );
+    }
+
+    static String toJson(ObjectMapper objectMapper, OrderPlacedEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize OrderPlacedEvent for order ID " + event.orderId(), e);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.tech.order_service.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tech.order_service.dto.OrderItemResponse;
+import com.tech.order_service.dto.OrderRequest;
+import com.tech.order_service.dto.OrderResponse;
+import com.tech.order_service.dto.OrderSearchCriteria;
+import com.tech.order_service.dto.OrderSummary;
+import com.tech.order_service.entity.Order;
+import com.tech.order_service.entity.OrderItem;
+import com.tech.order_service.entity.OrderStatus;
+import com.tech.order_service.entity.OutboxEvent;
+import com.tech.order_service.exception.InvalidStatusTransitionException;
+import com.tech.order_service.mapper.OrderMapper;
+import com.tech.order_service.pricing.OrderPricer;
+import com.tech.order_service.repository.OrderItemRepository;
+import com.tech.order_service.repository.OrderRepository;
+import com.tech.order_service.repository.OutboxEventRepository;
+import com.tech.shared_events.event.OrderPlacedEvent;
+import com.tech.shared_events.event.OrderStatusChangedEvent;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Service
+public class OrderService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OrderService.class);
+
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final OrderMapper orderMapper;
+    private final OrderPricer orderPricer;
+    private final EntityManager entityManager;
+    private final int flushSize;
+
+    public OrderService(OrderRepository orderRepository, OrderItemRepository orderItemRepository,
+                        OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper,
+                        OrderMapper orderMapper, OrderPricer orderPricer, EntityManager entityManager,
+                        @Value("${order.batch.flush-size:500}") int flushSize) {
+        this.orderRepository = orderRepository;
+        this.orderItemRepository = orderItemRepository;
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+        this.orderMapper = orderMapper;
+        this.orderPricer = orderPricer;
+        this.entityManager = entityManager;
+        this.flushSize = flushSize;
+    }
+
+    /**
+     * Saves the order and its {@link OrderPlacedEvent} outbox row in one
+     * transaction; {@link OutboxRelay} publishes the event afterwards.
+     */
+    @Transactional
+    public OrderResponse createOrder(OrderRequest request) {
+        Order savedOrder = persist(orderMapper.toEntity(request), LocalDateTime.now());
+        LOGGER.debug("Queued OrderPlacedEvent for order ID {} in the outbox", savedOrder.getId());
+        return orderMapper.toResponse(savedOrder);
+    }
+
+    /**
+     * Saves all orders and their outbox rows in one transaction, all or
+     * nothing. Inserts go out as JDBC batches ({@code hibernate.jdbc.batch_size}),
+     * and the persistence context is flushed and cleared every
+     * {@code flushSize} orders so large imports do not keep every entity in memory.
+     *
+     * @return the ids of the saved orders, in request order
+     */
+    @Transactional
+    public List<Long> createOrders(List<OrderRequest> requests) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = new ArrayList<>(requests.size());
+        for (OrderRequest request : requests) {
+            ids.add(persist(orderMapper.toEntity(request), now).getId());
+            if (ids.size() % flushSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        LOGGER.info("Queued {} OrderPlacedEvents in the outbox from a batch import", ids.size());
+        return ids;
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<OrderResponse> findOrder(Long id) {
+        return orderRepository.findWithItemsById(id).map(orderMapper::toResponse);
+    }
+
+    /**
+     * Replaces the order's customer and restaurant; its items, status and
+     * order date are kept. Moving the order to another restaurant re-prices
+     * its items from that restaurant's menu.
+     */
+    @Transactional
+    public Optional<OrderResponse> updateOrder(Long id, OrderRequest request) {
+        return orderRepository.findWithItemsById(id).map(order -> {
+            boolean restaurantChanged = !Objects.equals(order.getRestaurantId(), request.restaurantId());
+            order.setCustomerId(request.customerId());
+            order.setRestaurantId(request.restaurantId());
+            if (restaurantChanged) {
+                orderPricer.price(order);
+            }
+            return orderMapper.toResponse(order);
+        });
+    }
+
+    /**
+     * Moves the order to {@code target} and queues an {@link OrderStatusChangedEvent}
+     * in the outbox in the same transaction.
+     *
+     * @param expectedVersion if not null, the change is refused unless the order is still at this version
+     * @throws InvalidStatusTransitionException if the lifecycle does not allow the change
+     * @throws ObjectOptimisticLockingFailureException if the order was changed by someone else
+     */
+    @Transactional
+    public Optional<OrderResponse> changeStatus(Long id, OrderStatus target, Long expectedVersion) {
+        return orderRepository.findWithItemsById(id).map(order -> {
+            if (expectedVersion != null && !expectedVersion.equals(order.getVersion())) {
+                throw new ObjectOptimisticLockingFailureException(Order.class, id);
+            }
+            OrderStatus previous = order.getStatus();
+            if (previous == null || !previous.canTransitionTo(target)) {
+                throw new InvalidStatusTransitionException(id, previous, target);
+            }
+            order.setStatus(target);
+            // Flush now so the version check runs here and the event carries the new version.
+            entityManager.flush();
+
+            LocalDateTime now = LocalDateTime.now();
+            OrderStatusChangedEvent event = new OrderStatusChangedEvent(order.getId(), order.getRestaurantId(),
+                    order.getCustomerId(), previous.name(), target.name(), order.getVersion(), now);
+            outboxEventRepository.save(new OutboxEvent(OrderStatusEventProducer.TOPIC, event.key(), toJson(event), now));
+            LOGGER.debug("Order ID {} moved from {} to {}", id, previous, target);
+            return orderMapper.toResponse(order);
+        });
+    }
+
+    @Transactional
+    public boolean deleteOrder(Long id) {
+        return orderRepository.findWithItemsById(id).map(order -> {
+            orderRepository.delete(order);
+            return true;
+        }).orElse(false);
+    }
+
+    /**
+     * One page of orders matching {@code criteria}. Orders are read as
+     * projections; with {@code includeItems} the page's items are fetched in
+     * a single extra query instead of one lazy load per order.
+     */
+    @Transactional(readOnly = true)
+    public Page<OrderSummary> findOrders(OrderSearchCriteria criteria, Pageable pageable, boolean includeItems) {
+        Page<OrderSummary> page = orderRepository.findSummaries(criteria, pageable);
+        if (!includeItems || page.isEmpty()) {
+            return page;
+        }
+        List<Long> orderIds = page.getContent().stream().map(OrderSummary::id).toList();
+        Map<Long, List<OrderItemResponse>> itemsByOrder = orderItemRepository.findResponsesByOrderIds(orderIds).stream()
+                .collect(Collectors.groupingBy(OrderItemResponse::orderId));
+        return page.map(order -> order.withItems(itemsByOrder.getOrDefault(order.id(), List.of())));
+    }
+
+    private Order persist(Order order, LocalDateTime orderDate) {
+        orderPricer.price(order);
+        order.setStatus(OrderStatus.PLACED);
+        order.setOrderDate(orderDate);
+        if (order.getOrderItems() == null) {
+            order.setOrderItems(new ArrayList<>());
+        }
+        for (OrderItem item : order.getOrderItems()) {
+            item.setOrder(order);
+        }
+        Order savedOrder = orderRepository.save(order);
+
+        OrderPlacedEvent event = OrderPlacedEvents.of(savedOrder);
+        outboxEventRepository.save(new OutboxEvent(OrderEventProducer.TOPIC, event.key(), OrderPlacedEvents.toJson(objectMapper, event), orderDate));
+        return savedOrder;
+    }
+
+    private String toJson(OrderStatusChangedEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize OrderStatusChangedEvent for order ID " + event.orderId(), e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.tech.order_service.service;
+
+import com.tech.shared_events.event.OrderStatusChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes {@link OrderStatusChangedEvent}s for {@link OutboxRelay}. The
+ * relay passes the key stored with the outbox row, which is the order ID, so
+ * the changes to one order stay in order on their partition.
+ */
+@Service
+public class OrderStatusEventProducer {
+
+    public static final String TOPIC = "order-status-events";
+
+    private final KafkaTemplate<String, OrderStatusChangedEvent> kafkaTemplate;
+    private final Timer sendSuccess;
+    private final Timer sendFailure;
+
+    public OrderStatusEventProducer(KafkaTemplate<String, OrderStatusChangedEvent> kafkaTemplate, MeterRegistry meterRegistry) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.sendSuccess = Timer.builder("order.events.send")
+                .description("Time from send to broker acknowledgement")
+                .tag("topic", TOPIC).tag("outcome", "success")
+                .register(meterRegistry);
+        this.sendFailure = Timer.builder("order.events.send")
+                .description("Time from send to broker acknowledgement")
+                .tag("topic", TOPIC).tag("outcome", "failure")
+                .register(meterRegistry);
+    }
+
+    public CompletableFuture<SendResult<String, OrderStatusChangedEvent>> publish(String key, OrderStatusChangedEvent event) {
+        long start = System.nanoTime();
+        try {
+            return kafkaTemplate.send(TOPIC, key, event)
+                    .whenComplete((result, ex) ->
+                            (ex == null ? sendSuccess : sendFailure).record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        } catch (Exception e) {
+            sendFailure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.tech.order_service.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tech.order_service.entity.OutboxEvent;
+import com.tech.order_service.repository.OutboxEventRepository;
+import com.tech.shared_events.event.OrderPlacedEvent;
+import com.tech.shared_events.event.OrderStatusChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Drains the {@code outbox} table to Kafka.
+ * <p>
+ * Each batch is locked, sent in id order without waiting between records,
+ * and then awaited. Only the acknowledged prefix is deleted, so a failed or
+ * slow send is retried on the next poll together with everything after it.
+ * Delivery is at-least-once: a crash after the broker acknowledged but before
+ * the delete commits republishes those rows, so consumers must tolerate
+ * duplicates by order ID.
+ */
+@Component
+public class OutboxRelay {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OrderEventProducer orderEventProducer;
+    private final OrderStatusEventProducer orderStatusEventProducer;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long sendTimeoutMs;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository, OrderEventProducer orderEventProducer,
+                       OrderStatusEventProducer orderStatusEventProducer, ObjectMapper objectMapper, TransactionTemplate transactionTemplate,
+                       @Value("${order.outbox.batch-size:200}") int batchSize,
+                       @Value("${order.outbox.send-timeout-ms:10000}") long sendTimeoutMs) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.orderEventProducer = orderEventProducer;
+        this.orderStatusEventProducer = orderStatusEventProducer;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.sendTimeoutMs = sendTimeoutMs;
+    }
+
+    @Scheduled(fixedDelayString = "${order.outbox.poll-interval-ms:500}")
+    public void relay() {
+        Integer published;
+        // Keep going while batches come back full so a backlog drains without waiting for the next poll.
+        do {
+            published = transactionTemplate.execute(status -> relayBatch());
+        } while (published != null && published == batchSize);
+    }
+
+    private int relayBatch() {
+        List<OutboxEvent> batch = outboxEventRepository.findAllByOrderByIdAsc(Limit.of(batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<CompletableFuture<?>> sends = new ArrayList<>(batch.size());
+        for (OutboxEvent row : batch) {
+            sends.add(publish(row));
+        }
+
+        int acknowledged = 0;
+        for (CompletableFuture<?> send : sends) {
+            try {
+                send.get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+                acknowledged++;
+            } catch (ExecutionException | TimeoutException e) {
+                LOGGER.warn("Outbox row {} not acknowledged, retrying it on the next poll", batch.get(acknowledged).getId(), e);
+                break;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        outboxEventRepository.deleteAllInBatch(batch.subList(0, acknowledged));
+        LOGGER.debug("Relayed {} of {} outbox rows", acknowledged, batch.size());
+        return acknowledged;
+    }
+
+    private CompletableFuture<?> publish(OutboxEvent row) {
+        try {
+            if (OrderStatusEventProducer.TOPIC.equals(row.getTopic())) {
+                return orderStatusEventProducer.publish(row.getEventKey(), objectMapper.readValue(row.getPayload(), OrderStatusChangedEvent.class));
+            }
+            return orderEventProducer.publish(row.getEventKey(), objectMapper.readValue(row.getPayload(), OrderPlacedEvent.class));
+        } catch (JsonProcessingException e) {
+            // Retrying cannot fix an unreadable row, and leaving it would block every row behind it.
+            LOGGER.error("Discarding unreadable outbox row {} with payload {}", row.getId(), row.getPayload(), e);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+}
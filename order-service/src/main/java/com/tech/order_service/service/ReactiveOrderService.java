@@ -0,0 +1,81 @@
+package com.tech.order_service.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tech.order_service.dto.OrderRequest;
+import com.tech.order_service.dto.OrderResponse;
+import com.tech.order_service.entity.Order;
+import com.tech.order_service.entity.OrderStatus;
+import com.tech.order_service.mapper.OrderMapper;
+import com.tech.order_service.pricing.OrderPricer;
+import com.tech.order_service.repository.ReactiveOrderRepository;
+import com.tech.shared_events.event.OrderPlacedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+
+/**
+ * Non-blocking counterpart of {@link OrderService}.
+ * <p>
+ * The order, its items and the outbox row are written in one R2DBC
+ * transaction, and {@link OutboxRelay} publishes the event from the outbox
+ * exactly as it does for the blocking path. Sending here as well would race
+ * the relay for the same row and could publish the event twice.
+ */
+@Service
+public class ReactiveOrderService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReactiveOrderService.class);
+
+    private final ReactiveOrderRepository reactiveOrderRepository;
+    private final TransactionalOperator transactionalOperator;
+    private final ObjectMapper objectMapper;
+    private final OrderMapper orderMapper;
+    private final OrderPricer orderPricer;
+
+    public ReactiveOrderService(ReactiveOrderRepository reactiveOrderRepository,
+                                TransactionalOperator reactiveTransactionalOperator,
+                                ObjectMapper objectMapper,
+                                OrderMapper orderMapper,
+                                OrderPricer orderPricer) {
+        this.reactiveOrderRepository = reactiveOrderRepository;
+        this.transactionalOperator = reactiveTransactionalOperator;
+        this.objectMapper = objectMapper;
+        this.orderMapper = orderMapper;
+        this.orderPricer = orderPricer;
+    }
+
+    public Mono<OrderResponse> createOrder(OrderRequest request) {
+        // Pricing usually hits the in-memory cache, but a cold restaurant loads its menu over blocking HTTP.
+        return Mono.fromCallable(() -> {
+                    Order order = orderMapper.toEntity(request);
+                    orderPricer.price(order);
+                    order.setStatus(OrderStatus.PLACED);
+                    order.setOrderDate(LocalDateTime.now());
+                    return order;
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(this::save)
+                .doOnNext(saved -> LOGGER.debug("Queued OrderPlacedEvent for order ID {} in the outbox", saved.getId()))
+                .map(orderMapper::toResponse);
+    }
+
+    private Mono<Order> save(Order order) {
+        return reactiveOrderRepository.insert(order)
+                .flatMap(savedOrder -> {
+                    OrderPlacedEvent event = OrderPlacedEvents.of(savedOrder);
+                    String payload = OrderPlacedEvents.toJson(objectMapper, event);
+                    return reactiveOrderRepository.insertOutboxEvent(OrderEventProducer.TOPIC, event.key(), payload, LocalDateTime.now())
+                            .thenReturn(savedOrder);
+                })
+                .as(transactionalOperator::transactional);
+    }
+
+    public Mono<OrderResponse> getOrder(Long id) {
+        return reactiveOrderRepository.findById(id).map(orderMapper::toResponse);
+    }
+}
@@ -0,0 +1,125 @@
+package com.tech.order_service.benchmark;
+
+import com.tech.order_service.entity.Order;
+import com.tech.order_service.entity.OrderItem;
+import com.tech.order_service.entity.OrderStatus;
+import com.tech.order_service.service.OrderPlacedEvents;
+import com.tech.shared_events.codec.OrderPlacedEventCodec;
+import com.tech.shared_events.codec.OrderPlacedEventSerializer;
+import com.tech.shared_events.codec.SchemaRegistry;
+import com.tech.shared_events.event.OrderPlacedEvent;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Producer-side CPU per second of order traffic: building the
+ * {@link OrderPlacedEvent} for each saved order, taking its key and encoding
+ * it. One operation is one second's worth of orders at
+ * {@code eventsPerSecond}, so the score in milliseconds is the share of one
+ * core the event path needs at that rate, in thousandths.
+ * <p>
+ * The {@code withDebugLog} variants also render the record the way
+ * {@code KafkaTemplate} does for its per-send debug line. order-service runs
+ * with DEBUG logging in {@code config-repo}, so every send pays for that.
+ * <p>
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.tech.order_service.benchmark.OrderEventPublishBenchmark}
+ * or straight from the IDE. Add {@code -prof gc} to the JMH options to compare
+ * allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderEventPublishBenchmark {
+
+    private static final String TOPIC = "order-placed-events";
+
+    @Param({"1000", "10000"})
+    private int eventsPerSecond;
+
+    @Param({"5"})
+    private int itemCount;
+
+    private List<Order> orders;
+    private JsonSerializer<OrderPlacedEvent> jsonSerializer;
+    private OrderPlacedEventSerializer binarySerializer;
+
+    @Setup
+    public void setUp() {
+        jsonSerializer = new JsonSerializer<>();
+        jsonSerializer.setAddTypeInfo(false);
+        binarySerializer = new OrderPlacedEventSerializer(new OrderPlacedEventCodec(new SchemaRegistry()));
+
+        orders = new ArrayList<>(eventsPerSecond);
+        LocalDateTime now = LocalDateTime.now();
+        for (long id = 1; id <= eventsPerSecond; id++) {
+            Order order = new Order(id, id % 500, id % 40, BigDecimal.valueOf(2_497, 2), OrderStatus.PLACED, null, now);
+            List<OrderItem> items = new ArrayList<>(itemCount);
+            for (long i = 0; i < itemCount; i++) {
+                items.add(new OrderItem(id * 10 + i, 100 + i, (int) (i % 3) + 1, BigDecimal.valueOf(999 + i * 150, 2), order));
+            }
+            order.setOrderItems(items);
+            orders.add(order);
+        }
+    }
+
+    @Benchmark
+    public void json(Blackhole blackhole) {
+        for (Order order : orders) {
+            OrderPlacedEvent event = OrderPlacedEvents.of(order);
+            blackhole.consume(event.key());
+            blackhole.consume(jsonSerializer.serialize(TOPIC, event));
+        }
+    }
+
+    @Benchmark
+    public void binary(Blackhole blackhole) {
+        for (Order order : orders) {
+            OrderPlacedEvent event = OrderPlacedEvents.of(order);
+            blackhole.consume(event.key());
+            blackhole.consume(binarySerializer.serialize(TOPIC, event));
+        }
+    }
+
+    @Benchmark
+    public void jsonWithDebugLog(Blackhole blackhole) {
+        for (Order order : orders) {
+            OrderPlacedEvent event = OrderPlacedEvents.of(order);
+            ProducerRecord<String, OrderPlacedEvent> record = new ProducerRecord<>(TOPIC, event.key(), event);
+            blackhole.consume(jsonSerializer.serialize(TOPIC, event));
+            blackhole.consume(record.toString());
+        }
+    }
+
+    @Benchmark
+    public void binaryWithDebugLog(Blackhole blackhole) {
+        for (Order order : orders) {
+            OrderPlacedEvent event = OrderPlacedEvents.of(order);
+            ProducerRecord<String, OrderPlacedEvent> record = new ProducerRecord<>(TOPIC, event.key(), event);
+            blackhole.consume(binarySerializer.serialize(TOPIC, event));
+            blackhole.consume(record.toString());
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(OrderEventPublishBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
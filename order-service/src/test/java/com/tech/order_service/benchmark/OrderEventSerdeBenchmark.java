@@ -0,0 +1,125 @@
+package com.tech.order_service.benchmark;
+
+import com.tech.shared_events.codec.OrderPlacedEventCodec;
+import com.tech.shared_events.codec.OrderPlacedEventDeserializer;
+import com.tech.shared_events.codec.OrderPlacedEventSerializer;
+import com.tech.shared_events.codec.SchemaRegistry;
+import com.tech.shared_events.event.OrderItemEvent;
+import com.tech.shared_events.event.OrderPlacedEvent;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CPU cost of putting one {@link OrderPlacedEvent} on the wire and reading it
+ * back: the current {@link JsonSerializer}/{@link JsonDeserializer} pair
+ * versus the binary codec, through the same Kafka serializer interfaces the
+ * producer and consumers use. {@link #encodedSize} reports the encoded size
+ * of each format.
+ * <p>
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.tech.order_service.benchmark.OrderEventSerdeBenchmark}
+ * or straight from the IDE. Add {@code -prof gc} to the JMH options to compare
+ * allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderEventSerdeBenchmark {
+
+    private static final String TOPIC = "order-placed-events";
+
+    @Param({"1", "5", "20"})
+    private int itemCount;
+
+    private OrderPlacedEvent event;
+    private JsonSerializer<OrderPlacedEvent> jsonSerializer;
+    private JsonDeserializer<OrderPlacedEvent> jsonDeserializer;
+    private OrderPlacedEventSerializer binarySerializer;
+    private OrderPlacedEventDeserializer binaryDeserializer;
+    private byte[] json;
+    private byte[] binary;
+
+    @Setup
+    public void setUp() {
+        // Configured the way order-service and restaurant-service configure them.
+        jsonSerializer = new JsonSerializer<>();
+        jsonSerializer.setAddTypeInfo(false);
+        jsonDeserializer = new JsonDeserializer<>(OrderPlacedEvent.class, false);
+        OrderPlacedEventCodec codec = new OrderPlacedEventCodec(new SchemaRegistry());
+        binarySerializer = new OrderPlacedEventSerializer(codec);
+        binaryDeserializer = new OrderPlacedEventDeserializer(codec);
+
+        List<OrderItemEvent> items = new ArrayList<>(itemCount);
+        BigDecimal total = BigDecimal.ZERO;
+        for (long i = 0; i < itemCount; i++) {
+            BigDecimal price = BigDecimal.valueOf(999 + i * 150, 2);
+            items.add(new OrderItemEvent(100 + i, (int) (i % 3) + 1, price));
+            total = total.add(price.multiply(BigDecimal.valueOf((i % 3) + 1)));
+        }
+        event = new OrderPlacedEvent(123_456L, 4_242L, 17L, total, LocalDateTime.now(), items);
+        json = jsonSerializer.serialize(TOPIC, event);
+        binary = binarySerializer.serialize(TOPIC, event);
+    }
+
+    /**
+     * Encoded size of the event in each format, reported by {@link #encodedSize}
+     * as the {@code jsonBytes} and {@code binaryBytes} secondary results. JMH
+     * sums these counters over iterations, so that benchmark runs exactly once.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class EncodedSize {
+        public long jsonBytes;
+        public long binaryBytes;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    public void encodedSize(EncodedSize size) {
+        size.jsonBytes = json.length;
+        size.binaryBytes = binary.length;
+    }
+
+    @Benchmark
+    public byte[] serializeJson() {
+        return jsonSerializer.serialize(TOPIC, event);
+    }
+
+    @Benchmark
+    public byte[] serializeBinary() {
+        return binarySerializer.serialize(TOPIC, event);
+    }
+
+    @Benchmark
+    public OrderPlacedEvent deserializeJson() {
+        return jsonDeserializer.deserialize(TOPIC, json);
+    }
+
+    @Benchmark
+    public OrderPlacedEvent deserializeBinary() {
+        return binaryDeserializer.deserialize(TOPIC, binary);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(OrderEventSerdeBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
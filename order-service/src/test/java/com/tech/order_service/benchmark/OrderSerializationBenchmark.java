@@ -0,0 +1,104 @@
+package com.tech.order_service.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.tech.order_service.dto.OrderResponse;
+import com.tech.order_service.entity.Order;
+import com.tech.order_service.entity.OrderItem;
+import com.tech.order_service.entity.OrderStatus;
+import com.tech.order_service.mapper.OrderMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning one order into a JSON response body: serializing the JPA
+ * entity directly versus mapping it with {@link OrderMapper} first.
+ * <p>
+ * The entity cannot be serialized as-is, since each item points back at its
+ * order, so the entity case ignores that back-reference through a mix-in.
+ * That is the cheapest way to keep returning entities, which makes it a fair
+ * baseline.
+ * <p>
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.tech.order_service.benchmark.OrderSerializationBenchmark}
+ * or straight from the IDE. Add {@code -prof gc} to the JMH options to compare
+ * allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderSerializationBenchmark {
+
+    @Param({"50"})
+    private int itemCount;
+
+    private Order order;
+    private OrderResponse response;
+    private OrderMapper orderMapper;
+    private ObjectMapper entityObjectMapper;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        orderMapper = new OrderMapper();
+        // Same settings Spring Boot applies to the application's ObjectMapper.
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        entityObjectMapper = objectMapper.copy().addMixIn(OrderItem.class, OrderItemMixIn.class);
+
+        order = new Order(1L, 42L, 7L, BigDecimal.valueOf(499.50), OrderStatus.PLACED, null, LocalDateTime.now());
+        List<OrderItem> items = new ArrayList<>(itemCount);
+        for (long i = 0; i < itemCount; i++) {
+            items.add(new OrderItem(i + 1, 100 + i, (int) (i % 3) + 1, BigDecimal.valueOf(9.99 + i), order));
+        }
+        order.setOrderItems(items);
+        response = orderMapper.toResponse(order);
+    }
+
+    @Benchmark
+    public byte[] serializeEntity() throws Exception {
+        return entityObjectMapper.writeValueAsBytes(order);
+    }
+
+    @Benchmark
+    public OrderResponse mapToResponse() {
+        return orderMapper.toResponse(order);
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerializeResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(orderMapper.toResponse(order));
+    }
+
+    abstract static class OrderItemMixIn {
+        @JsonIgnore
+        abstract Order getOrder();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(OrderSerializationBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
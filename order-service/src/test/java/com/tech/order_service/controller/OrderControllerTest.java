@@ -0,0 +1,66 @@
+package com.tech.order_service.controller;
+
+import com.tech.order_service.exception.InvalidSortException;
+import com.tech.order_service.idempotency.IdempotencyService;
+import com.tech.order_service.service.OrderService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = OrderController.class, properties = "order.batch.max-size=2")
+class OrderControllerTest {
+
+    private static final String ORDER = "{\"customerId\":3,\"restaurantId\":7,\"orderItems\":[{\"productId\":5,\"quantity\":2}]}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private OrderService orderService;
+
+    @MockBean
+    private IdempotencyService idempotencyService;
+
+    @Test
+    void createOrders_shouldRejectBatchOverMaxSizeWithoutSavingAnything() throws Exception {
+        mockMvc.perform(post("/api/v1/orders/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + String.join(",", ORDER, ORDER, ORDER) + "]"))
+                .andExpect(status().isPayloadTooLarge());
+
+        verifyNoInteractions(orderService);
+    }
+
+    @Test
+    void createOrders_shouldReturnIdsForBatchAtMaxSize() throws Exception {
+        when(orderService.createOrders(any())).thenReturn(List.of(11L, 12L));
+
+        mockMvc.perform(post("/api/v1/orders/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + String.join(",", ORDER, ORDER) + "]"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("[11,12]"));
+    }
+
+    @Test
+    void getOrders_shouldAnswerBadRequestForUnsortableProperty() throws Exception {
+        when(orderService.findOrders(any(), any(), anyBoolean()))
+                .thenThrow(new InvalidSortException("Cannot sort orders by 'orderItems'"));
+
+        mockMvc.perform(get("/api/v1/orders").param("sort", "orderItems"))
+                .andExpect(status().isBadRequest());
+    }
+}
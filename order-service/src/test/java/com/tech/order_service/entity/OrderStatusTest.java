@@ -0,0 +1,39 @@
+package com.tech.order_service.entity;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderStatusTest {
+
+    @Test
+    void canTransitionTo_shouldAllowNextStepAndCancellation() {
+        assertTrue(OrderStatus.PLACED.canTransitionTo(OrderStatus.ACCEPTED));
+        assertTrue(OrderStatus.ACCEPTED.canTransitionTo(OrderStatus.PREPARING));
+        assertTrue(OrderStatus.PREPARING.canTransitionTo(OrderStatus.READY));
+        assertTrue(OrderStatus.READY.canTransitionTo(OrderStatus.DELIVERED));
+        for (OrderStatus status : new OrderStatus[]{OrderStatus.PLACED, OrderStatus.ACCEPTED, OrderStatus.PREPARING, OrderStatus.READY}) {
+            assertTrue(status.canTransitionTo(OrderStatus.CANCELLED), status.name());
+            assertFalse(status.isFinal(), status.name());
+        }
+    }
+
+    @Test
+    void canTransitionTo_shouldRejectSkippedBackwardAndRepeatedSteps() {
+        assertFalse(OrderStatus.PLACED.canTransitionTo(OrderStatus.PREPARING));
+        assertFalse(OrderStatus.PLACED.canTransitionTo(OrderStatus.DELIVERED));
+        assertFalse(OrderStatus.ACCEPTED.canTransitionTo(OrderStatus.READY));
+        assertFalse(OrderStatus.READY.canTransitionTo(OrderStatus.PREPARING));
+        assertFalse(OrderStatus.PLACED.canTransitionTo(OrderStatus.PLACED));
+    }
+
+    @Test
+    void canTransitionTo_shouldNotLeaveFinalStates() {
+        for (OrderStatus terminal : new OrderStatus[]{OrderStatus.DELIVERED, OrderStatus.CANCELLED}) {
+            assertTrue(terminal.isFinal(), terminal.name());
+            for (OrderStatus target : OrderStatus.values()) {
+                assertFalse(terminal.canTransitionTo(target), terminal + " -> " + target);
+            }
+        }
+    }
+}
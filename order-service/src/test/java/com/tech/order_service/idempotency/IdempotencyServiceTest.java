@@ -0,0 +1,121 @@
+package com.tech.order_service.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyServiceTest {
+
+    record Request(long customerId, long productId) {
+    }
+
+    record Response(long orderId, String status) {
+    }
+
+    private final IdempotencyService idempotencyService =
+            new IdempotencyService(new InMemoryIdempotencyStore(100), new ObjectMapper(), 60);
+    private final AtomicInteger runs = new AtomicInteger();
+
+    private IdempotencyService.Result<Response> execute(String key, Request request) {
+        return idempotencyService.execute(key, request, Response.class,
+                () -> new Response(runs.incrementAndGet(), "PLACED"));
+    }
+
+    @Test
+    void execute_shouldRunActionForNewKey() {
+        IdempotencyService.Result<Response> result = execute("key-1", new Request(1, 5));
+
+        assertEquals(IdempotencyService.Outcome.EXECUTED, result.outcome());
+        assertEquals(new Response(1, "PLACED"), result.response());
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void execute_shouldReplayStoredResponseWithoutRunningAgain() {
+        execute("key-1", new Request(1, 5));
+
+        IdempotencyService.Result<Response> retry = execute("key-1", new Request(1, 5));
+
+        assertEquals(IdempotencyService.Outcome.REPLAYED, retry.outcome());
+        assertEquals(new Response(1, "PLACED"), retry.response());
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void execute_shouldTurnAwayRetryWhileFirstRequestIsRunning() {
+        List<IdempotencyService.Result<Response>> retries = new ArrayList<>();
+
+        IdempotencyService.Result<Response> first = idempotencyService.execute("key-1", new Request(1, 5), Response.class, () -> {
+            retries.add(execute("key-1", new Request(1, 5)));
+            return new Response(99, "PLACED");
+        });
+
+        assertEquals(IdempotencyService.Outcome.EXECUTED, first.outcome());
+        assertEquals(IdempotencyService.Outcome.IN_PROGRESS, retries.get(0).outcome());
+        assertNull(retries.get(0).response());
+        assertEquals(0, runs.get());
+    }
+
+    @Test
+    void execute_shouldRejectKeyReusedWithDifferentRequest() {
+        execute("key-1", new Request(1, 5));
+
+        IdempotencyService.Result<Response> reused = execute("key-1", new Request(1, 6));
+
+        assertEquals(IdempotencyService.Outcome.KEY_REUSED, reused.outcome());
+        assertNull(reused.response());
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void execute_shouldReleaseKeyWhenActionFails() {
+        assertThrows(IllegalStateException.class, () -> idempotencyService.execute("key-1", new Request(1, 5), Response.class, () -> {
+            throw new IllegalStateException("restaurant-service unavailable");
+        }));
+
+        IdempotencyService.Result<Response> retry = execute("key-1", new Request(1, 5));
+
+        assertEquals(IdempotencyService.Outcome.EXECUTED, retry.outcome());
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void execute_shouldRunActionOnceForConcurrentRetries() throws Exception {
+        int threads = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<IdempotencyService.Result<Response>>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return execute("key-1", new Request(1, 5));
+                }));
+            }
+            start.countDown();
+
+            int executed = 0;
+            for (Future<IdempotencyService.Result<Response>> result : results) {
+                IdempotencyService.Outcome outcome = result.get(10, TimeUnit.SECONDS).outcome();
+                assertNotEquals(IdempotencyService.Outcome.KEY_REUSED, outcome);
+                if (outcome == IdempotencyService.Outcome.EXECUTED) {
+                    executed++;
+                }
+            }
+            assertEquals(1, executed);
+            assertEquals(1, runs.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
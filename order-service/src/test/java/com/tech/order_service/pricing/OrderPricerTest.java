@@ -0,0 +1,81 @@
+package com.tech.order_service.pricing;
+
+import com.tech.order_service.entity.Order;
+import com.tech.order_service.entity.OrderItem;
+import com.tech.order_service.entity.OrderStatus;
+import com.tech.order_service.exception.InvalidOrderException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class OrderPricerTest {
+
+    private final ProductPriceCache productPriceCache = mock(ProductPriceCache.class);
+    private final OrderPricer orderPricer = new OrderPricer(productPriceCache);
+
+    private static Order order(Long restaurantId, OrderItem... items) {
+        Order order = new Order(null, 3L, restaurantId, new BigDecimal("0.01"), OrderStatus.PLACED, new ArrayList<>(), LocalDateTime.now());
+        for (OrderItem item : items) {
+            item.setOrder(order);
+            order.getOrderItems().add(item);
+        }
+        return order;
+    }
+
+    private static OrderItem item(Long productId, Integer quantity, String clientPrice) {
+        return new OrderItem(null, productId, quantity, clientPrice == null ? null : new BigDecimal(clientPrice), null);
+    }
+
+    @Test
+    void price_shouldSetItemPricesAndTotalFromCachedPrices() {
+        when(productPriceCache.pricesFor(7L, List.of(5L, 6L)))
+                .thenReturn(Map.of(5L, new BigDecimal("9.99"), 6L, new BigDecimal("4.50")));
+        Order order = order(7L, item(5L, 2, "0.01"), item(6L, 3, null));
+
+        orderPricer.price(order);
+
+        assertEquals(new BigDecimal("9.99"), order.getOrderItems().get(0).getPrice());
+        assertEquals(new BigDecimal("4.50"), order.getOrderItems().get(1).getPrice());
+        assertEquals(new BigDecimal("33.48"), order.getTotalAmount());
+    }
+
+    @Test
+    void price_shouldRejectProductNotOnRestaurantMenu() {
+        when(productPriceCache.pricesFor(7L, List.of(5L, 8L))).thenReturn(Map.of(5L, new BigDecimal("9.99")));
+        Order order = order(7L, item(5L, 1, null), item(8L, 1, null));
+
+        InvalidOrderException e = assertThrows(InvalidOrderException.class, () -> orderPricer.price(order));
+
+        assertTrue(e.getMessage().contains("Product 8"));
+        assertEquals(new BigDecimal("0.01"), order.getTotalAmount());
+    }
+
+    @Test
+    void price_shouldRejectMissingRestaurantProductOrQuantityBeforeLookingUpPrices() {
+        assertThrows(InvalidOrderException.class, () -> orderPricer.price(order(null, item(5L, 1, null))));
+        assertThrows(InvalidOrderException.class, () -> orderPricer.price(order(7L, item(null, 1, null))));
+        assertThrows(InvalidOrderException.class, () -> orderPricer.price(order(7L, item(5L, 0, null))));
+        assertThrows(InvalidOrderException.class, () -> orderPricer.price(order(7L, item(5L, null, null))));
+
+        verify(productPriceCache, never()).pricesFor(anyLong(), any());
+    }
+
+    @Test
+    void price_shouldPriceOrderWithoutItemsAtZero() {
+        when(productPriceCache.pricesFor(7L, List.of())).thenReturn(Map.of());
+        Order order = order(7L);
+
+        orderPricer.price(order);
+
+        assertEquals(BigDecimal.ZERO, order.getTotalAmount());
+    }
+}
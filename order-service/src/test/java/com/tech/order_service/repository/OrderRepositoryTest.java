@@ -0,0 +1,122 @@
+package com.tech.order_service.repository;
+
+import com.tech.order_service.dto.OrderSearchCriteria;
+import com.tech.order_service.dto.OrderSummary;
+import com.tech.order_service.entity.Order;
+import com.tech.order_service.entity.OrderStatus;
+import com.tech.order_service.exception.InvalidSortException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class OrderRepositoryTest {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2024, 5, 6, 12, 0);
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Long first;
+    private Long second;
+    private Long third;
+    private Long fourth;
+
+    private Long order(long customerId, long restaurantId, OrderStatus status, LocalDateTime orderDate) {
+        Order order = new Order(null, customerId, restaurantId, BigDecimal.TEN, status, new ArrayList<>(), orderDate);
+        return entityManager.persistAndGetId(order, Long.class);
+    }
+
+    private List<Long> ids(OrderSearchCriteria criteria, Sort sort) {
+        return orderRepository.findSummaries(criteria, PageRequest.of(0, 20, sort)).map(OrderSummary::id).getContent();
+    }
+
+    private static OrderSearchCriteria all() {
+        return new OrderSearchCriteria(null, null, null, null, null);
+    }
+
+    @BeforeEach
+    void setUp() {
+        first = order(1, 7, OrderStatus.PLACED, MONDAY);
+        second = order(1, 8, OrderStatus.DELIVERED, MONDAY.plusDays(1));
+        third = order(2, 7, OrderStatus.PLACED, MONDAY.plusDays(2));
+        fourth = order(1, 7, OrderStatus.PLACED, MONDAY.plusDays(3));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findSummaries_shouldApplyEveryGivenFilter() {
+        assertEquals(List.of(fourth, second, first),
+                ids(new OrderSearchCriteria(1L, null, null, null, null), Sort.by(Sort.Direction.DESC, "orderDate")));
+        assertEquals(List.of(fourth, first),
+                ids(new OrderSearchCriteria(1L, 7L, null, null, null), Sort.by(Sort.Direction.DESC, "orderDate")));
+        assertEquals(List.of(fourth, third, first),
+                ids(new OrderSearchCriteria(null, 7L, OrderStatus.PLACED, null, null), Sort.by(Sort.Direction.DESC, "orderDate")));
+        assertEquals(List.of(second),
+                ids(new OrderSearchCriteria(null, null, OrderStatus.DELIVERED, null, null), Sort.unsorted()));
+    }
+
+    @Test
+    void findSummaries_shouldTreatFromAsInclusiveAndToAsExclusive() {
+        OrderSearchCriteria tuesdayToThursday = new OrderSearchCriteria(null, null, null, MONDAY.plusDays(1), MONDAY.plusDays(3));
+
+        assertEquals(List.of(second, third), ids(tuesdayToThursday, Sort.by("orderDate")));
+        assertEquals(List.of(third), ids(new OrderSearchCriteria(2L, 7L, OrderStatus.PLACED, MONDAY.plusDays(1), MONDAY.plusDays(3)),
+                Sort.unsorted()));
+    }
+
+    @Test
+    void findSummaries_shouldBreakTiesByIdDescending() {
+        Long sameTimeA = order(3, 9, OrderStatus.PLACED, MONDAY);
+        Long sameTimeB = order(3, 9, OrderStatus.PLACED, MONDAY);
+        Long sameTimeC = order(3, 9, OrderStatus.PLACED, MONDAY);
+        OrderSearchCriteria customer = new OrderSearchCriteria(3L, null, null, null, null);
+
+        assertEquals(List.of(sameTimeC, sameTimeB, sameTimeA), ids(customer, Sort.by(Sort.Direction.DESC, "orderDate")));
+        assertEquals(List.of(sameTimeC, sameTimeB, sameTimeA), ids(customer, Sort.unsorted()));
+        assertEquals(List.of(sameTimeA, sameTimeB, sameTimeC), ids(customer, Sort.by("id")));
+    }
+
+    @Test
+    void findSummaries_shouldPageWithoutRepeatingOrSkippingTiedRows() {
+        List<Long> sameTime = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            sameTime.add(0, order(4, 9, OrderStatus.PLACED, MONDAY));
+        }
+        OrderSearchCriteria customer = new OrderSearchCriteria(4L, null, null, null, null);
+
+        List<Long> paged = new ArrayList<>();
+        for (int page = 0; page < 3; page++) {
+            Page<OrderSummary> result = orderRepository.findSummaries(customer,
+                    PageRequest.of(page, 2, Sort.by(Sort.Direction.DESC, "orderDate")));
+            assertEquals(5, result.getTotalElements());
+            result.forEach(order -> paged.add(order.id()));
+        }
+
+        assertEquals(sameTime, paged);
+    }
+
+    @Test
+    void findSummaries_shouldRejectUnknownSortProperty() {
+        InvalidSortException e = assertThrows(InvalidSortException.class, () -> ids(all(), Sort.by("orderItems")));
+
+        assertTrue(e.getMessage().contains("orderItems"));
+        assertThrows(InvalidSortException.class, () -> ids(all(), Sort.by("noSuchField")));
+    }
+}
@@ -0,0 +1,153 @@
+package com.tech.order_service.service;
+
+import com.tech.order_service.dto.OrderItemRequest;
+import com.tech.order_service.dto.OrderItemResponse;
+import com.tech.order_service.dto.OrderRequest;
+import com.tech.order_service.dto.OrderResponse;
+import com.tech.order_service.dto.OrderSearchCriteria;
+import com.tech.order_service.dto.OrderSummary;
+import com.tech.order_service.entity.Order;
+import com.tech.order_service.entity.OutboxEvent;
+import com.tech.order_service.exception.InvalidOrderException;
+import com.tech.order_service.mapper.OrderMapper;
+import com.tech.order_service.pricing.OrderPricer;
+import com.tech.order_service.repository.OrderRepository;
+import com.tech.order_service.repository.OutboxEventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs {@link OrderService} against a real database so that orders and their
+ * outbox rows are checked to commit and roll back together. The flush size is
+ * small so bulk imports cross several flush/clear boundaries.
+ */
+@DataJpaTest(properties = "order.batch.flush-size=2")
+@Import({OrderService.class, OrderMapper.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrderServiceJpaTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @SpyBean
+    private OutboxEventRepository outboxEventRepository;
+
+    @MockBean
+    private OrderPricer orderPricer;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private static OrderRequest request(long customerId) {
+        return new OrderRequest(customerId, 7L, List.of(new OrderItemRequest(5L, 2)));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        outboxEventRepository.deleteAllInBatch();
+        orderRepository.deleteAll();
+    }
+
+    @Test
+    void createOrder_shouldSaveOrderAndItsOutboxRow() {
+        OrderResponse response = orderService.createOrder(request(3L));
+
+        assertEquals(1, orderRepository.count());
+        List<OutboxEvent> outbox = outboxEventRepository.findAll();
+        assertEquals(1, outbox.size());
+        assertEquals(OrderEventProducer.TOPIC, outbox.get(0).getTopic());
+        assertEquals(String.valueOf(response.id()), outbox.get(0).getEventKey());
+    }
+
+    @Test
+    void createOrder_shouldSaveNeitherOrderNorOutboxRowWhenTransactionRollsBack() {
+        transactionTemplate.executeWithoutResult(status -> {
+            orderService.createOrder(request(3L));
+            status.setRollbackOnly();
+        });
+
+        assertEquals(0, orderRepository.count());
+        assertEquals(0, outboxEventRepository.count());
+    }
+
+    @Test
+    void createOrder_shouldNotSaveOrderWhenOutboxRowCannotBeSaved() {
+        doThrow(new DataIntegrityViolationException("outbox unavailable"))
+                .when(outboxEventRepository).save(any(OutboxEvent.class));
+
+        assertThrows(DataIntegrityViolationException.class, () -> orderService.createOrder(request(3L)));
+
+        reset(outboxEventRepository);
+        assertEquals(0, orderRepository.count());
+        assertEquals(0, outboxEventRepository.count());
+    }
+
+    @Test
+    void createOrders_shouldReturnIdsInRequestOrderAcrossFlushes() {
+        List<OrderRequest> requests = LongStream.rangeClosed(1, 5).mapToObj(OrderServiceJpaTest::request).toList();
+
+        List<Long> ids = orderService.createOrders(requests);
+
+        assertEquals(5, ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            assertEquals(i + 1L, orderRepository.findWithItemsById(ids.get(i)).orElseThrow().getCustomerId());
+        }
+        assertEquals(ids, outboxEventRepository.findAll().stream().map(row -> Long.valueOf(row.getEventKey())).sorted().toList());
+    }
+
+    @Test
+    void createOrders_shouldSaveNothingWhenPricingFailsMidBatch() {
+        doThrow(new InvalidOrderException("Product 5 is not on the menu of restaurant 7"))
+                .when(orderPricer).price(argThat((Order order) -> order.getCustomerId() == 4L));
+        List<OrderRequest> requests = LongStream.rangeClosed(1, 5).mapToObj(OrderServiceJpaTest::request).toList();
+
+        assertThrows(InvalidOrderException.class, () -> orderService.createOrders(requests));
+
+        assertEquals(0, orderRepository.count());
+        assertEquals(0, outboxEventRepository.count());
+    }
+
+    @Test
+    void findOrders_shouldAttachEachOrdersItemsOnlyWhenAsked() {
+        Long first = orderService.createOrder(new OrderRequest(3L, 7L, List.of(new OrderItemRequest(5L, 2), new OrderItemRequest(6L, 1)))).id();
+        Long second = orderService.createOrder(new OrderRequest(3L, 7L, List.of(new OrderItemRequest(8L, 4)))).id();
+        orderService.createOrder(request(9L));
+        OrderSearchCriteria customer = new OrderSearchCriteria(3L, null, null, null, null);
+        PageRequest newestFirst = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "orderDate"));
+
+        List<OrderSummary> withItems = orderService.findOrders(customer, newestFirst, true).getContent();
+        List<OrderSummary> withoutItems = orderService.findOrders(customer, newestFirst, false).getContent();
+
+        assertEquals(List.of(second, first), withItems.stream().map(OrderSummary::id).toList());
+        assertEquals(List.of(8L), withItems.get(0).orderItems().stream().map(OrderItemResponse::productId).toList());
+        assertEquals(List.of(5L, 6L), withItems.get(1).orderItems().stream().map(OrderItemResponse::productId).toList());
+        assertTrue(withItems.stream().flatMap(order -> order.orderItems().stream()).allMatch(item -> item.orderId() != null));
+        assertEquals(List.of(second, first), withoutItems.stream().map(OrderSummary::id).toList());
+        assertTrue(withoutItems.stream().allMatch(order -> order.orderItems() == null));
+    }
+}
@@ -0,0 +1,63 @@
+package com.tech.order_service.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.tech.order_service.entity.Order;
+import com.tech.order_service.entity.OrderStatus;
+import com.tech.order_service.entity.OutboxEvent;
+import com.tech.order_service.mapper.OrderMapper;
+import com.tech.order_service.pricing.OrderPricer;
+import com.tech.order_service.repository.OrderItemRepository;
+import com.tech.order_service.repository.OrderRepository;
+import com.tech.order_service.repository.OutboxEventRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class OrderServiceTest {
+
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private final OutboxEventRepository outboxEventRepository = mock(OutboxEventRepository.class);
+    private final EntityManager entityManager = mock(EntityManager.class);
+    private final OrderService orderService = new OrderService(orderRepository, mock(OrderItemRepository.class),
+            outboxEventRepository, new ObjectMapper().registerModule(new JavaTimeModule()), new OrderMapper(),
+            mock(OrderPricer.class), entityManager, 500);
+
+    private Order placedOrder(long version) {
+        Order order = new Order(1L, 3L, 7L, BigDecimal.TEN, OrderStatus.PLACED, new ArrayList<>(), LocalDateTime.now());
+        order.setVersion(version);
+        when(orderRepository.findWithItemsById(1L)).thenReturn(Optional.of(order));
+        return order;
+    }
+
+    @Test
+    void changeStatus_shouldRejectStaleExpectedVersion() {
+        Order order = placedOrder(2);
+
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+                () -> orderService.changeStatus(1L, OrderStatus.ACCEPTED, 1L));
+
+        assertEquals(OrderStatus.PLACED, order.getStatus());
+        verifyNoInteractions(outboxEventRepository, entityManager);
+    }
+
+    @Test
+    void changeStatus_shouldMoveOrderAndQueueEventForCurrentVersion() {
+        Order order = placedOrder(2);
+
+        assertTrue(orderService.changeStatus(1L, OrderStatus.ACCEPTED, 2L).isPresent());
+
+        assertEquals(OrderStatus.ACCEPTED, order.getStatus());
+        verify(entityManager).flush();
+        verify(outboxEventRepository).save(any(OutboxEvent.class));
+    }
+}
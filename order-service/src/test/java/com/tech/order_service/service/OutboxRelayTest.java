@@ -0,0 +1,96 @@
+package com.tech.order_service.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.tech.order_service.entity.OutboxEvent;
+import com.tech.order_service.repository.OutboxEventRepository;
+import com.tech.shared_events.event.OrderPlacedEvent;
+import com.tech.shared_events.event.OrderStatusChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class OutboxRelayTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final OutboxEventRepository outboxEventRepository = mock(OutboxEventRepository.class);
+    private final OrderEventProducer orderEventProducer = mock(OrderEventProducer.class);
+    private final OrderStatusEventProducer orderStatusEventProducer = mock(OrderStatusEventProducer.class);
+    private final OutboxRelay outboxRelay = new OutboxRelay(outboxEventRepository, orderEventProducer, orderStatusEventProducer,
+            objectMapper, new TransactionTemplate(mock(PlatformTransactionManager.class)), 10, 1000);
+
+    private OutboxEvent placedRow(long id) throws Exception {
+        OrderPlacedEvent event = new OrderPlacedEvent(id, 3L, 7L, BigDecimal.TEN, LocalDateTime.now(), List.of());
+        OutboxEvent row = new OutboxEvent(OrderEventProducer.TOPIC, "order-" + id, objectMapper.writeValueAsString(event), LocalDateTime.now());
+        row.setId(id);
+        return row;
+    }
+
+    @Test
+    void relay_shouldDeleteOnlyAcknowledgedPrefixAndRetryRestInIdOrder() throws Exception {
+        OutboxEvent first = placedRow(1);
+        OutboxEvent second = placedRow(2);
+        OutboxEvent third = placedRow(3);
+        OutboxEvent fourth = placedRow(4);
+        when(outboxEventRepository.findAllByOrderByIdAsc(any()))
+                .thenReturn(List.of(first, second, third, fourth), List.of(third, fourth));
+        doReturn(CompletableFuture.completedFuture(null)).when(orderEventProducer).publish(any(), any());
+        doReturn(CompletableFuture.failedFuture(new IllegalStateException("broker unavailable")))
+                .doReturn(CompletableFuture.completedFuture(null))
+                .when(orderEventProducer).publish(eq("order-3"), any());
+
+        outboxRelay.relay();
+
+        verify(outboxEventRepository).deleteAllInBatch(List.of(first, second));
+
+        outboxRelay.relay();
+
+        verify(outboxEventRepository).deleteAllInBatch(List.of(third, fourth));
+        InOrder sends = inOrder(orderEventProducer);
+        sends.verify(orderEventProducer).publish(eq("order-1"), any());
+        sends.verify(orderEventProducer).publish(eq("order-2"), any());
+        sends.verify(orderEventProducer).publish(eq("order-3"), any());
+        sends.verify(orderEventProducer).publish(eq("order-4"), any());
+        sends.verify(orderEventProducer).publish(eq("order-3"), any());
+        sends.verify(orderEventProducer).publish(eq("order-4"), any());
+        sends.verifyNoMoreInteractions();
+    }
+
+    @Test
+    void relay_shouldSendStatusRowsToStatusProducerWithStoredKey() throws Exception {
+        OrderStatusChangedEvent event = new OrderStatusChangedEvent(5L, 7L, 3L, "PLACED", "ACCEPTED", 1L, LocalDateTime.now());
+        OutboxEvent row = new OutboxEvent(OrderStatusEventProducer.TOPIC, "5", objectMapper.writeValueAsString(event), LocalDateTime.now());
+        row.setId(1L);
+        when(outboxEventRepository.findAllByOrderByIdAsc(any())).thenReturn(List.of(row));
+        doReturn(CompletableFuture.completedFuture(null)).when(orderStatusEventProducer).publish(any(), any());
+
+        outboxRelay.relay();
+
+        verify(orderStatusEventProducer).publish(eq("5"), eq(event));
+        verify(outboxEventRepository).deleteAllInBatch(List.of(row));
+        verifyNoInteractions(orderEventProducer);
+    }
+
+    @Test
+    void relay_shouldNotDeleteAnythingWhenFirstSendFails() throws Exception {
+        when(outboxEventRepository.findAllByOrderByIdAsc(any())).thenReturn(List.of(placedRow(1), placedRow(2)));
+        doReturn(CompletableFuture.failedFuture(new IllegalStateException("broker unavailable")))
+                .when(orderEventProducer).publish(eq("order-1"), any());
+        doReturn(CompletableFuture.completedFuture(null)).when(orderEventProducer).publish(eq("order-2"), any());
+
+        outboxRelay.relay();
+
+        verify(outboxEventRepository).deleteAllInBatch(List.of());
+        verify(outboxEventRepository, times(1)).findAllByOrderByIdAsc(any());
+    }
+}
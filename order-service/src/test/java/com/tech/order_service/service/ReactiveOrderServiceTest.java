@@ -0,0 +1,138 @@
+package com.tech.order_service.service;
+
+import com.tech.order_service.config.ReactiveOrderConfig;
+import com.tech.order_service.dto.OrderItemRequest;
+import com.tech.order_service.dto.OrderItemResponse;
+import com.tech.order_service.dto.OrderRequest;
+import com.tech.order_service.dto.OrderResponse;
+import com.tech.order_service.entity.Order;
+import com.tech.order_service.entity.OrderStatus;
+import com.tech.order_service.mapper.OrderMapper;
+import com.tech.order_service.pricing.OrderPricer;
+import com.tech.order_service.repository.OutboxEventRepository;
+import com.tech.order_service.repository.ReactiveOrderRepository;
+import com.tech.shared_events.event.OrderPlacedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Writes orders through R2DBC and reads them back through R2DBC and JPA, on
+ * the one in-memory database both paths share in the running service. The
+ * scheduled relay is held off so that only the test drains the outbox.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:order-db;DB_CLOSE_DELAY=-1",
+        "order.outbox.poll-interval-ms=3600000"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ReactiveOrderConfig.class, ReactiveOrderRepository.class, ReactiveOrderService.class, OrderMapper.class, OutboxRelay.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReactiveOrderServiceTest {
+
+    @Autowired
+    private ReactiveOrderService reactiveOrderService;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private OrderPricer orderPricer;
+
+    @MockBean
+    private OrderEventProducer orderEventProducer;
+
+    @MockBean
+    private OrderStatusEventProducer orderStatusEventProducer;
+
+    @BeforeEach
+    void setUp() {
+        doAnswer(invocation -> {
+            Order order = invocation.getArgument(0);
+            order.getOrderItems().forEach(item -> item.setPrice(new BigDecimal("4.50")));
+            order.setTotalAmount(new BigDecimal("9.00"));
+            return null;
+        }).when(orderPricer).price(any());
+        doReturn(CompletableFuture.completedFuture(null)).when(orderEventProducer).publish(any(), any());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM outbox");
+        jdbcTemplate.update("DELETE FROM order_items");
+        jdbcTemplate.update("DELETE FROM orders");
+    }
+
+    private static OrderRequest request(long customerId) {
+        return new OrderRequest(customerId, 7L, List.of(new OrderItemRequest(5L, 2)));
+    }
+
+    @Test
+    void createOrder_shouldBeReadableThroughGetOrder() {
+        OrderResponse created = reactiveOrderService.createOrder(request(3L)).block();
+
+        OrderResponse found = reactiveOrderService.getOrder(created.id()).block();
+
+        assertNotNull(found);
+        assertEquals(created.id(), found.id());
+        assertEquals(3L, found.customerId());
+        assertEquals(7L, found.restaurantId());
+        assertEquals(0, new BigDecimal("9.00").compareTo(found.totalAmount()));
+        assertEquals(OrderStatus.PLACED, found.status());
+        assertEquals(0L, found.version());
+        List<OrderItemResponse> items = found.orderItems();
+        assertEquals(1, items.size());
+        assertEquals(5L, items.get(0).productId());
+        assertEquals(2, items.get(0).quantity());
+        assertEquals(0, new BigDecimal("4.50").compareTo(items.get(0).price()));
+    }
+
+    @Test
+    void getOrder_shouldBeEmptyForUnknownId() {
+        assertNull(reactiveOrderService.getOrder(-1L).block());
+    }
+
+    @Test
+    void createOrder_shouldLeavePublishingToOutboxRelayWhichSendsEachOrderOnce() {
+        OrderResponse first = reactiveOrderService.createOrder(request(3L)).block();
+        OrderResponse second = reactiveOrderService.createOrder(request(4L)).block();
+        verifyNoInteractions(orderEventProducer);
+        assertEquals(2, outboxEventRepository.count());
+
+        outboxRelay.relay();
+        outboxRelay.relay();
+
+        ArgumentCaptor<OrderPlacedEvent> events = ArgumentCaptor.forClass(OrderPlacedEvent.class);
+        verify(orderEventProducer, times(2)).publish(any(), events.capture());
+        verify(orderEventProducer).publish(eq(String.valueOf(first.id())), any());
+        verify(orderEventProducer).publish(eq(String.valueOf(second.id())), any());
+        assertEquals(List.of(first.id(), second.id()), events.getAllValues().stream().map(OrderPlacedEvent::orderId).toList());
+        assertEquals(0, outboxEventRepository.count());
+    }
+}
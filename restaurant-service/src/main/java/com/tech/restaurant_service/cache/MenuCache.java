@@ -0,0 +1,137 @@
+package com.tech.restaurant_service.cache;
+
+import com.tech.restaurant_service.dto.ProductResponse;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Bounded read-through cache of restaurant menus keyed by restaurant id.
+ * <p>
+ * Entries are evicted least-recently-used once {@code maxSize} is reached and
+ * expire {@code ttlSeconds} after they were loaded. Hit, miss and eviction
+ * counters are published to Micrometer under {@code restaurant.menu.cache.*}.
+ */
+@Component
+public class MenuCache implements MeterBinder {
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final Map<Long, Entry> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    // Bumped on every invalidation so a load that raced with a write is not cached.
+    private final AtomicLong generation = new AtomicLong();
+
+    public MenuCache(@Value("${restaurant.menu-cache.max-size:1000}") int maxSize,
+                     @Value("${restaurant.menu-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.maxSize = maxSize;
+        this.ttlNanos = ttlSeconds * 1_000_000_000L;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                if (size() > MenuCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public List<ProductResponse> getOrLoad(Long restaurantId, Supplier<List<ProductResponse>> loader) {
+        List<ProductResponse> cached = get(restaurantId);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        long loadGeneration = generation.get();
+        List<ProductResponse> menu = List.copyOf(loader.get());
+        synchronized (entries) {
+            if (generation.get() == loadGeneration) {
+                entries.put(restaurantId, new Entry(menu, System.nanoTime() + ttlNanos));
+            }
+        }
+        return menu;
+    }
+
+    public void invalidate(Long restaurantId) {
+        synchronized (entries) {
+            generation.incrementAndGet();
+            entries.remove(restaurantId);
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            generation.incrementAndGet();
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("restaurant.menu.cache.hits", this, MenuCache::getHitCount)
+                .description("Menu lookups served from the cache")
+                .register(registry);
+        FunctionCounter.builder("restaurant.menu.cache.misses", this, MenuCache::getMissCount)
+                .description("Menu lookups that had to load from the database")
+                .register(registry);
+        FunctionCounter.builder("restaurant.menu.cache.evictions", this, MenuCache::getEvictionCount)
+                .description("Menus dropped because of size or TTL limits")
+                .register(registry);
+        Gauge.builder("restaurant.menu.cache.size", this, MenuCache::size)
+                .description("Menus currently held in the cache")
+                .register(registry);
+    }
+
+    private List<ProductResponse> get(Long restaurantId) {
+        synchronized (entries) {
+            Entry entry = entries.get(restaurantId);
+            if (entry == null) {
+                return null;
+            }
+            if (System.nanoTime() - entry.expiresAt() >= 0) {
+                entries.remove(restaurantId);
+                evictions.increment();
+                return null;
+            }
+            return entry.menu();
+        }
+    }
+
+    private record Entry(List<ProductResponse> menu, long expiresAt) {
+    }
+}
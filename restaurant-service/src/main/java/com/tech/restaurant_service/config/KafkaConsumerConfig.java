@@ -0,0 +1,71 @@
+package com.tech.restaurant_service.config;
+
+import com.tech.shared_events.codec.OrderPlacedEventDeserializer;
+import com.tech.shared_events.event.OrderPlacedEvent;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.ssl.SslBundles;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.util.backoff.FixedBackOff;
+
+import java.util.Map;
+
+/**
+ * Batch listener container for {@code order-placed-events}.
+ * <p>
+ * Each consumer thread polls up to {@code max-poll-records} events and hands
+ * them to the listener as one list. Offsets are committed manually once the
+ * whole batch has been processed. {@code concurrency} should not exceed the
+ * topic's partition count, since extra threads would sit idle.
+ * <p>
+ * Events may be JSON or the binary format order-service can be switched to;
+ * {@link OrderPlacedEventDeserializer} tells them apart by the first byte.
+ * <p>
+ * With {@code spring.threads.virtual.enabled} on Java 21, consumers run on
+ * virtual threads, the same as the containers Boot configures itself.
+ */
+@Configuration
+public class KafkaConsumerConfig {
+
+    public static final String ORDER_EVENT_BATCH_FACTORY = "orderEventBatchFactory";
+
+    // Not exposed as a ConsumerFactory bean so Boot's default factory stays in place for other listeners.
+    @Bean(ORDER_EVENT_BATCH_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<String, OrderPlacedEvent> orderEventBatchFactory(
+            KafkaProperties kafkaProperties,
+            SslBundles sslBundles,
+            Environment environment,
+            @Value("${restaurant.order-events.concurrency:3}") int concurrency,
+            @Value("${restaurant.order-events.max-poll-records:500}") int maxPollRecords) {
+        Map<String, Object> props = kafkaProperties.buildConsumerProperties(sslBundles);
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        props.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, OrderPlacedEventDeserializer.class);
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+
+        ConcurrentKafkaListenerContainerFactory<String, OrderPlacedEvent> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(props));
+        factory.setBatchListener(true);
+        factory.setConcurrency(concurrency);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(new FixedBackOff(1000L, 3L)));
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("order-events-");
+            executor.setVirtualThreads(true);
+            factory.getContainerProperties().setListenerTaskExecutor(executor);
+        }
+        return factory;
+    }
+}
@@ -1,18 +1,27 @@
 package com.tech.restaurant_service.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tech.restaurant_service.dto.CursorPageResponse;
 import com.tech.restaurant_service.dto.ProductRequest;
 import com.tech.restaurant_service.dto.ProductResponse;
 import com.tech.restaurant_service.dto.RestaurantRequest;
 import com.tech.restaurant_service.dto.RestaurantResponse;
+import com.tech.restaurant_service.dto.RestaurantStatsResponse;
+import com.tech.restaurant_service.dto.RestaurantSummaryResponse;
 import com.tech.restaurant_service.service.RestaurantService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import javax.validation.Valid;
+import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @RestController
@@ -21,11 +30,16 @@ public class RestaurantController {
 
     private static final Logger logger = LoggerFactory.getLogger(RestaurantController.class);
 
+    // Orders menu items by ProductPopularity instead of id or match quality.
+    private static final String SORT_POPULAR = "popular";
+
     private final RestaurantService restaurantService;
+    private final ObjectMapper objectMapper;
 
     @Autowired
-    public RestaurantController(RestaurantService restaurantService) {
+    public RestaurantController(RestaurantService restaurantService, ObjectMapper objectMapper) {
         this.restaurantService = restaurantService;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
@@ -36,7 +50,7 @@ public class RestaurantController {
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
-    @GetMapping
+    @GetMapping(params = {"!limit", "!after"})
     public ResponseEntity<List<RestaurantResponse>> getAllRestaurants() {
         logger.info("Received request to get all restaurants");
         List<RestaurantResponse> response = restaurantService.getAllRestaurants();
@@ -44,6 +58,32 @@ public class RestaurantController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/summary")
+    public ResponseEntity<List<RestaurantSummaryResponse>> getRestaurantSummaries() {
+        logger.info("Received request to get restaurant summaries");
+        List<RestaurantSummaryResponse> response = restaurantService.getRestaurantSummaries();
+        logger.info("Returning {} restaurant summaries", response.size());
+        return ResponseEntity.ok(response);
+    }
+
+    // Either limit or after selects the keyset page; the full list and the NDJSON stream match only without both.
+    @GetMapping
+    public ResponseEntity<CursorPageResponse<RestaurantResponse>> getRestaurantsPage(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "50") int limit) {
+        logger.info("Received request to get restaurants after ID {} with limit {}", after, limit);
+        CursorPageResponse<RestaurantResponse> response = restaurantService.getRestaurantsPage(after, limit);
+        logger.info("Returning {} restaurants, next cursor {}", response.getItems().size(), response.getNextCursor());
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(params = {"!limit", "!after"}, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllRestaurants() {
+        logger.info("Received request to stream all restaurants");
+        StreamingResponseBody body = out -> restaurantService.streamAllRestaurants(restaurant -> writeLine(out, restaurant));
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<RestaurantResponse> getRestaurantById(@PathVariable Long id) {
         logger.info("Received request to get restaurant by ID: {}", id);
@@ -99,13 +139,24 @@ public class RestaurantController {
     }
 
     @GetMapping("/{restaurantId}/menu")
-    public ResponseEntity<List<ProductResponse>> getMenuForRestaurant(@PathVariable Long restaurantId) {
+    public ResponseEntity<List<ProductResponse>> getMenuForRestaurant(@PathVariable Long restaurantId,
+                                                                      @RequestParam(required = false) String sort) {
         logger.info("Received request to get menu for restaurant ID: {}", restaurantId);
-        List<ProductResponse> response = restaurantService.getMenuForRestaurant(restaurantId);
+        List<ProductResponse> response = SORT_POPULAR.equals(sort)
+                ? restaurantService.getPopularMenuForRestaurant(restaurantId)
+                : restaurantService.getMenuForRestaurant(restaurantId);
         logger.info("Returning {} menu items for restaurant ID {}", response.size(), restaurantId);
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/{restaurantId}/stats")
+    public ResponseEntity<RestaurantStatsResponse> getRestaurantStats(@PathVariable Long restaurantId) {
+        logger.info("Received request to get order stats for restaurant ID: {}", restaurantId);
+        RestaurantStatsResponse response = restaurantService.getRestaurantStats(restaurantId);
+        logger.info("Returning order stats for restaurant ID {}", restaurantId);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/{restaurantId}/menu/{menuItemId}")
     public ResponseEntity<ProductResponse> getMenuItemById(@PathVariable Long restaurantId, @PathVariable Long menuItemId) {
         logger.info("Received request to get menu item ID {} for restaurant ID: {}", menuItemId, restaurantId);
@@ -120,7 +171,7 @@ public class RestaurantController {
                 });
     }
 
-    @GetMapping("/menu")
+    @GetMapping(value = "/menu", params = {"!limit", "!after"})
     public ResponseEntity<List<ProductResponse>> getAllMenuItems() {
         logger.info("Received request to get all menu items");
         List<ProductResponse> response = restaurantService.getAllMenuItems();
@@ -128,10 +179,32 @@ public class RestaurantController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/menu")
+    public ResponseEntity<CursorPageResponse<ProductResponse>> getMenuItemsPage(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "50") int limit) {
+        logger.info("Received request to get menu items after ID {} with limit {}", after, limit);
+        CursorPageResponse<ProductResponse> response = restaurantService.getMenuItemsPage(after, limit);
+        logger.info("Returning {} menu items, next cursor {}", response.getItems().size(), response.getNextCursor());
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(value = "/menu", params = {"!limit", "!after"}, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllMenuItems() {
+        logger.info("Received request to stream all menu items");
+        StreamingResponseBody body = out -> restaurantService.streamAllMenuItems(product -> writeLine(out, product));
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     @GetMapping("/menu/search")
-    public ResponseEntity<List<ProductResponse>> searchMenuItemsByName(@RequestParam String name) {
+    public ResponseEntity<List<ProductResponse>> searchMenuItemsByName(
+            @RequestParam String name,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(required = false) String sort) {
         logger.info("Received request to search menu items by name: {}", name);
-        List<ProductResponse> response = restaurantService.searchMenuItemsByName(name);
+        List<ProductResponse> response = SORT_POPULAR.equals(sort)
+                ? restaurantService.searchPopularMenuItemsByName(name, limit)
+                : restaurantService.searchMenuItemsByName(name, limit);
         logger.info("Returning {} menu items matching name '{}'", response.size(), name);
         return ResponseEntity.ok(response);
     }
@@ -140,42 +213,26 @@ public class RestaurantController {
     public ResponseEntity<List<RestaurantResponse>> searchRestaurants(
             @RequestParam(required = false) String name,
             @RequestParam(required = false) String city,
-            @RequestParam(required = false) String menuItem) {
+            @RequestParam(required = false) String menuItem,
+            @RequestParam(defaultValue = "50") int limit) {
 
         logger.info("Received request to search restaurants with name: {}, city: {}, menuItem: {}", name, city, menuItem);
 
-        if (name != null && city != null && menuItem != null) {
-            // This combination is not directly supported by a single service method
-            // You might need to implement a more complex search logic in the service layer
-            // For now, returning an empty list or throwing an error
-            List<RestaurantResponse> response = restaurantService.searchRestaurantsByName(name); // Fallback
-            logger.info("Returning {} restaurants matching name '{}', city '{}', menuItem '{}' (fallback to name search)", response.size(), name, city, menuItem);
-            return ResponseEntity.ok(response);
-        } else if (name != null && city != null) {
-            // Search by name and city
-            List<RestaurantResponse> response = restaurantService.searchRestaurantsByName(name); // Needs refinement
-            logger.info("Returning {} restaurants matching name '{}' and city '{}' (fallback to name search)", response.size(), name, city);
-            return ResponseEntity.ok(response);
-        } else if (name != null && menuItem != null) {
-            // Search by name and menu item
-            List<RestaurantResponse> response = restaurantService.searchRestaurantsByName(name); // Needs refinement
-            logger.info("Returning {} restaurants matching name '{}' and menu item '{}' (fallback to name search)", response.size(), name, menuItem);
-            return ResponseEntity.ok(response);
-        } else if (city != null && menuItem != null) {
-            // Search by city and menu item
-            List<RestaurantResponse> response = restaurantService.searchRestaurantsByCity(city); // Needs refinement
-            logger.info("Returning {} restaurants matching city '{}' and menu item '{}' (fallback to city search)", response.size(), city, menuItem);
+        int criteria = (name != null ? 1 : 0) + (city != null ? 1 : 0) + (menuItem != null ? 1 : 0);
+        if (criteria > 1) {
+            List<RestaurantResponse> response = restaurantService.searchRestaurants(name, city, menuItem, null, limit).getItems();
+            logger.info("Returning {} restaurants matching name '{}', city '{}', menuItem '{}'", response.size(), name, city, menuItem);
             return ResponseEntity.ok(response);
         } else if (name != null) {
-            List<RestaurantResponse> response = restaurantService.searchRestaurantsByName(name);
+            List<RestaurantResponse> response = restaurantService.searchRestaurantsByName(name, limit);
             logger.info("Returning {} restaurants matching name '{}'", response.size(), name);
             return ResponseEntity.ok(response);
         } else if (city != null) {
-            List<RestaurantResponse> response = restaurantService.searchRestaurantsByCity(city);
+            List<RestaurantResponse> response = restaurantService.searchRestaurantsByCity(city, limit);
             logger.info("Returning {} restaurants matching city '{}'", response.size(), city);
             return ResponseEntity.ok(response);
         } else if (menuItem != null) {
-            List<RestaurantResponse> response = restaurantService.searchRestaurantsByMenuItem(menuItem);
+            List<RestaurantResponse> response = restaurantService.searchRestaurantsByMenuItem(menuItem, limit);
             logger.info("Returning {} restaurants matching menu item '{}'", response.size(), menuItem);
             return ResponseEntity.ok(response);
         } else {
@@ -184,4 +241,27 @@ public class RestaurantController {
             return ResponseEntity.ok(response);
         }
     }
+
+    @GetMapping("/search/page")
+    public ResponseEntity<CursorPageResponse<RestaurantResponse>> searchRestaurantsPage(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) String menuItem,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "50") int limit) {
+        logger.info("Received request to search restaurants page with name: {}, city: {}, menuItem: {}, after: {}, limit: {}",
+                name, city, menuItem, after, limit);
+        CursorPageResponse<RestaurantResponse> response = restaurantService.searchRestaurants(name, city, menuItem, after, limit);
+        logger.info("Returning {} restaurants, next cursor {}", response.getItems().size(), response.getNextCursor());
+        return ResponseEntity.ok(response);
+    }
+
+    private void writeLine(OutputStream out, Object value) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(value));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.tech.restaurant_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Orders and revenue for the minute or hour starting at {@code start}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderStatsBucket {
+    private LocalDateTime start;
+    private long orders;
+    private BigDecimal revenue;
+}
@@ -0,0 +1,16 @@
+package com.tech.restaurant_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Total quantity of a product ordered over a stats window.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductOrderCount {
+    private Long productId;
+    private long quantity;
+}
@@ -1,12 +1,16 @@
 package com.tech.restaurant_service.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
 import java.util.List;
 
 @Data
+@NoArgsConstructor
+@AllArgsConstructor
 public class RestaurantRequest {
     @NotBlank(message = "Restaurant name cannot be empty")
     @Size(min = 3, max = 100, message = "Restaurant name must be between 3 and 100 characters")
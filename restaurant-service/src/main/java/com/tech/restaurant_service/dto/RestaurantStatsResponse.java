@@ -0,0 +1,29 @@
+package com.tech.restaurant_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Order activity for one restaurant. {@code orders}, {@code revenue},
+ * {@code ordersPerHour} and {@code topProducts} cover the last 24 hours;
+ * {@code ordersPerMinute} covers the last hour. Both series are oldest first
+ * and include empty buckets.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RestaurantStatsResponse {
+    private Long restaurantId;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private long orders;
+    private BigDecimal revenue;
+    private List<OrderStatsBucket> ordersPerMinute;
+    private List<OrderStatsBucket> ordersPerHour;
+    private List<ProductOrderCount> topProducts;
+}
@@ -0,0 +1,17 @@
+package com.tech.restaurant_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Restaurant without its menu, for list views that do not need menu items.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RestaurantSummaryResponse {
+    private Long id;
+    private String name;
+    private String address;
+}
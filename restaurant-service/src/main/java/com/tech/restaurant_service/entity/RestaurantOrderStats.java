@@ -0,0 +1,38 @@
+package com.tech.restaurant_service.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Orders and revenue one restaurant received in one minute, maintained
+ * incrementally from order events by {@code OrderStatsAggregator}.
+ */
+@Entity
+@Table(name = "restaurant_order_stats",
+        uniqueConstraints = @UniqueConstraint(name = "uk_order_stats_restaurant_minute", columnNames = {"restaurant_id", "bucket_start"}),
+        indexes = @Index(name = "idx_order_stats_bucket", columnList = "bucket_start"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RestaurantOrderStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "restaurant_id", nullable = false)
+    private Long restaurantId;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    private long orderCount;
+
+    @Column(precision = 19, scale = 2)
+    private BigDecimal revenue;
+}
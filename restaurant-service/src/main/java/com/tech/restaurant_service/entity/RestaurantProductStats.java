@@ -0,0 +1,38 @@
+package com.tech.restaurant_service.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Quantity of one product ordered from a restaurant in one hour, maintained
+ * incrementally from order events by {@code OrderStatsAggregator}.
+ */
+@Entity
+@Table(name = "restaurant_product_stats",
+        uniqueConstraints = @UniqueConstraint(name = "uk_product_stats_restaurant_hour_product",
+                columnNames = {"restaurant_id", "bucket_start", "product_id"}),
+        indexes = @Index(name = "idx_product_stats_bucket", columnList = "bucket_start"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RestaurantProductStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "restaurant_id", nullable = false)
+    private Long restaurantId;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    private long quantity;
+}
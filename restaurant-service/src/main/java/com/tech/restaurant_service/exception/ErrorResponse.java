@@ -15,7 +15,4 @@ public class ErrorResponse {
     private HttpStatus status;
     private String message;
     private String path;
-
-    public ErrorResponse(LocalDateTime now, HttpStatus httpStatus, String validationFailed, String description) {
-    }
 }
@@ -0,0 +1,41 @@
+package com.tech.restaurant_service.listener;
+
+import com.tech.restaurant_service.cache.MenuCache;
+import com.tech.restaurant_service.search.CatalogIndexLoader;
+import com.tech.restaurant_service.service.MenuInvalidationProducer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drops cached menus and refreshes the search index when any replica reports
+ * a catalog change. Each instance joins its own consumer group so every
+ * replica sees every invalidation.
+ */
+@Component
+public class MenuInvalidationListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(MenuInvalidationListener.class);
+
+    private final MenuCache menuCache;
+    private final CatalogIndexLoader catalogIndexLoader;
+
+    public MenuInvalidationListener(MenuCache menuCache, CatalogIndexLoader catalogIndexLoader) {
+        this.menuCache = menuCache;
+        this.catalogIndexLoader = catalogIndexLoader;
+    }
+
+    @KafkaListener(topics = MenuInvalidationProducer.TOPIC,
+            groupId = "restaurant-menu-cache-#{T(java.util.UUID).randomUUID()}",
+            properties = {
+                    "value.deserializer=org.apache.kafka.common.serialization.StringDeserializer",
+                    "auto.offset.reset=latest"
+            })
+    public void handleMenuInvalidation(String restaurantId) {
+        logger.debug("Invalidating cached menu for restaurant ID {}", restaurantId);
+        Long id = Long.valueOf(restaurantId);
+        menuCache.invalidate(id);
+        catalogIndexLoader.refreshRestaurant(id);
+    }
+}
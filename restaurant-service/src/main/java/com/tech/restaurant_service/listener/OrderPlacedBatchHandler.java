@@ -0,0 +1,16 @@
+package com.tech.restaurant_service.listener;
+
+import com.tech.shared_events.event.OrderPlacedEvent;
+
+import java.util.List;
+
+/**
+ * Processing step applied to each batch of order events consumed by
+ * {@link OrderPlacedEventListener}. Offsets are committed only after every
+ * handler has returned, so a handler that throws causes the batch to be
+ * redelivered.
+ */
+public interface OrderPlacedBatchHandler {
+
+    void handle(List<OrderPlacedEvent> events);
+}
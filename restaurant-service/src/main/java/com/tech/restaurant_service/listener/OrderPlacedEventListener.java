@@ -1,14 +1,44 @@
 package com.tech.restaurant_service.listener;
 
-import com.tech.order_service.event.OrderPlacedEvent;
+import com.tech.restaurant_service.config.KafkaConsumerConfig;
+import com.tech.shared_events.event.OrderPlacedEvent;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Component
 public class OrderPlacedEventListener {
 
-    @KafkaListener(topics = "order-placed-events", groupId = "restaurant-group")
-    public void handleOrderPlacedEvent(OrderPlacedEvent event) {
-        System.out.println("Restaurant Service - Received OrderPlacedEvent: " + event.getOrderId());
+    private static final Logger logger = LoggerFactory.getLogger(OrderPlacedEventListener.class);
+
+    private final List<OrderPlacedBatchHandler> handlers;
+
+    public OrderPlacedEventListener(List<OrderPlacedBatchHandler> handlers) {
+        this.handlers = handlers;
+    }
+
+    @KafkaListener(topics = "order-placed-events", groupId = "restaurant-group",
+            containerFactory = KafkaConsumerConfig.ORDER_EVENT_BATCH_FACTORY)
+    public void handleOrderPlacedEvents(List<ConsumerRecord<String, OrderPlacedEvent>> records, Acknowledgment acknowledgment) {
+        List<OrderPlacedEvent> events = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, OrderPlacedEvent> record : records) {
+            if (record.value() == null) {
+                // ErrorHandlingDeserializer hands over undeserializable records as nulls.
+                logger.error("Skipping unreadable OrderPlacedEvent at {}-{} offset {}", record.topic(), record.partition(), record.offset());
+                continue;
+            }
+            events.add(record.value());
+        }
+        for (OrderPlacedBatchHandler handler : handlers) {
+            handler.handle(events);
+        }
+        acknowledgment.acknowledge();
+        logger.debug("Processed batch of {} OrderPlacedEvents", events.size());
     }
 }
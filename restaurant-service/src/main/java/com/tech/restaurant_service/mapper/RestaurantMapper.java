@@ -0,0 +1,77 @@
+package com.tech.restaurant_service.mapper;
+
+import com.tech.restaurant_service.dto.ProductRequest;
+import com.tech.restaurant_service.dto.ProductResponse;
+import com.tech.restaurant_service.dto.RestaurantRequest;
+import com.tech.restaurant_service.dto.RestaurantResponse;
+import com.tech.restaurant_service.entity.Product;
+import com.tech.restaurant_service.entity.Restaurant;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hand-written mappings between restaurant entities and their DTOs.
+ * Replaces the reflective ModelMapper on the hot read paths.
+ */
+@Component
+public class RestaurantMapper {
+
+    public RestaurantResponse toResponse(Restaurant restaurant) {
+        RestaurantResponse response = new RestaurantResponse();
+        response.setId(restaurant.getId());
+        response.setName(restaurant.getName());
+        response.setAddress(restaurant.getAddress());
+        response.setMenu(toProductResponses(restaurant.getMenu()));
+        return response;
+    }
+
+    public List<RestaurantResponse> toResponses(List<Restaurant> restaurants) {
+        List<RestaurantResponse> responses = new ArrayList<>(restaurants.size());
+        for (Restaurant restaurant : restaurants) {
+            responses.add(toResponse(restaurant));
+        }
+        return responses;
+    }
+
+    public ProductResponse toResponse(Product product) {
+        ProductResponse response = new ProductResponse();
+        response.setId(product.getId());
+        response.setName(product.getName());
+        response.setDescription(product.getDescription());
+        response.setPrice(product.getPrice() == null ? null : product.getPrice().doubleValue());
+        return response;
+    }
+
+    public List<ProductResponse> toProductResponses(List<Product> products) {
+        if (products == null) {
+            return null;
+        }
+        List<ProductResponse> responses = new ArrayList<>(products.size());
+        for (Product product : products) {
+            responses.add(toResponse(product));
+        }
+        return responses;
+    }
+
+    /**
+     * Maps the scalar fields only; menu items are attached by the caller so that
+     * each product gets its owning restaurant set.
+     */
+    public Restaurant toEntity(RestaurantRequest request) {
+        return Restaurant.builder()
+                .name(request.getName())
+                .address(request.getAddress())
+                .build();
+    }
+
+    public Product toEntity(ProductRequest request) {
+        return Product.builder()
+                .name(request.getName())
+                .description(request.getDescription())
+                .price(request.getPrice() == null ? null : BigDecimal.valueOf(request.getPrice()))
+                .build();
+    }
+}
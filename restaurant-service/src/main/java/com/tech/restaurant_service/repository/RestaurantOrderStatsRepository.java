@@ -0,0 +1,30 @@
+package com.tech.restaurant_service.repository;
+
+import com.tech.restaurant_service.entity.RestaurantOrderStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RestaurantOrderStatsRepository extends JpaRepository<RestaurantOrderStats, Long> {
+
+    /**
+     * Adds to an existing minute row in place, so instances flushing the same
+     * minute do not overwrite each other. Returns 0 if the row does not exist yet.
+     */
+    @Modifying
+    @Query("update RestaurantOrderStats s set s.orderCount = s.orderCount + :orders, s.revenue = s.revenue + :revenue " +
+            "where s.restaurantId = :restaurantId and s.bucketStart = :bucketStart")
+    int increment(Long restaurantId, LocalDateTime bucketStart, long orders, BigDecimal revenue);
+
+    List<RestaurantOrderStats> findByRestaurantIdAndBucketStartGreaterThanEqualOrderByBucketStartAsc(Long restaurantId, LocalDateTime from);
+
+    @Modifying
+    @Query("delete from RestaurantOrderStats s where s.bucketStart < :before")
+    int deleteOlderThan(LocalDateTime before);
+}
@@ -0,0 +1,34 @@
+package com.tech.restaurant_service.repository;
+
+import com.tech.restaurant_service.dto.ProductOrderCount;
+import com.tech.restaurant_service.entity.RestaurantProductStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RestaurantProductStatsRepository extends JpaRepository<RestaurantProductStats, Long> {
+
+    /**
+     * Adds to an existing hour row in place. Returns 0 if the row does not exist yet.
+     */
+    @Modifying
+    @Query("update RestaurantProductStats s set s.quantity = s.quantity + :quantity " +
+            "where s.restaurantId = :restaurantId and s.bucketStart = :bucketStart and s.productId = :productId")
+    int increment(Long restaurantId, LocalDateTime bucketStart, Long productId, long quantity);
+
+    @Query("select new com.tech.restaurant_service.dto.ProductOrderCount(s.productId, sum(s.quantity)) " +
+            "from RestaurantProductStats s where s.restaurantId = :restaurantId and s.bucketStart >= :from " +
+            "group by s.productId")
+    List<ProductOrderCount> sumQuantitiesByProduct(Long restaurantId, LocalDateTime from);
+
+    List<RestaurantProductStats> findByBucketStartGreaterThanEqual(LocalDateTime from);
+
+    @Modifying
+    @Query("delete from RestaurantProductStats s where s.bucketStart < :before")
+    int deleteOlderThan(LocalDateTime before);
+}
@@ -1,14 +1,48 @@
 package com.tech.restaurant_service.repository;
 
+import com.tech.restaurant_service.dto.RestaurantSummaryResponse;
 import com.tech.restaurant_service.entity.Restaurant;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface RestaurantRepository extends JpaRepository<Restaurant, Long> {
+public interface RestaurantRepository extends JpaRepository<Restaurant, Long>, JpaSpecificationExecutor<Restaurant> {
+    // Menu is part of RestaurantResponse, so list queries fetch it in the same statement.
+    @Override
+    @EntityGraph(attributePaths = "menu")
+    List<Restaurant> findAll();
+
+    @EntityGraph(attributePaths = "menu")
     List<Restaurant> findByAddressContainingIgnoreCase(String city);
+
+    @Query("select distinct r from Restaurant r left join fetch r.menu " +
+            "where r.id in (select p.restaurant.id from Product p where lower(p.name) like lower(concat('%', :menuName, '%')))")
     List<Restaurant> findByMenuNameContainingIgnoreCase(String menuName);
+
+    @EntityGraph(attributePaths = "menu")
     List<Restaurant> findByNameContainingIgnoreCase(String name);
-}
\ No newline at end of file
+
+    @Query("select new com.tech.restaurant_service.dto.RestaurantSummaryResponse(r.id, r.name, r.address) " +
+            "from Restaurant r order by r.id")
+    List<RestaurantSummaryResponse> findAllSummaries();
+
+    // No fetch join here: it would make Hibernate apply the limit in memory.
+    // Menus are loaded with hibernate.default_batch_fetch_size instead.
+    List<Restaurant> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Restaurant> streamAllByOrderByIdAsc();
+}
@@ -0,0 +1,74 @@
+package com.tech.restaurant_service.repository;
+
+import com.tech.restaurant_service.entity.Product;
+import com.tech.restaurant_service.entity.Restaurant;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Locale;
+
+/**
+ * Composable predicates for restaurant search. Text predicates match
+ * case-insensitively anywhere in the field, like the derived
+ * {@code ...ContainingIgnoreCase} queries.
+ */
+public final class RestaurantSpecifications {
+
+    private static final char ESCAPE = '\\';
+
+    private RestaurantSpecifications() {
+    }
+
+    /**
+     * All non-null criteria combined with AND; matches every restaurant if none is given.
+     */
+    public static Specification<Restaurant> matching(String name, String city, String menuItem) {
+        Specification<Restaurant> spec = Specification.where(null);
+        if (name != null) {
+            spec = spec.and(nameContains(name));
+        }
+        if (city != null) {
+            spec = spec.and(addressContains(city));
+        }
+        if (menuItem != null) {
+            spec = spec.and(servesMenuItem(menuItem));
+        }
+        return spec;
+    }
+
+    public static Specification<Restaurant> nameContains(String name) {
+        return (root, query, cb) -> cb.like(cb.lower(root.get("name")), containsPattern(name), ESCAPE);
+    }
+
+    public static Specification<Restaurant> addressContains(String city) {
+        return (root, query, cb) -> cb.like(cb.lower(root.get("address")), containsPattern(city), ESCAPE);
+    }
+
+    /**
+     * Restaurants with at least one menu item whose name contains {@code menuItem}.
+     * Uses a correlated EXISTS so restaurants are not duplicated per matching item.
+     */
+    public static Specification<Restaurant> servesMenuItem(String menuItem) {
+        return (root, query, cb) -> {
+            Subquery<Long> items = query.subquery(Long.class);
+            Root<Product> product = items.from(Product.class);
+            items.select(product.get("id"))
+                    .where(cb.equal(product.get("restaurant"), root),
+                            cb.like(cb.lower(product.get("name")), containsPattern(menuItem), ESCAPE));
+            return cb.exists(items);
+        };
+    }
+
+    public static Specification<Restaurant> idGreaterThan(Long id) {
+        return (root, query, cb) -> cb.greaterThan(root.get("id"), id);
+    }
+
+    private static String containsPattern(String value) {
+        String escaped = value.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
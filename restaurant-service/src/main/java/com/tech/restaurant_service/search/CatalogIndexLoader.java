@@ -0,0 +1,47 @@
+package com.tech.restaurant_service.search;
+
+import com.tech.restaurant_service.mapper.RestaurantMapper;
+import com.tech.restaurant_service.repository.RestaurantRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Loads {@link CatalogSearchIndex} from the database: the whole catalog once
+ * the application is ready, and single restaurants on demand.
+ */
+@Component
+public class CatalogIndexLoader {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogIndexLoader.class);
+
+    private final RestaurantRepository restaurantRepository;
+    private final RestaurantMapper restaurantMapper;
+    private final CatalogSearchIndex searchIndex;
+
+    public CatalogIndexLoader(RestaurantRepository restaurantRepository, RestaurantMapper restaurantMapper,
+                              CatalogSearchIndex searchIndex) {
+        this.restaurantRepository = restaurantRepository;
+        this.restaurantMapper = restaurantMapper;
+        this.searchIndex = searchIndex;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long start = System.nanoTime();
+        searchIndex.reindexAll(restaurantMapper.toResponses(restaurantRepository.findAll()));
+        logger.info("Indexed {} restaurants and {} menu items for search in {} ms",
+                searchIndex.restaurantCount(), searchIndex.productCount(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @Transactional(readOnly = true)
+    public void refreshRestaurant(Long restaurantId) {
+        restaurantRepository.findById(restaurantId)
+                .map(restaurantMapper::toResponse)
+                .ifPresentOrElse(searchIndex::indexRestaurant, () -> searchIndex.removeRestaurant(restaurantId));
+    }
+}
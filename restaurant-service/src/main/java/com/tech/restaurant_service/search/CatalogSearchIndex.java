@@ -0,0 +1,275 @@
+package com.tech.restaurant_service.search;
+
+import com.tech.restaurant_service.dto.ProductResponse;
+import com.tech.restaurant_service.dto.RestaurantResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * In-memory search index over restaurant names, restaurant addresses and
+ * menu item names.
+ * <p>
+ * The index keeps its own copy of the catalog so searches never touch the
+ * database. {@code RestaurantServiceImpl} updates it on every local write, and
+ * {@link CatalogIndexLoader} fills it at startup and refreshes it when another
+ * replica reports a change.
+ */
+@Component
+public class CatalogSearchIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, IndexedRestaurant> restaurants = new HashMap<>();
+    private final Map<Long, IndexedProduct> products = new HashMap<>();
+    private final Map<Long, SortedSet<Long>> menus = new HashMap<>();
+
+    private final NGramIndex restaurantNames = new NGramIndex();
+    private final NGramIndex restaurantAddresses = new NGramIndex();
+    private final NGramIndex productNames = new NGramIndex();
+
+    /**
+     * Adds or replaces a restaurant. A non-null menu replaces the indexed
+     * menu; a null menu leaves it untouched.
+     */
+    public void indexRestaurant(RestaurantResponse restaurant) {
+        lock.writeLock().lock();
+        try {
+            putRestaurant(restaurant);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the whole index with {@code catalog}.
+     */
+    public void reindexAll(Collection<RestaurantResponse> catalog) {
+        lock.writeLock().lock();
+        try {
+            restaurants.clear();
+            products.clear();
+            menus.clear();
+            restaurantNames.clear();
+            restaurantAddresses.clear();
+            productNames.clear();
+            catalog.forEach(this::putRestaurant);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeRestaurant(Long restaurantId) {
+        lock.writeLock().lock();
+        try {
+            restaurants.remove(restaurantId);
+            restaurantNames.remove(restaurantId);
+            restaurantAddresses.remove(restaurantId);
+            removeMenu(restaurantId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void indexProduct(Long restaurantId, ProductResponse product) {
+        lock.writeLock().lock();
+        try {
+            putProduct(restaurantId, product);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeProduct(Long productId) {
+        lock.writeLock().lock();
+        try {
+            deleteProduct(productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<RestaurantResponse> searchRestaurantsByName(String name, int limit) {
+        lock.readLock().lock();
+        try {
+            return toRestaurants(restaurantNames.search(name, limit), limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<RestaurantResponse> searchRestaurantsByCity(String city, int limit) {
+        lock.readLock().lock();
+        try {
+            return toRestaurants(restaurantAddresses.search(city, limit), limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Restaurants serving a matching item, ranked by their best matching item.
+     */
+    public List<RestaurantResponse> searchRestaurantsByMenuItem(String menuItemName, int limit) {
+        lock.readLock().lock();
+        try {
+            Map<Long, NGramIndex.Match> best = new HashMap<>();
+            for (NGramIndex.Match match : productNames.matches(menuItemName)) {
+                Long restaurantId = products.get(match.id()).restaurantId();
+                if (restaurants.containsKey(restaurantId)) {
+                    NGramIndex.Match restaurantMatch = new NGramIndex.Match(restaurantId, match.rank(), match.length());
+                    best.merge(restaurantId, restaurantMatch,
+                            (a, b) -> a.compareTo(b) <= 0 ? a : b);
+                }
+            }
+            List<Long> restaurantIds = new ArrayList<>(best.size());
+            for (NGramIndex.Match match : NGramIndex.top(new ArrayList<>(best.values()), limit)) {
+                restaurantIds.add(match.id());
+            }
+            return toRestaurants(restaurantIds, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<ProductResponse> searchMenuItemsByName(String name, int limit) {
+        lock.readLock().lock();
+        try {
+            List<Long> productIds = productNames.search(name, limit);
+            List<ProductResponse> result = new ArrayList<>(productIds.size());
+            for (Long productId : productIds) {
+                result.add(products.get(productId).product());
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Menu items containing {@code name}, most popular first and best match
+     * among equally popular ones.
+     */
+    public List<ProductResponse> searchMenuItemsByName(String name, int limit, ToDoubleFunction<Long> popularity) {
+        lock.readLock().lock();
+        try {
+            List<NGramIndex.Match> matches = productNames.matches(name);
+            Map<Long, Double> scores = new HashMap<>(matches.size());
+            for (NGramIndex.Match match : matches) {
+                scores.put(match.id(), popularity.applyAsDouble(match.id()));
+            }
+            Comparator<NGramIndex.Match> byPopularity = Comparator.comparingDouble((NGramIndex.Match match) -> scores.get(match.id()))
+                    .reversed()
+                    .thenComparing(Comparator.naturalOrder());
+            List<ProductResponse> result = new ArrayList<>(Math.min(limit, matches.size()));
+            for (NGramIndex.Match match : NGramIndex.top(matches, limit, byPopularity)) {
+                result.add(products.get(match.id()).product());
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int restaurantCount() {
+        lock.readLock().lock();
+        try {
+            return restaurants.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int productCount() {
+        lock.readLock().lock();
+        try {
+            return products.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void putRestaurant(RestaurantResponse restaurant) {
+        Long id = restaurant.getId();
+        restaurants.put(id, new IndexedRestaurant(id, restaurant.getName(), restaurant.getAddress()));
+        restaurantNames.put(id, restaurant.getName());
+        restaurantAddresses.put(id, restaurant.getAddress());
+        if (restaurant.getMenu() != null) {
+            removeMenu(id);
+            restaurant.getMenu().forEach(product -> putProduct(id, product));
+        }
+    }
+
+    private void putProduct(Long restaurantId, ProductResponse product) {
+        deleteProduct(product.getId());
+        products.put(product.getId(), new IndexedProduct(restaurantId, product));
+        menus.computeIfAbsent(restaurantId, id -> new TreeSet<>()).add(product.getId());
+        productNames.put(product.getId(), product.getName());
+    }
+
+    private void deleteProduct(Long productId) {
+        IndexedProduct removed = products.remove(productId);
+        if (removed == null) {
+            return;
+        }
+        productNames.remove(productId);
+        SortedSet<Long> menu = menus.get(removed.restaurantId());
+        if (menu != null && menu.remove(productId) && menu.isEmpty()) {
+            menus.remove(removed.restaurantId());
+        }
+    }
+
+    private void removeMenu(Long restaurantId) {
+        SortedSet<Long> menu = menus.remove(restaurantId);
+        if (menu != null) {
+            for (Long productId : menu) {
+                products.remove(productId);
+                productNames.remove(productId);
+            }
+        }
+    }
+
+    private List<RestaurantResponse> toRestaurants(Collection<Long> restaurantIds, int limit) {
+        List<RestaurantResponse> result = new ArrayList<>(Math.min(restaurantIds.size(), limit));
+        for (Long restaurantId : restaurantIds) {
+            if (result.size() == limit) {
+                break;
+            }
+            IndexedRestaurant restaurant = restaurants.get(restaurantId);
+            if (restaurant != null) {
+                result.add(toResponse(restaurant));
+            }
+        }
+        return result;
+    }
+
+    private RestaurantResponse toResponse(IndexedRestaurant restaurant) {
+        RestaurantResponse response = new RestaurantResponse();
+        response.setId(restaurant.id());
+        response.setName(restaurant.name());
+        response.setAddress(restaurant.address());
+        SortedSet<Long> menu = menus.getOrDefault(restaurant.id(), new TreeSet<>());
+        List<ProductResponse> items = new ArrayList<>(menu.size());
+        for (Long productId : menu) {
+            items.add(products.get(productId).product());
+        }
+        response.setMenu(items);
+        return response;
+    }
+
+    private record IndexedRestaurant(Long id, String name, String address) {
+    }
+
+    private record IndexedProduct(Long restaurantId, ProductResponse product) {
+    }
+}
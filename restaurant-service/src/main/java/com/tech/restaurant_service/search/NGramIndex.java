@@ -0,0 +1,201 @@
+package com.tech.restaurant_service.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Inverted index from case- and accent-folded n-grams to document ids.
+ * <p>
+ * Every substring of one to {@value #MAX_GRAM} characters is posted, so a query
+ * of any length narrows to the postings of its rarest gram before the final
+ * substring check. Matches keep {@code LIKE '%query%'} semantics and are
+ * ranked: whole-field match, then prefix, then word prefix, then anywhere;
+ * shorter fields first within a rank.
+ * <p>
+ * Not thread-safe; {@link CatalogSearchIndex} guards all access.
+ */
+final class NGramIndex {
+
+    static final int MAX_GRAM = 3;
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private final Map<Long, String> texts = new HashMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+
+    void put(Long id, String text) {
+        remove(id);
+        if (text == null) {
+            return;
+        }
+        String folded = fold(text);
+        texts.put(id, folded);
+        for (String gram : grams(folded)) {
+            postings.computeIfAbsent(gram, g -> new HashSet<>()).add(id);
+        }
+    }
+
+    void remove(Long id) {
+        String folded = texts.remove(id);
+        if (folded == null) {
+            return;
+        }
+        for (String gram : grams(folded)) {
+            Set<Long> ids = postings.get(gram);
+            if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    void clear() {
+        texts.clear();
+        postings.clear();
+    }
+
+    int size() {
+        return texts.size();
+    }
+
+    /**
+     * Ids of the best {@code limit} documents containing {@code query}, best first.
+     */
+    List<Long> search(String query, int limit) {
+        List<Match> top = top(matches(query), limit);
+        List<Long> ids = new ArrayList<>(top.size());
+        for (Match match : top) {
+            ids.add(match.id());
+        }
+        return ids;
+    }
+
+    /**
+     * Every document containing {@code query}, in no particular order.
+     */
+    List<Match> matches(String query) {
+        String folded = fold(query).trim();
+        List<Match> matches = new ArrayList<>();
+        if (folded.isEmpty()) {
+            texts.forEach((id, text) -> matches.add(new Match(id, rank(text, folded), text.length())));
+            return matches;
+        }
+        // Every document holding the query also holds its rarest gram, so those
+        // postings are the only candidates; the substring check does the rest.
+        for (Long id : rarestPostings(folded)) {
+            String text = texts.get(id);
+            int rank = rank(text, folded);
+            if (rank >= 0) {
+                matches.add(new Match(id, rank, text.length()));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * The best {@code limit} of {@code matches}, best first, without sorting
+     * the whole list.
+     */
+    static List<Match> top(List<Match> matches, int limit) {
+        return top(matches, limit, Comparator.naturalOrder());
+    }
+
+    /**
+     * The first {@code limit} of {@code matches} in {@code order}, without
+     * sorting the whole list.
+     */
+    static List<Match> top(List<Match> matches, int limit, Comparator<Match> order) {
+        if (matches.size() <= limit) {
+            matches.sort(order);
+            return matches;
+        }
+        // Max-heap of the best matches so far; its head is the one to beat.
+        PriorityQueue<Match> heap = new PriorityQueue<>(limit + 1, order.reversed());
+        for (Match match : matches) {
+            if (heap.size() < limit) {
+                heap.offer(match);
+            } else if (order.compare(match, heap.peek()) < 0) {
+                heap.poll();
+                heap.offer(match);
+            }
+        }
+        List<Match> top = new ArrayList<>(heap);
+        top.sort(order);
+        return top;
+    }
+
+    private Set<Long> rarestPostings(String query) {
+        int gramLength = Math.min(query.length(), MAX_GRAM);
+        Set<Long> rarest = null;
+        for (int i = 0; i + gramLength <= query.length(); i++) {
+            Set<Long> ids = postings.get(query.substring(i, i + gramLength));
+            if (ids == null) {
+                return Set.of();
+            }
+            if (rarest == null || ids.size() < rarest.size()) {
+                rarest = ids;
+            }
+        }
+        return rarest;
+    }
+
+    // Lower is better; -1 means no match.
+    private static int rank(String text, String query) {
+        int index = text.indexOf(query);
+        if (index < 0) {
+            return -1;
+        }
+        if (text.length() == query.length()) {
+            return 0;
+        }
+        if (index == 0) {
+            return 1;
+        }
+        for (; index > 0; index = text.indexOf(query, index + 1)) {
+            if (!Character.isLetterOrDigit(text.charAt(index - 1))) {
+                return 2;
+            }
+        }
+        return 3;
+    }
+
+    private static Set<String> grams(String folded) {
+        Set<String> grams = new HashSet<>();
+        for (int n = 1; n <= MAX_GRAM; n++) {
+            for (int i = 0; i + n <= folded.length(); i++) {
+                grams.add(folded.substring(i, i + n));
+            }
+        }
+        return grams;
+    }
+
+    static String fold(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Ordered best first: lower rank, then shorter field, then lower id.
+     */
+    record Match(long id, int rank, int length) implements Comparable<Match> {
+
+        @Override
+        public int compareTo(Match other) {
+            if (rank != other.rank) {
+                return Integer.compare(rank, other.rank);
+            }
+            if (length != other.length) {
+                return Integer.compare(length, other.length);
+            }
+            return Long.compare(id, other.id);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.tech.restaurant_service.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+@Service
+public class MenuInvalidationProducer {
+
+    public static final String TOPIC = "menu-invalidation-events";
+    private static final Logger LOGGER = LoggerFactory.getLogger(MenuInvalidationProducer.class);
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+
+    public MenuInvalidationProducer(KafkaTemplate<String, String> kafkaTemplate) {
+        this.kafkaTemplate = kafkaTemplate;
+    }
+
+    public void sendMenuInvalidation(Long restaurantId) {
+        String key = restaurantId.toString();
+        try {
+            kafkaTemplate.send(TOPIC, key, key)
+                    .whenComplete((result, ex) -> {
+                        if (ex != null) {
+                            LOGGER.error("Error sending menu invalidation for restaurant ID {}", restaurantId, ex);
+                        }
+                    });
+            LOGGER.debug("Produced menu invalidation for restaurant ID {}", restaurantId);
+        } catch (Exception e) {
+            LOGGER.error("Error sending menu invalidation for restaurant ID {}", restaurantId, e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.tech.restaurant_service.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tech.shared_events.event.ProductPriceChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+
+/**
+ * Publishes menu item prices to {@code product-price-events}, keyed by product
+ * ID, so order-service can price orders from its local copy.
+ */
+@Service
+public class ProductPriceProducer {
+
+    public static final String TOPIC = "product-price-events";
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProductPriceProducer.class);
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+
+    public ProductPriceProducer(KafkaTemplate<String, String> kafkaTemplate, ObjectMapper objectMapper) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    public void sendPriceChange(Long restaurantId, Long productId, BigDecimal price) {
+        try {
+            String payload = objectMapper.writeValueAsString(new ProductPriceChangedEvent(productId, restaurantId, price));
+            kafkaTemplate.send(TOPIC, productId.toString(), payload)
+                    .whenComplete((result, ex) -> {
+                        if (ex != null) {
+                            LOGGER.error("Error sending price change for menu item ID {}", productId, ex);
+                        }
+                    });
+            LOGGER.debug("Produced price change for menu item ID {}", productId);
+        } catch (JsonProcessingException e) {
+            LOGGER.error("Could not serialize price change for menu item ID {}", productId, e);
+        } catch (Exception e) {
+            LOGGER.error("Error sending price change for menu item ID {}", productId, e);
+        }
+    }
+
+    public void sendRemoval(Long restaurantId, Long productId) {
+        sendPriceChange(restaurantId, productId, null);
+    }
+}
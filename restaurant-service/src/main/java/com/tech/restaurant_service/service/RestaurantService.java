@@ -1,16 +1,23 @@
 package com.tech.restaurant_service.service;
 
+import com.tech.restaurant_service.dto.CursorPageResponse;
 import com.tech.restaurant_service.dto.ProductRequest;
 import com.tech.restaurant_service.dto.ProductResponse;
 import com.tech.restaurant_service.dto.RestaurantRequest;
 import com.tech.restaurant_service.dto.RestaurantResponse;
+import com.tech.restaurant_service.dto.RestaurantStatsResponse;
+import com.tech.restaurant_service.dto.RestaurantSummaryResponse;
 import com.tech.restaurant_service.entity.Restaurant;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface RestaurantService {
     List<RestaurantResponse> getAllRestaurants();
+    List<RestaurantSummaryResponse> getRestaurantSummaries();
+    CursorPageResponse<RestaurantResponse> getRestaurantsPage(Long after, int limit);
+    void streamAllRestaurants(Consumer<RestaurantResponse> consumer);
     Optional<RestaurantResponse> getRestaurantById(Long id);
     RestaurantResponse createRestaurant(RestaurantRequest restaurantRequest);
     RestaurantResponse updateRestaurant(Long id, RestaurantRequest updatedRestaurantRequest);
@@ -19,10 +26,16 @@ public interface RestaurantService {
     ProductResponse updateMenuItem(Long restaurantId, Long menuItemId, ProductRequest productRequest);
     void deleteMenuItem(Long restaurantId, Long menuItemId);
     List<ProductResponse> getMenuForRestaurant(Long restaurantId);
+    List<ProductResponse> getPopularMenuForRestaurant(Long restaurantId);
     Optional<ProductResponse> getMenuItemById(Long restaurantId, Long menuItemId);
     List<ProductResponse> getAllMenuItems();
-    List<ProductResponse> searchMenuItemsByName(String name);
-    List<RestaurantResponse> searchRestaurantsByMenuItem(String menuItemName);
-    List<RestaurantResponse> searchRestaurantsByCity(String city);
-    List<RestaurantResponse> searchRestaurantsByName(String name);
+    CursorPageResponse<ProductResponse> getMenuItemsPage(Long after, int limit);
+    void streamAllMenuItems(Consumer<ProductResponse> consumer);
+    List<ProductResponse> searchMenuItemsByName(String name, int limit);
+    List<ProductResponse> searchPopularMenuItemsByName(String name, int limit);
+    List<RestaurantResponse> searchRestaurantsByMenuItem(String menuItemName, int limit);
+    List<RestaurantResponse> searchRestaurantsByCity(String city, int limit);
+    List<RestaurantResponse> searchRestaurantsByName(String name, int limit);
+    CursorPageResponse<RestaurantResponse> searchRestaurants(String name, String city, String menuItem, Long after, int limit);
+    RestaurantStatsResponse getRestaurantStats(Long restaurantId);
 }
\ No newline at end of file
@@ -1,26 +1,44 @@
 package com.tech.restaurant_service.service;
 
+import com.tech.restaurant_service.cache.MenuCache;
+import com.tech.restaurant_service.dto.CursorPageResponse;
 import com.tech.restaurant_service.dto.ProductRequest;
 import com.tech.restaurant_service.dto.ProductResponse;
 import com.tech.restaurant_service.dto.RestaurantRequest;
 import com.tech.restaurant_service.dto.RestaurantResponse;
+import com.tech.restaurant_service.dto.RestaurantStatsResponse;
+import com.tech.restaurant_service.dto.RestaurantSummaryResponse;
 import com.tech.restaurant_service.entity.Product;
 import com.tech.restaurant_service.entity.Restaurant;
 import com.tech.restaurant_service.exception.AccessDeniedException;
 import com.tech.restaurant_service.exception.ResourceNotFoundException;
+import com.tech.restaurant_service.mapper.RestaurantMapper;
 import com.tech.restaurant_service.repository.ProductRepository;
 import com.tech.restaurant_service.repository.RestaurantRepository;
-import org.modelmapper.ModelMapper;
+import com.tech.restaurant_service.repository.RestaurantSpecifications;
+import com.tech.restaurant_service.search.CatalogSearchIndex;
+import com.tech.restaurant_service.stats.OrderStatsAggregator;
+import com.tech.restaurant_service.stats.ProductPopularity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @Service
 @Slf4j
@@ -28,32 +46,80 @@ public class RestaurantServiceImpl implements RestaurantService {
 
     private static final Logger logger = LoggerFactory.getLogger(RestaurantServiceImpl.class);
 
+    static final int MAX_PAGE_SIZE = 500;
+
     private final RestaurantRepository restaurantRepository;
     private final ProductRepository productRepository;
-    private final ModelMapper modelMapper;
+    private final RestaurantMapper restaurantMapper;
+    private final MenuCache menuCache;
+    private final MenuInvalidationProducer menuInvalidationProducer;
+    private final ProductPriceProducer productPriceProducer;
+    private final CatalogSearchIndex searchIndex;
+    private final OrderStatsAggregator orderStatsAggregator;
+    private final ProductPopularity productPopularity;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     @Autowired
-    public RestaurantServiceImpl(RestaurantRepository restaurantRepository, ProductRepository productRepository, ModelMapper modelMapper) {
+    public RestaurantServiceImpl(RestaurantRepository restaurantRepository, ProductRepository productRepository, RestaurantMapper restaurantMapper,
+                                 MenuCache menuCache, MenuInvalidationProducer menuInvalidationProducer,
+                                 ProductPriceProducer productPriceProducer, CatalogSearchIndex searchIndex,
+                                 OrderStatsAggregator orderStatsAggregator, ProductPopularity productPopularity) {
         this.restaurantRepository = restaurantRepository;
         this.productRepository = productRepository;
-        this.modelMapper = modelMapper;
+        this.restaurantMapper = restaurantMapper;
+        this.menuCache = menuCache;
+        this.menuInvalidationProducer = menuInvalidationProducer;
+        this.productPriceProducer = productPriceProducer;
+        this.searchIndex = searchIndex;
+        this.orderStatsAggregator = orderStatsAggregator;
+        this.productPopularity = productPopularity;
     }
 
     @Override
     public List<RestaurantResponse> getAllRestaurants() {
         logger.info("Fetching all restaurants");
-        List<RestaurantResponse> restaurants = restaurantRepository.findAll().stream()
-                .map(restaurant -> modelMapper.map(restaurant, RestaurantResponse.class))
-                .collect(Collectors.toList());
+        List<RestaurantResponse> restaurants = restaurantMapper.toResponses(restaurantRepository.findAll());
         logger.info("Fetched {} restaurants", restaurants.size());
         return restaurants;
     }
 
+    @Override
+    public List<RestaurantSummaryResponse> getRestaurantSummaries() {
+        logger.info("Fetching restaurant summaries");
+        List<RestaurantSummaryResponse> summaries = restaurantRepository.findAllSummaries();
+        logger.info("Fetched {} restaurant summaries", summaries.size());
+        return summaries;
+    }
+
+    @Override
+    public CursorPageResponse<RestaurantResponse> getRestaurantsPage(Long after, int limit) {
+        int pageSize = clampPageSize(limit);
+        logger.info("Fetching restaurants after ID {} (limit {})", after, pageSize);
+        List<Restaurant> rows = restaurantRepository.findByIdGreaterThanOrderByIdAsc(cursorOrStart(after), Limit.of(pageSize + 1));
+        CursorPageResponse<RestaurantResponse> page = toPage(rows, pageSize, Restaurant::getId, restaurantMapper::toResponses);
+        logger.info("Fetched {} restaurants, next cursor {}", page.getItems().size(), page.getNextCursor());
+        return page;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllRestaurants(Consumer<RestaurantResponse> consumer) {
+        logger.info("Streaming all restaurants");
+        try (Stream<Restaurant> restaurants = restaurantRepository.streamAllByOrderByIdAsc()) {
+            restaurants.forEach(restaurant -> {
+                consumer.accept(restaurantMapper.toResponse(restaurant));
+                detach(restaurant);
+            });
+        }
+    }
+
     @Override
     public Optional<RestaurantResponse> getRestaurantById(Long id) {
         logger.info("Fetching restaurant with ID: {}", id);
         Optional<RestaurantResponse> restaurant = restaurantRepository.findById(id)
-                .map(r -> modelMapper.map(r, RestaurantResponse.class));
+                .map(restaurantMapper::toResponse);
         restaurant.ifPresentOrElse(
                 r -> logger.info("Found restaurant with ID: {}", id),
                 () -> logger.warn("Restaurant with ID {} not found", id)
@@ -64,17 +130,20 @@ public class RestaurantServiceImpl implements RestaurantService {
     @Override
     public RestaurantResponse createRestaurant(RestaurantRequest restaurantRequest) {
         logger.info("Creating new restaurant: {}", restaurantRequest.getName());
-        Restaurant restaurant = modelMapper.map(restaurantRequest, Restaurant.class);
+        Restaurant restaurant = restaurantMapper.toEntity(restaurantRequest);
         if (restaurantRequest.getMenu() != null) {
             restaurantRequest.getMenu().forEach(productRequest -> {
-                Product product = modelMapper.map(productRequest, Product.class);
+                Product product = restaurantMapper.toEntity(productRequest);
                 product.setRestaurant(restaurant);
                 restaurant.getMenu().add(product);
             });
         }
         Restaurant savedRestaurant = restaurantRepository.save(restaurant);
+        RestaurantResponse response = restaurantMapper.toResponse(savedRestaurant);
+        searchIndex.indexRestaurant(response);
+        publishChange(savedRestaurant.getId());
         logger.info("Restaurant created with ID: {}", savedRestaurant.getId());
-        return modelMapper.map(savedRestaurant, RestaurantResponse.class);
+        return response;
     }
 
     @Override
@@ -85,8 +154,11 @@ public class RestaurantServiceImpl implements RestaurantService {
                     restaurant.setName(updatedRestaurantRequest.getName());
                     restaurant.setAddress(updatedRestaurantRequest.getAddress());
                     Restaurant updated = restaurantRepository.save(restaurant);
+                    RestaurantResponse response = restaurantMapper.toResponse(updated);
+                    searchIndex.indexRestaurant(response);
+                    publishChange(id);
                     logger.info("Restaurant with ID {} updated successfully", id);
-                    return modelMapper.map(updated, RestaurantResponse.class);
+                    return response;
                 })
                 .orElseThrow(() -> {
                     logger.error("Failed to update: Restaurant with ID {} not found", id);
@@ -97,7 +169,12 @@ public class RestaurantServiceImpl implements RestaurantService {
     @Override
     public void deleteRestaurant(Long id) {
         logger.info("Deleting restaurant with ID: {}", id);
+        // The menu goes with the restaurant, so order-service must stop pricing each of its items.
+        List<Long> menuItemIds = productRepository.findIdsByRestaurantId(id);
         restaurantRepository.deleteById(id);
+        searchIndex.removeRestaurant(id);
+        evictMenu(id);
+        menuItemIds.forEach(menuItemId -> productPriceProducer.sendRemoval(id, menuItemId));
         logger.info("Restaurant with ID {} deleted successfully", id);
     }
 
@@ -106,11 +183,15 @@ public class RestaurantServiceImpl implements RestaurantService {
         logger.info("Adding menu item '{}' to restaurant ID: {}", productRequest.getName(), restaurantId);
         return restaurantRepository.findById(restaurantId)
                 .map(restaurant -> {
-                    Product menuItem = modelMapper.map(productRequest, Product.class);
+                    Product menuItem = restaurantMapper.toEntity(productRequest);
                     menuItem.setRestaurant(restaurant);
                     Product savedMenuItem = productRepository.save(menuItem);
+                    ProductResponse response = restaurantMapper.toResponse(savedMenuItem);
+                    searchIndex.indexProduct(restaurantId, response);
+                    evictMenu(restaurantId);
+                    productPriceProducer.sendPriceChange(restaurantId, savedMenuItem.getId(), savedMenuItem.getPrice());
                     logger.info("Menu item '{}' added to restaurant ID {}", productRequest.getName(), restaurantId);
-                    return modelMapper.map(savedMenuItem, ProductResponse.class);
+                    return response;
                 })
                 .orElseThrow(() -> {
                     logger.error("Failed to add menu item: Restaurant with ID {} not found", restaurantId);
@@ -131,8 +212,12 @@ public class RestaurantServiceImpl implements RestaurantService {
                     menuItem.setDescription(productRequest.getDescription());
                     menuItem.setPrice(BigDecimal.valueOf(productRequest.getPrice()));
                     Product updated = productRepository.save(menuItem);
+                    ProductResponse response = restaurantMapper.toResponse(updated);
+                    searchIndex.indexProduct(restaurantId, response);
+                    evictMenu(restaurantId);
+                    productPriceProducer.sendPriceChange(restaurantId, menuItemId, updated.getPrice());
                     logger.info("Menu item ID {} for restaurant ID {} updated successfully", menuItemId, restaurantId);
-                    return modelMapper.map(updated, ProductResponse.class);
+                    return response;
                 })
                 .orElseThrow(() -> {
                     logger.error("Failed to update menu item: Menu item ID {} not found", menuItemId);
@@ -150,6 +235,9 @@ public class RestaurantServiceImpl implements RestaurantService {
                         throw new AccessDeniedException("Menu item does not belong to this restaurant");
                     }
                     productRepository.delete(menuItem);
+                    searchIndex.removeProduct(menuItemId);
+                    evictMenu(restaurantId);
+                    productPriceProducer.sendRemoval(restaurantId, menuItemId);
                     logger.info("Menu item ID {} from restaurant ID {} deleted successfully", menuItemId, restaurantId);
                 }, () -> {
                     logger.error("Failed to delete menu item: Menu item ID {} not found", menuItemId);
@@ -160,24 +248,31 @@ public class RestaurantServiceImpl implements RestaurantService {
     @Override
     public List<ProductResponse> getMenuForRestaurant(Long restaurantId) {
         logger.info("Fetching menu for restaurant ID: {}", restaurantId);
-        List<ProductResponse> menu = restaurantRepository.findById(restaurantId)
-                .map(restaurant -> restaurant.getMenu().stream()
-                        .map(product -> modelMapper.map(product, ProductResponse.class))
-                        .collect(Collectors.toList()))
+        List<ProductResponse> menu = menuCache.getOrLoad(restaurantId, () -> restaurantRepository.findById(restaurantId)
+                .map(restaurant -> restaurantMapper.toProductResponses(restaurant.getMenu()))
                 .orElseThrow(() -> {
                     logger.error("Failed to fetch menu: Restaurant with ID {} not found", restaurantId);
                     return new ResourceNotFoundException("Restaurant not found with id " + restaurantId);
-                });
+                }));
         logger.info("Fetched {} menu items for restaurant ID {}", menu.size(), restaurantId);
         return menu;
     }
 
+    @Override
+    public List<ProductResponse> getPopularMenuForRestaurant(Long restaurantId) {
+        List<ProductResponse> menu = new ArrayList<>(getMenuForRestaurant(restaurantId));
+        ProductPopularity.Scores scores = productPopularity.scores();
+        menu.sort(Comparator.comparingDouble((ProductResponse item) -> scores.of(item.getId())).reversed()
+                .thenComparing(ProductResponse::getId));
+        return menu;
+    }
+
     @Override
     public Optional<ProductResponse> getMenuItemById(Long restaurantId, Long menuItemId) {
         logger.info("Fetching menu item ID {} for restaurant ID: {}", menuItemId, restaurantId);
         Optional<ProductResponse> menuItem = productRepository.findById(menuItemId)
                 .filter(item -> item.getRestaurant().getId().equals(restaurantId))
-                .map(item -> modelMapper.map(item, ProductResponse.class));
+                .map(restaurantMapper::toResponse);
         menuItem.ifPresentOrElse(
                 item -> logger.info("Found menu item ID {} for restaurant ID {}", menuItemId, restaurantId),
                 () -> logger.warn("Menu item ID {} for restaurant ID {} not found", menuItemId, restaurantId)
@@ -188,50 +283,129 @@ public class RestaurantServiceImpl implements RestaurantService {
     @Override
     public List<ProductResponse> getAllMenuItems() {
         logger.info("Fetching all menu items");
-        List<ProductResponse> menuItems = productRepository.findAll().stream()
-                .map(product -> modelMapper.map(product, ProductResponse.class))
-                .collect(Collectors.toList());
+        List<ProductResponse> menuItems = restaurantMapper.toProductResponses(productRepository.findAll());
         logger.info("Fetched {} menu items", menuItems.size());
         return menuItems;
     }
 
     @Override
-    public List<ProductResponse> searchMenuItemsByName(String name) {
+    public CursorPageResponse<ProductResponse> getMenuItemsPage(Long after, int limit) {
+        int pageSize = clampPageSize(limit);
+        logger.info("Fetching menu items after ID {} (limit {})", after, pageSize);
+        List<Product> rows = productRepository.findByIdGreaterThanOrderByIdAsc(cursorOrStart(after), Limit.of(pageSize + 1));
+        CursorPageResponse<ProductResponse> page = toPage(rows, pageSize, Product::getId, restaurantMapper::toProductResponses);
+        logger.info("Fetched {} menu items, next cursor {}", page.getItems().size(), page.getNextCursor());
+        return page;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllMenuItems(Consumer<ProductResponse> consumer) {
+        logger.info("Streaming all menu items");
+        try (Stream<Product> products = productRepository.streamAllByOrderByIdAsc()) {
+            products.forEach(product -> {
+                consumer.accept(restaurantMapper.toResponse(product));
+                detach(product);
+            });
+        }
+    }
+
+    @Override
+    public List<ProductResponse> searchMenuItemsByName(String name, int limit) {
         logger.info("Searching menu items by name: {}", name);
-        List<ProductResponse> menuItems = productRepository.findByNameContainingIgnoreCase(name).stream()
-                .map(product -> modelMapper.map(product, ProductResponse.class))
-                .collect(Collectors.toList());
+        List<ProductResponse> menuItems = searchIndex.searchMenuItemsByName(name, clampPageSize(limit));
         logger.info("Found {} menu items matching name '{}'", menuItems.size(), name);
         return menuItems;
     }
 
     @Override
-    public List<RestaurantResponse> searchRestaurantsByMenuItem(String menuItemName) {
+    public List<ProductResponse> searchPopularMenuItemsByName(String name, int limit) {
+        logger.info("Searching menu items by name, most popular first: {}", name);
+        List<ProductResponse> menuItems = searchIndex.searchMenuItemsByName(name, clampPageSize(limit), productPopularity.scores()::of);
+        logger.info("Found {} menu items matching name '{}'", menuItems.size(), name);
+        return menuItems;
+    }
+
+    @Override
+    public List<RestaurantResponse> searchRestaurantsByMenuItem(String menuItemName, int limit) {
         logger.info("Searching restaurants by menu item: {}", menuItemName);
-        List<RestaurantResponse> restaurants = restaurantRepository.findByMenuNameContainingIgnoreCase(menuItemName).stream()
-                .map(restaurant -> modelMapper.map(restaurant, RestaurantResponse.class))
-                .collect(Collectors.toList());
+        List<RestaurantResponse> restaurants = searchIndex.searchRestaurantsByMenuItem(menuItemName, clampPageSize(limit));
         logger.info("Found {} restaurants with menu item '{}'", restaurants.size(), menuItemName);
         return restaurants;
     }
 
     @Override
-    public List<RestaurantResponse> searchRestaurantsByCity(String city) {
+    public List<RestaurantResponse> searchRestaurantsByCity(String city, int limit) {
         logger.info("Searching restaurants by city: {}", city);
-        List<RestaurantResponse> restaurants = restaurantRepository.findByAddressContainingIgnoreCase(city).stream()
-                .map(restaurant -> modelMapper.map(restaurant, RestaurantResponse.class))
-                .collect(Collectors.toList());
+        List<RestaurantResponse> restaurants = searchIndex.searchRestaurantsByCity(city, clampPageSize(limit));
         logger.info("Found {} restaurants in city '{}'", restaurants.size(), city);
         return restaurants;
     }
 
     @Override
-    public List<RestaurantResponse> searchRestaurantsByName(String name) {
+    public List<RestaurantResponse> searchRestaurantsByName(String name, int limit) {
         logger.info("Searching restaurants by name: {}", name);
-        List<RestaurantResponse> restaurants = restaurantRepository.findByNameContainingIgnoreCase(name).stream()
-                .map(restaurant -> modelMapper.map(restaurant, RestaurantResponse.class))
-                .collect(Collectors.toList());
+        List<RestaurantResponse> restaurants = searchIndex.searchRestaurantsByName(name, clampPageSize(limit));
         logger.info("Found {} restaurants matching name '{}'", restaurants.size(), name);
         return restaurants;
     }
+
+    @Override
+    public CursorPageResponse<RestaurantResponse> searchRestaurants(String name, String city, String menuItem, Long after, int limit) {
+        int pageSize = clampPageSize(limit);
+        logger.info("Searching restaurants with name: {}, city: {}, menuItem: {} after ID {} (limit {})", name, city, menuItem, after, pageSize);
+        Specification<Restaurant> spec = RestaurantSpecifications.matching(name, city, menuItem)
+                .and(RestaurantSpecifications.idGreaterThan(cursorOrStart(after)));
+        List<Restaurant> rows = restaurantRepository.findBy(spec, query -> query.sortBy(Sort.by("id")).limit(pageSize + 1).all());
+        CursorPageResponse<RestaurantResponse> page = toPage(rows, pageSize, Restaurant::getId, restaurantMapper::toResponses);
+        logger.info("Found {} restaurants, next cursor {}", page.getItems().size(), page.getNextCursor());
+        return page;
+    }
+
+    private void evictMenu(Long restaurantId) {
+        menuCache.invalidate(restaurantId);
+        publishChange(restaurantId);
+    }
+
+    // Other replicas drop their cached menu and re-index the restaurant on this message.
+    private void publishChange(Long restaurantId) {
+        menuInvalidationProducer.sendMenuInvalidation(restaurantId);
+    }
+
+    private static int clampPageSize(int limit) {
+        return Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+    }
+
+    private static Long cursorOrStart(Long after) {
+        return after == null ? 0L : after;
+    }
+
+    /**
+     * Rows are fetched with one extra element so the last page can be detected
+     * without a separate count query.
+     */
+    private static <E, R> CursorPageResponse<R> toPage(List<E> rows, int pageSize, Function<E, Long> idOf,
+                                                        Function<List<E>, List<R>> mapper) {
+        boolean hasMore = rows.size() > pageSize;
+        List<E> pageRows = hasMore ? rows.subList(0, pageSize) : rows;
+        Long nextCursor = hasMore ? idOf.apply(pageRows.get(pageRows.size() - 1)) : null;
+        return new CursorPageResponse<>(mapper.apply(pageRows), nextCursor);
+    }
+
+    @Override
+    public RestaurantStatsResponse getRestaurantStats(Long restaurantId) {
+        logger.info("Fetching order stats for restaurant ID: {}", restaurantId);
+        if (!restaurantRepository.existsById(restaurantId)) {
+            logger.error("Failed to fetch stats: Restaurant with ID {} not found", restaurantId);
+            throw new ResourceNotFoundException("Restaurant not found with id " + restaurantId);
+        }
+        RestaurantStatsResponse stats = orderStatsAggregator.getStats(restaurantId);
+        logger.info("Fetched order stats for restaurant ID {}: {} orders in the last 24 hours", restaurantId, stats.getOrders());
+        return stats;
+    }
+
+    // Streamed entities are detached once written so the persistence context stays flat.
+    private void detach(Object entity) {
+        entityManager.detach(entity);
+    }
 }
\ No newline at end of file
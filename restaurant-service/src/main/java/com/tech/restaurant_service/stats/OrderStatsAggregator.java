@@ -0,0 +1,236 @@
+package com.tech.restaurant_service.stats;
+
+import com.tech.restaurant_service.dto.OrderStatsBucket;
+import com.tech.restaurant_service.dto.ProductOrderCount;
+import com.tech.restaurant_service.dto.RestaurantStatsResponse;
+import com.tech.restaurant_service.entity.RestaurantOrderStats;
+import com.tech.restaurant_service.entity.RestaurantProductStats;
+import com.tech.restaurant_service.listener.OrderPlacedBatchHandler;
+import com.tech.restaurant_service.repository.RestaurantOrderStatsRepository;
+import com.tech.restaurant_service.repository.RestaurantProductStatsRepository;
+import com.tech.shared_events.event.OrderItemEvent;
+import com.tech.shared_events.event.OrderPlacedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-restaurant order statistics maintained incrementally from order events:
+ * orders and revenue per minute, and quantity ordered per product per hour.
+ * <p>
+ * Each batch is tallied locally and merged into the pending deltas once per
+ * restaurant and minute, so listener threads touch shared state once per key
+ * rather than once per event. {@link #flush()} periodically takes the pending
+ * deltas and adds them to the {@code restaurant_order_stats} and
+ * {@code restaurant_product_stats} tables with in-place increments, so several
+ * instances can flush into the same tables. A failed flush puts its deltas
+ * back for the next one.
+ * <p>
+ * Events are bucketed by {@code orderDate}, so a consumer catching up after
+ * downtime does not pile old orders into the current minute. Reads combine
+ * the tables with the deltas that have not been flushed yet.
+ * <p>
+ * The ids of the last {@code dedupWindow} orders are remembered, so an event
+ * the broker delivers again is not counted twice.
+ */
+@Component
+public class OrderStatsAggregator implements OrderPlacedBatchHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderStatsAggregator.class);
+
+    static final int MINUTES_SHOWN = 60;
+    static final int HOURS_SHOWN = 24;
+
+    private final RestaurantOrderStatsRepository orderStatsRepository;
+    private final RestaurantProductStatsRepository productStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long retentionHours;
+    private final int topProducts;
+    private final RecentOrderIds recentOrderIds;
+    private final Map<BucketKey, Delta> pending = new ConcurrentHashMap<>();
+
+    public OrderStatsAggregator(RestaurantOrderStatsRepository orderStatsRepository,
+                                RestaurantProductStatsRepository productStatsRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${restaurant.stats.retention-hours:48}") long retentionHours,
+                                @Value("${restaurant.stats.top-products:10}") int topProducts,
+                                @Value("${restaurant.stats.dedup-window:100000}") int dedupWindow) {
+        this.orderStatsRepository = orderStatsRepository;
+        this.productStatsRepository = productStatsRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // The stats endpoint reads a full day back, so never purge rows it still needs.
+        this.retentionHours = Math.max(retentionHours, HOURS_SHOWN);
+        this.topProducts = topProducts;
+        this.recentOrderIds = new RecentOrderIds(dedupWindow);
+    }
+
+    @Override
+    public void handle(List<OrderPlacedEvent> events) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime oldest = now.minusHours(retentionHours);
+        Map<BucketKey, Delta> batch = new HashMap<>();
+        for (OrderPlacedEvent event : events) {
+            if (event.restaurantId() == null) {
+                continue;
+            }
+            LocalDateTime orderDate = event.orderDate() != null ? event.orderDate() : now;
+            if (orderDate.isBefore(oldest) || !recentOrderIds.add(event.orderId())) {
+                continue;
+            }
+            BucketKey key = new BucketKey(event.restaurantId(), orderDate.truncatedTo(ChronoUnit.MINUTES));
+            batch.merge(key, Delta.of(event), Delta::plus);
+        }
+        batch.forEach((key, delta) -> pending.merge(key, delta, Delta::plus));
+    }
+
+    @Scheduled(fixedDelayString = "${restaurant.stats.flush-interval-ms:10000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<BucketKey, Delta> drained = new HashMap<>();
+        for (BucketKey key : pending.keySet()) {
+            Delta delta = pending.remove(key);
+            if (delta != null) {
+                drained.put(key, delta);
+            }
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(drained));
+            logger.debug("Flushed order stats for {} restaurant minutes", drained.size());
+        } catch (RuntimeException e) {
+            drained.forEach((key, delta) -> pending.merge(key, delta, Delta::plus));
+            logger.warn("Could not flush order stats for {} restaurant minutes, will retry: {}", drained.size(), e.toString());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${restaurant.stats.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        LocalDateTime before = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).minusHours(retentionHours);
+        Integer purged = transactionTemplate.execute(status ->
+                orderStatsRepository.deleteOlderThan(before) + productStatsRepository.deleteOlderThan(before));
+        logger.debug("Purged {} order stats rows older than {}", purged, before);
+    }
+
+    /**
+     * Order activity for {@code restaurantId} over the last hour by minute and
+     * the last 24 hours by hour, including deltas not flushed yet.
+     */
+    public RestaurantStatsResponse getStats(Long restaurantId) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime currentMinute = now.truncatedTo(ChronoUnit.MINUTES);
+        LocalDateTime currentHour = now.truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime from = currentHour.minusHours(HOURS_SHOWN - 1);
+
+        Map<LocalDateTime, Delta> minutes = new HashMap<>();
+        for (RestaurantOrderStats row : orderStatsRepository
+                .findByRestaurantIdAndBucketStartGreaterThanEqualOrderByBucketStartAsc(restaurantId, from)) {
+            minutes.merge(row.getBucketStart(), new Delta(row.getOrderCount(), row.getRevenue(), Map.of()), Delta::plus);
+        }
+        Map<Long, Long> products = new HashMap<>();
+        for (ProductOrderCount count : productStatsRepository.sumQuantitiesByProduct(restaurantId, from)) {
+            products.merge(count.getProductId(), count.getQuantity(), Long::sum);
+        }
+        pending.forEach((key, delta) -> {
+            if (key.restaurantId().equals(restaurantId) && !key.minute().isBefore(from)) {
+                minutes.merge(key.minute(), delta, Delta::plus);
+                delta.productQuantities().forEach((productId, quantity) -> products.merge(productId, quantity, Long::sum));
+            }
+        });
+
+        List<OrderStatsBucket> perMinute = new ArrayList<>(MINUTES_SHOWN);
+        for (int i = MINUTES_SHOWN - 1; i >= 0; i--) {
+            LocalDateTime minute = currentMinute.minusMinutes(i);
+            perMinute.add(toBucket(minute, minutes.get(minute)));
+        }
+        Map<LocalDateTime, Delta> hours = new HashMap<>();
+        minutes.forEach((minute, delta) -> hours.merge(minute.truncatedTo(ChronoUnit.HOURS), delta, Delta::plus));
+        List<OrderStatsBucket> perHour = new ArrayList<>(HOURS_SHOWN);
+        long orders = 0;
+        BigDecimal revenue = BigDecimal.ZERO;
+        for (int i = HOURS_SHOWN - 1; i >= 0; i--) {
+            LocalDateTime hour = currentHour.minusHours(i);
+            OrderStatsBucket bucket = toBucket(hour, hours.get(hour));
+            orders += bucket.getOrders();
+            revenue = revenue.add(bucket.getRevenue());
+            perHour.add(bucket);
+        }
+        List<ProductOrderCount> top = products.entrySet().stream()
+                .sorted(Map.Entry.<Long, Long>comparingByValue().reversed())
+                .limit(topProducts)
+                .map(entry -> new ProductOrderCount(entry.getKey(), entry.getValue()))
+                .toList();
+        return new RestaurantStatsResponse(restaurantId, from, now, orders, revenue, perMinute, perHour, top);
+    }
+
+    private void write(Map<BucketKey, Delta> drained) {
+        Map<ProductBucketKey, Long> productQuantities = new HashMap<>();
+        drained.forEach((key, delta) -> {
+            if (orderStatsRepository.increment(key.restaurantId(), key.minute(), delta.orders(), delta.revenue()) == 0) {
+                orderStatsRepository.save(new RestaurantOrderStats(null, key.restaurantId(), key.minute(), delta.orders(), delta.revenue()));
+            }
+            LocalDateTime hour = key.minute().truncatedTo(ChronoUnit.HOURS);
+            delta.productQuantities().forEach((productId, quantity) ->
+                    productQuantities.merge(new ProductBucketKey(key.restaurantId(), hour, productId), quantity, Long::sum));
+        });
+        productQuantities.forEach((key, quantity) -> {
+            if (productStatsRepository.increment(key.restaurantId(), key.hour(), key.productId(), quantity) == 0) {
+                productStatsRepository.save(new RestaurantProductStats(null, key.restaurantId(), key.hour(), key.productId(), quantity));
+            }
+        });
+    }
+
+    private static OrderStatsBucket toBucket(LocalDateTime start, Delta delta) {
+        return delta == null
+                ? new OrderStatsBucket(start, 0, BigDecimal.ZERO)
+                : new OrderStatsBucket(start, delta.orders(), delta.revenue());
+    }
+
+    private record BucketKey(Long restaurantId, LocalDateTime minute) {
+    }
+
+    private record ProductBucketKey(Long restaurantId, LocalDateTime hour, Long productId) {
+    }
+
+    /**
+     * Immutable, so readers can walk the pending deltas while listener threads
+     * replace them.
+     */
+    private record Delta(long orders, BigDecimal revenue, Map<Long, Long> productQuantities) {
+
+        static Delta of(OrderPlacedEvent event) {
+            Map<Long, Long> quantities = new HashMap<>();
+            if (event.orderItems() != null) {
+                for (OrderItemEvent item : event.orderItems()) {
+                    if (item.productId() != null && item.quantity() != null) {
+                        quantities.merge(item.productId(), item.quantity().longValue(), Long::sum);
+                    }
+                }
+            }
+            BigDecimal revenue = event.totalAmount() != null ? event.totalAmount() : BigDecimal.ZERO;
+            return new Delta(1, revenue, quantities);
+        }
+
+        Delta plus(Delta other) {
+            if (other.productQuantities.isEmpty()) {
+                return new Delta(orders + other.orders, revenue.add(other.revenue), productQuantities);
+            }
+            Map<Long, Long> quantities = new HashMap<>(productQuantities);
+            other.productQuantities.forEach((productId, quantity) -> quantities.merge(productId, quantity, Long::sum));
+            return new Delta(orders + other.orders, revenue.add(other.revenue), quantities);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.tech.restaurant_service.stats;
+
+import com.tech.restaurant_service.entity.RestaurantProductStats;
+import com.tech.restaurant_service.listener.OrderPlacedBatchHandler;
+import com.tech.restaurant_service.repository.RestaurantProductStatsRepository;
+import com.tech.shared_events.event.OrderItemEvent;
+import com.tech.shared_events.event.OrderPlacedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Decaying popularity scores for menu items, fed by the quantities in order
+ * events.
+ * <p>
+ * An order counts for half as much every {@code halfLifeHours}. Only the
+ * {@code capacity} most popular products are tracked, using the Space-Saving
+ * heavy-hitters algorithm: an untracked product replaces the lowest-scored
+ * one and inherits its score. Newcomers are overestimated by at most that
+ * score, and no product scoring above it is ever missing.
+ * <p>
+ * Scores are kept relative to a fixed landmark time, so existing scores never
+ * need updating as time passes; the landmark is moved forward before they
+ * grow out of range. Readers get an immutable {@link Scores} snapshot that is
+ * republished after every batch, so ranking never waits for the listener.
+ * <p>
+ * At startup the scores are seeded from the hourly quantities that
+ * {@link OrderStatsAggregator} keeps, so a restart does not reset the ranking.
+ * As there, the ids of the last {@code dedupWindow} orders are remembered, so
+ * an event the broker delivers again does not count twice.
+ */
+@Component
+public class ProductPopularity implements OrderPlacedBatchHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductPopularity.class);
+
+    // Weights reach 2^64 before the landmark moves, far below the double range.
+    private static final double RESCALE_AFTER_HALF_LIVES = 64;
+
+    private static final Comparator<Counter> BY_WEIGHT =
+            Comparator.comparingDouble(Counter::weight).thenComparingLong(Counter::productId);
+
+    private final RestaurantProductStatsRepository productStatsRepository;
+    private final int capacity;
+    private final double halfLifeMillis;
+    private final RecentOrderIds recentOrderIds;
+
+    private final Map<Long, Counter> counters = new HashMap<>();
+    private final TreeSet<Counter> byWeight = new TreeSet<>(BY_WEIGHT);
+    private long landmark = System.currentTimeMillis();
+
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), landmark);
+
+    public ProductPopularity(RestaurantProductStatsRepository productStatsRepository,
+                             @Value("${restaurant.popularity.capacity:10000}") int capacity,
+                             @Value("${restaurant.popularity.half-life-hours:24}") double halfLifeHours,
+                             @Value("${restaurant.popularity.dedup-window:100000}") int dedupWindow) {
+        this.productStatsRepository = productStatsRepository;
+        this.capacity = capacity;
+        this.halfLifeMillis = halfLifeHours * 3_600_000;
+        this.recentOrderIds = new RecentOrderIds(dedupWindow);
+    }
+
+    @Override
+    public void handle(List<OrderPlacedEvent> events) {
+        long now = System.currentTimeMillis();
+        // Tally the batch relative to now, so the shared state is touched once per product.
+        Map<Long, Double> batch = new HashMap<>();
+        for (OrderPlacedEvent event : events) {
+            if (event.orderItems() == null || !recentOrderIds.add(event.orderId())) {
+                continue;
+            }
+            double decay = decay(toMillis(event.orderDate(), now), now);
+            for (OrderItemEvent item : event.orderItems()) {
+                if (item.productId() != null && item.quantity() != null && item.quantity() > 0) {
+                    batch.merge(item.productId(), item.quantity() * decay, Double::sum);
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            addAll(batch, now);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadRecentOrders() {
+        long now = System.currentTimeMillis();
+        LocalDateTime from = LocalDateTime.now().minusHours((long) Math.ceil(halfLifeMillis * 4 / 3_600_000));
+        Map<Long, Double> recent = new HashMap<>();
+        for (RestaurantProductStats row : productStatsRepository.findByBucketStartGreaterThanEqual(from)) {
+            // Hourly rows are dated at the start of the hour; count them from its middle.
+            long time = toMillis(row.getBucketStart().plusMinutes(30), now);
+            recent.merge(row.getProductId(), row.getQuantity() * decay(time, now), Double::sum);
+        }
+        addAll(recent, now);
+        logger.info("Seeded popularity scores for {} products from order stats since {}", recent.size(), from);
+    }
+
+    /**
+     * The current scores. The snapshot does not change, so it is safe to sort with.
+     */
+    public Scores scores() {
+        Snapshot current = snapshot;
+        return new Scores(current.weights(), decay(current.landmark(), System.currentTimeMillis()));
+    }
+
+    private synchronized void addAll(Map<Long, Double> weightsAtNow, long now) {
+        if (now - landmark > RESCALE_AFTER_HALF_LIVES * halfLifeMillis) {
+            moveLandmark(now);
+        }
+        double scale = 1 / decay(landmark, now);
+        weightsAtNow.forEach((productId, weight) -> add(productId, weight * scale));
+
+        Map<Long, Double> weights = new HashMap<>(counters.size());
+        counters.forEach((productId, counter) -> weights.put(productId, counter.weight()));
+        snapshot = new Snapshot(Map.copyOf(weights), landmark);
+    }
+
+    private void add(Long productId, double weight) {
+        Counter counter = counters.get(productId);
+        if (counter != null) {
+            byWeight.remove(counter);
+        } else if (counters.size() >= capacity) {
+            Counter evicted = byWeight.pollFirst();
+            counters.remove(evicted.productId());
+            counter = new Counter(productId, evicted.weight());
+        } else {
+            counter = new Counter(productId, 0);
+        }
+        Counter updated = new Counter(productId, counter.weight() + weight);
+        counters.put(productId, updated);
+        byWeight.add(updated);
+    }
+
+    private void moveLandmark(long now) {
+        double factor = decay(now, landmark);
+        byWeight.clear();
+        counters.replaceAll((productId, counter) -> new Counter(productId, counter.weight() / factor));
+        byWeight.addAll(counters.values());
+        landmark = now;
+    }
+
+    /**
+     * How much an order placed at {@code time} still counts at {@code now}.
+     */
+    private double decay(long time, long now) {
+        return Math.pow(2, -(now - time) / halfLifeMillis);
+    }
+
+    private static long toMillis(LocalDateTime time, long now) {
+        // Clock skew between services must not make an order count for more than one placed now.
+        return time == null ? now : Math.min(now, time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    private record Counter(long productId, double weight) {
+    }
+
+    private record Snapshot(Map<Long, Double> weights, long landmark) {
+    }
+
+    /**
+     * Popularity of each tracked product, decayed to when the snapshot was
+     * taken; untracked products score 0.
+     */
+    public record Scores(Map<Long, Double> weights, double scale) {
+
+        public double of(Long productId) {
+            return weights.getOrDefault(productId, 0.0) * scale;
+        }
+    }
+}
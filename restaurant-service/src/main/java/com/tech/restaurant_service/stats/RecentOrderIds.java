@@ -0,0 +1,32 @@
+package com.tech.restaurant_service.stats;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The ids of the last {@code capacity} orders seen, so an order event the
+ * broker redelivers (after a rebalance or a failed commit) is not counted
+ * twice. Ids are only remembered in memory, so a redelivery of an order older
+ * than the window, or across a restart, still gets through.
+ */
+class RecentOrderIds {
+
+    private final Map<Long, Boolean> ids;
+
+    RecentOrderIds(int capacity) {
+        this.ids = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Boolean> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Records {@code orderId}, returning false if it was already seen. Events
+     * without an id cannot be matched up, so they always count.
+     */
+    synchronized boolean add(Long orderId) {
+        return orderId == null || ids.put(orderId, Boolean.TRUE) == null;
+    }
+}
@@ -0,0 +1,100 @@
+package com.tech.restaurant_service.benchmark;
+
+import com.tech.restaurant_service.dto.ProductResponse;
+import com.tech.restaurant_service.dto.RestaurantResponse;
+import com.tech.restaurant_service.entity.Product;
+import com.tech.restaurant_service.entity.Restaurant;
+import com.tech.restaurant_service.mapper.RestaurantMapper;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the reflective ModelMapper against {@link RestaurantMapper} on the
+ * list shapes returned by getAllRestaurants and getAllMenuItems.
+ * <p>
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.tech.restaurant_service.benchmark.MapperBenchmark}
+ * or straight from the IDE.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"10000"})
+    private int size;
+
+    private List<Restaurant> restaurants;
+    private List<Product> products;
+    private ModelMapper modelMapper;
+    private RestaurantMapper restaurantMapper;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        restaurantMapper = new RestaurantMapper();
+        restaurants = new ArrayList<>(size);
+        products = new ArrayList<>(size);
+        for (long i = 0; i < size; i++) {
+            Restaurant restaurant = Restaurant.builder().id(i).name("Restaurant " + i).address(i + " Main St").build();
+            for (long j = 0; j < 3; j++) {
+                Product product = Product.builder()
+                        .id(i * 3 + j)
+                        .name("Dish " + j)
+                        .description("Description " + j)
+                        .price(BigDecimal.valueOf(9.99 + j))
+                        .restaurant(restaurant)
+                        .build();
+                restaurant.getMenu().add(product);
+                if (j == 0) {
+                    products.add(product);
+                }
+            }
+            restaurants.add(restaurant);
+        }
+    }
+
+    @Benchmark
+    public List<RestaurantResponse> restaurantsWithModelMapper() {
+        return restaurants.stream()
+                .map(restaurant -> modelMapper.map(restaurant, RestaurantResponse.class))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<RestaurantResponse> restaurantsWithRestaurantMapper() {
+        return restaurantMapper.toResponses(restaurants);
+    }
+
+    @Benchmark
+    public List<ProductResponse> productsWithModelMapper() {
+        return products.stream()
+                .map(product -> modelMapper.map(product, ProductResponse.class))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<ProductResponse> productsWithRestaurantMapper() {
+        return restaurantMapper.toProductResponses(products);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(MapperBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
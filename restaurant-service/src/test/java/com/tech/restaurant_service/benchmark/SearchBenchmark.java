@@ -0,0 +1,91 @@
+package com.tech.restaurant_service.benchmark;
+
+import com.tech.restaurant_service.dto.ProductResponse;
+import com.tech.restaurant_service.dto.RestaurantResponse;
+import com.tech.restaurant_service.search.CatalogSearchIndex;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link CatalogSearchIndex} lookups on a generated catalog, the
+ * path behind the /search and /menu/search endpoints.
+ * <p>
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.tech.restaurant_service.benchmark.SearchBenchmark}
+ * or straight from the IDE.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchBenchmark {
+
+    private static final String[] KINDS = {"Pizza", "Burger", "Noodle", "Grill", "Taco", "Curry", "Sushi", "Bakery"};
+    private static final String[] CITIES = {"Accra", "Kumasi", "Lagos", "Nairobi", "Lyon", "Osaka", "Lima", "Tema"};
+    private static final String[] DISHES = {"Chicken Wrap", "Beef Burger", "Veggie Pizza", "Fried Rice", "Jollof",
+            "Spring Rolls", "Green Curry", "Salmon Roll", "Fish Taco", "Garlic Bread"};
+
+    @Param({"10000"})
+    private int size;
+
+    private CatalogSearchIndex index;
+
+    @Setup
+    public void setUp() {
+        List<RestaurantResponse> catalog = new ArrayList<>(size);
+        long productId = 0;
+        for (int i = 0; i < size; i++) {
+            RestaurantResponse restaurant = new RestaurantResponse();
+            restaurant.setId((long) i);
+            restaurant.setName(KINDS[i % KINDS.length] + " House " + i);
+            restaurant.setAddress(i + " Main St, " + CITIES[(i / KINDS.length) % CITIES.length]);
+            List<ProductResponse> menu = new ArrayList<>();
+            for (int j = 0; j < 5; j++) {
+                ProductResponse product = new ProductResponse();
+                product.setId(productId++);
+                product.setName(DISHES[(i + j * 3) % DISHES.length] + " " + j);
+                menu.add(product);
+            }
+            restaurant.setMenu(menu);
+            catalog.add(restaurant);
+        }
+        index = new CatalogSearchIndex();
+        index.reindexAll(catalog);
+    }
+
+    @Benchmark
+    public List<RestaurantResponse> restaurantsByName() {
+        return index.searchRestaurantsByName("house 12", 50);
+    }
+
+    @Benchmark
+    public List<RestaurantResponse> restaurantsByCity() {
+        return index.searchRestaurantsByCity("lyon", 50);
+    }
+
+    @Benchmark
+    public List<RestaurantResponse> restaurantsByMenuItem() {
+        return index.searchRestaurantsByMenuItem("salmon", 50);
+    }
+
+    @Benchmark
+    public List<ProductResponse> menuItemsByName() {
+        return index.searchMenuItemsByName("curry", 50);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(SearchBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,78 @@
+package com.tech.restaurant_service.cache;
+
+import com.tech.restaurant_service.dto.ProductResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MenuCacheTest {
+
+    private static List<ProductResponse> menu(String name) {
+        ProductResponse product = new ProductResponse();
+        product.setName(name);
+        return List.of(product);
+    }
+
+    @Test
+    void getOrLoad_shouldLoadOnceAndCountHitsAndMisses() {
+        MenuCache cache = new MenuCache(10, 300);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.getOrLoad(1L, () -> {
+            loads.incrementAndGet();
+            return menu("Pizza");
+        });
+        List<ProductResponse> result = cache.getOrLoad(1L, () -> {
+            loads.incrementAndGet();
+            return menu("Burger");
+        });
+
+        assertEquals("Pizza", result.get(0).getName());
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void getOrLoad_shouldEvictLeastRecentlyUsedWhenFull() {
+        MenuCache cache = new MenuCache(2, 300);
+        cache.getOrLoad(1L, () -> menu("A"));
+        cache.getOrLoad(2L, () -> menu("B"));
+        cache.getOrLoad(1L, () -> menu("A"));
+        cache.getOrLoad(3L, () -> menu("C"));
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals("B2", cache.getOrLoad(2L, () -> menu("B2")).get(0).getName());
+    }
+
+    @Test
+    void getOrLoad_shouldReloadExpiredEntries() {
+        MenuCache cache = new MenuCache(10, 0);
+        cache.getOrLoad(1L, () -> menu("Old"));
+
+        List<ProductResponse> result = cache.getOrLoad(1L, () -> menu("New"));
+
+        assertEquals("New", result.get(0).getName());
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    void invalidate_shouldDropEntryAndDiscardRacingLoad() {
+        MenuCache cache = new MenuCache(10, 300);
+        cache.getOrLoad(1L, () -> menu("Old"));
+        cache.invalidate(1L);
+        assertEquals(0, cache.size());
+
+        cache.getOrLoad(2L, () -> {
+            cache.invalidate(2L);
+            return menu("Stale");
+        });
+
+        assertEquals(0, cache.size());
+    }
+}
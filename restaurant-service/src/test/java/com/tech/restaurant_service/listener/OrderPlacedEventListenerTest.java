@@ -0,0 +1,47 @@
+package com.tech.restaurant_service.listener;
+
+import com.tech.shared_events.event.OrderPlacedEvent;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class OrderPlacedEventListenerTest {
+
+    private static ConsumerRecord<String, OrderPlacedEvent> record(long offset, Long restaurantId) {
+        OrderPlacedEvent event = restaurantId == null ? null : new OrderPlacedEvent(offset, null, restaurantId, null, null, null);
+        return new ConsumerRecord<>("order-placed-events", 0, offset, String.valueOf(offset), event);
+    }
+
+    @Test
+    void handleOrderPlacedEvents_shouldPassNonNullEventsToHandlersAndAcknowledgeBatch() {
+        List<List<OrderPlacedEvent>> batches = new ArrayList<>();
+        OrderPlacedEventListener listener = new OrderPlacedEventListener(List.of(batches::add));
+        Acknowledgment acknowledgment = mock(Acknowledgment.class);
+        List<ConsumerRecord<String, OrderPlacedEvent>> first = List.of(record(1, 7L), record(2, 7L), record(3, null), record(4, 9L));
+
+        listener.handleOrderPlacedEvents(first, acknowledgment);
+        listener.handleOrderPlacedEvents(List.of(record(5, 7L)), acknowledgment);
+
+        assertEquals(List.of(first.get(0).value(), first.get(1).value(), first.get(3).value()), batches.get(0));
+        assertEquals(1, batches.get(1).size());
+        verify(acknowledgment, times(2)).acknowledge();
+    }
+
+    @Test
+    void handleOrderPlacedEvents_shouldNotAcknowledgeWhenHandlerFails() {
+        OrderPlacedBatchHandler failing = events -> {
+            throw new IllegalStateException("boom");
+        };
+        OrderPlacedEventListener listener = new OrderPlacedEventListener(List.of(failing));
+        Acknowledgment acknowledgment = mock(Acknowledgment.class);
+
+        assertThrows(IllegalStateException.class, () -> listener.handleOrderPlacedEvents(List.of(record(1, 7L)), acknowledgment));
+        verifyNoInteractions(acknowledgment);
+    }
+}
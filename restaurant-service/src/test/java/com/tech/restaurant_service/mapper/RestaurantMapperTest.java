@@ -0,0 +1,68 @@
+package com.tech.restaurant_service.mapper;
+
+import com.tech.restaurant_service.dto.ProductRequest;
+import com.tech.restaurant_service.dto.ProductResponse;
+import com.tech.restaurant_service.dto.RestaurantRequest;
+import com.tech.restaurant_service.dto.RestaurantResponse;
+import com.tech.restaurant_service.entity.Product;
+import com.tech.restaurant_service.entity.Restaurant;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RestaurantMapperTest {
+
+    private final RestaurantMapper restaurantMapper = new RestaurantMapper();
+
+    @Test
+    void toResponse_shouldMatchModelMapperOutput() {
+        Restaurant restaurant = Restaurant.builder().id(1L).name("Test Restaurant").address("123 Test St").build();
+        restaurant.getMenu().add(Product.builder()
+                .id(101L)
+                .name("Pizza")
+                .description("Delicious pizza")
+                .price(BigDecimal.valueOf(15.5))
+                .restaurant(restaurant)
+                .build());
+
+        RestaurantResponse expected = new ModelMapper().map(restaurant, RestaurantResponse.class);
+
+        assertEquals(expected, restaurantMapper.toResponse(restaurant));
+    }
+
+    @Test
+    void toEntity_shouldConvertProductPriceToBigDecimal() {
+        ProductRequest request = new ProductRequest();
+        request.setName("Burger");
+        request.setDescription("Tasty burger");
+        request.setPrice(10.25);
+
+        Product product = restaurantMapper.toEntity(request);
+
+        assertEquals("Burger", product.getName());
+        assertEquals(BigDecimal.valueOf(10.25), product.getPrice());
+        assertNull(product.getId());
+    }
+
+    @Test
+    void toEntity_shouldLeaveMenuForCallerToAttach() {
+        RestaurantRequest request = new RestaurantRequest("Name", "Address", List.of(new ProductRequest()));
+
+        Restaurant restaurant = restaurantMapper.toEntity(request);
+
+        assertEquals("Name", restaurant.getName());
+        assertTrue(restaurant.getMenu().isEmpty());
+    }
+
+    @Test
+    void toProductResponses_shouldHandleNullPrice() {
+        List<ProductResponse> responses = restaurantMapper.toProductResponses(List.of(Product.builder().id(1L).name("Water").build()));
+
+        assertEquals(1, responses.size());
+        assertNull(responses.get(0).getPrice());
+    }
+}
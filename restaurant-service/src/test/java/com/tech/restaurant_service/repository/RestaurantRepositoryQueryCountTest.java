@@ -0,0 +1,120 @@
+package com.tech.restaurant_service.repository;
+
+import com.tech.restaurant_service.dto.RestaurantResponse;
+import com.tech.restaurant_service.dto.RestaurantSummaryResponse;
+import com.tech.restaurant_service.entity.Product;
+import com.tech.restaurant_service.entity.Restaurant;
+import com.tech.restaurant_service.mapper.RestaurantMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.default_batch_fetch_size=100"
+})
+@Import(RestaurantMapper.class)
+class RestaurantRepositoryQueryCountTest {
+
+    private static final int RESTAURANTS = 1_000;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private RestaurantMapper restaurantMapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < RESTAURANTS; i++) {
+            Restaurant restaurant = Restaurant.builder().name("Restaurant " + i).address("City " + (i % 10)).build();
+            restaurant.getMenu().add(Product.builder().name("Pizza " + i).price(BigDecimal.TEN).restaurant(restaurant).build());
+            restaurant.getMenu().add(Product.builder().name("Salad " + i).price(BigDecimal.ONE).restaurant(restaurant).build());
+            entityManager.persist(restaurant);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findAll_shouldLoadRestaurantsAndMenusInOneStatement() {
+        List<RestaurantResponse> responses = restaurantMapper.toResponses(restaurantRepository.findAll());
+
+        assertEquals(RESTAURANTS, responses.size());
+        assertEquals(2, responses.get(0).getMenu().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void searches_shouldLoadMenusWithoutExtraStatements() {
+        List<RestaurantResponse> byName = restaurantMapper.toResponses(restaurantRepository.findByNameContainingIgnoreCase("restaurant"));
+        List<RestaurantResponse> byCity = restaurantMapper.toResponses(restaurantRepository.findByAddressContainingIgnoreCase("city"));
+        List<RestaurantResponse> byMenu = restaurantMapper.toResponses(restaurantRepository.findByMenuNameContainingIgnoreCase("pizza"));
+
+        assertEquals(RESTAURANTS, byName.size());
+        assertEquals(RESTAURANTS, byCity.size());
+        assertEquals(RESTAURANTS, byMenu.size());
+        assertEquals(2, byMenu.get(0).getMenu().size());
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findByIdGreaterThan_shouldBatchMenuLoading() {
+        List<RestaurantResponse> page = restaurantMapper.toResponses(
+                restaurantRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(RESTAURANTS)));
+
+        assertEquals(RESTAURANTS, page.size());
+        // One query for the page plus one per batch of 100 menus.
+        assertEquals(1 + RESTAURANTS / 100, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findAllSummaries_shouldNotTouchMenus() {
+        List<RestaurantSummaryResponse> summaries = restaurantRepository.findAllSummaries();
+
+        assertEquals(RESTAURANTS, summaries.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void specification_shouldIntersectAllCriteriaInOneStatement() {
+        List<Restaurant> rows = restaurantRepository.findBy(
+                RestaurantSpecifications.matching("restaurant 1", "city 1", "pizza"),
+                query -> query.sortBy(Sort.by("id")).limit(5).all());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(List.of("Restaurant 1", "Restaurant 11", "Restaurant 101", "Restaurant 111", "Restaurant 121"),
+                rows.stream().map(Restaurant::getName).toList());
+        assertEquals(2, restaurantMapper.toResponses(rows).get(0).getMenu().size());
+    }
+
+    @Test
+    void specification_shouldTreatLikeWildcardsLiterally() {
+        assertTrue(restaurantRepository.findAll(RestaurantSpecifications.matching("%", null, "_")).isEmpty());
+    }
+}
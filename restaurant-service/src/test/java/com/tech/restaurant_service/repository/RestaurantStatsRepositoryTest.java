@@ -0,0 +1,58 @@
+package com.tech.restaurant_service.repository;
+
+import com.tech.restaurant_service.dto.ProductOrderCount;
+import com.tech.restaurant_service.dto.RestaurantStatsResponse;
+import com.tech.restaurant_service.stats.OrderStatsAggregator;
+import com.tech.shared_events.event.OrderItemEvent;
+import com.tech.shared_events.event.OrderPlacedEvent;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@Import(OrderStatsAggregator.class)
+class RestaurantStatsRepositoryTest {
+
+    @Autowired
+    private OrderStatsAggregator aggregator;
+
+    @Autowired
+    private RestaurantOrderStatsRepository orderStatsRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private long lastOrderId;
+
+    private OrderPlacedEvent event(LocalDateTime orderDate, String total, long productId, int quantity) {
+        return new OrderPlacedEvent(++lastOrderId, 1L, 7L, new BigDecimal(total), orderDate,
+                List.of(new OrderItemEvent(productId, quantity, BigDecimal.ONE)));
+    }
+
+    @Test
+    void flush_shouldInsertThenIncrementRowsReadBackByGetStats() {
+        LocalDateTime minute = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+        aggregator.handle(List.of(event(minute, "10.00", 1, 2), event(minute.minusHours(2), "4.00", 2, 1)));
+        aggregator.flush();
+        aggregator.handle(List.of(event(minute, "5.00", 1, 1), event(minute, "1.00", 2, 7)));
+        aggregator.flush();
+        aggregator.purgeExpired();
+        entityManager.clear();
+
+        assertEquals(2, orderStatsRepository.count());
+        RestaurantStatsResponse stats = aggregator.getStats(7L);
+        assertEquals(4, stats.getOrders());
+        assertEquals(0, new BigDecimal("20.00").compareTo(stats.getRevenue()));
+        assertEquals(List.of(new ProductOrderCount(2L, 8), new ProductOrderCount(1L, 3)), stats.getTopProducts());
+        assertEquals(0, aggregator.getStats(8L).getOrders());
+    }
+}
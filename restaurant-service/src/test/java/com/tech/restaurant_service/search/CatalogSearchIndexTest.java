@@ -0,0 +1,104 @@
+package com.tech.restaurant_service.search;
+
+import com.tech.restaurant_service.dto.ProductResponse;
+import com.tech.restaurant_service.dto.RestaurantResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogSearchIndexTest {
+
+    private static ProductResponse product(Long id, String name) {
+        ProductResponse product = new ProductResponse();
+        product.setId(id);
+        product.setName(name);
+        return product;
+    }
+
+    private static RestaurantResponse restaurant(Long id, String name, String address, ProductResponse... menu) {
+        RestaurantResponse restaurant = new RestaurantResponse();
+        restaurant.setId(id);
+        restaurant.setName(name);
+        restaurant.setAddress(address);
+        restaurant.setMenu(List.of(menu));
+        return restaurant;
+    }
+
+    private static List<Long> ids(List<RestaurantResponse> restaurants) {
+        return restaurants.stream().map(RestaurantResponse::getId).toList();
+    }
+
+    @Test
+    void searchRestaurantsByName_shouldRankExactThenPrefixThenWordThenSubstring() {
+        CatalogSearchIndex index = new CatalogSearchIndex();
+        index.indexRestaurant(restaurant(1L, "Superpizza", "A"));
+        index.indexRestaurant(restaurant(2L, "Joe's Pizza", "A"));
+        index.indexRestaurant(restaurant(3L, "Pizza Palace", "A"));
+        index.indexRestaurant(restaurant(4L, "PIZZA", "A"));
+        index.indexRestaurant(restaurant(5L, "Burger Barn", "A"));
+
+        assertEquals(List.of(4L, 3L, 2L, 1L), ids(index.searchRestaurantsByName("pizza", 10)));
+        assertEquals(List.of(4L, 3L), ids(index.searchRestaurantsByName("pizza", 2)));
+    }
+
+    @Test
+    void search_shouldKeepSubstringSemanticsForShortAndAccentedQueries() {
+        CatalogSearchIndex index = new CatalogSearchIndex();
+        index.indexRestaurant(restaurant(1L, "Café Bleu", "12 Rue de Paris, Lyon"));
+        index.indexRestaurant(restaurant(2L, "Noodle Bar", "5 Main St, Accra"));
+
+        assertEquals(List.of(1L), ids(index.searchRestaurantsByName("CAFE", 10)));
+        assertEquals(List.of(2L), ids(index.searchRestaurantsByCity("ac", 10)));
+        assertEquals(List.of(1L, 2L), ids(index.searchRestaurantsByName("e", 10)));
+        assertTrue(index.searchRestaurantsByName("bleu noodle", 10).isEmpty());
+    }
+
+    @Test
+    void searchRestaurantsByMenuItem_shouldReturnEachRestaurantOnceWithFullMenu() {
+        CatalogSearchIndex index = new CatalogSearchIndex();
+        index.indexRestaurant(restaurant(1L, "A", "X", product(10L, "Chicken Wrap"), product(11L, "Chicken"), product(12L, "Soda")));
+        index.indexRestaurant(restaurant(2L, "B", "X", product(20L, "Fried Chicken Burger")));
+
+        List<RestaurantResponse> result = index.searchRestaurantsByMenuItem("chicken", 10);
+
+        assertEquals(List.of(1L, 2L), ids(result));
+        assertEquals(3, result.get(0).getMenu().size());
+    }
+
+    @Test
+    void writes_shouldReplaceAndRemoveIndexedEntries() {
+        CatalogSearchIndex index = new CatalogSearchIndex();
+        index.indexRestaurant(restaurant(1L, "Old Name", "X", product(10L, "Jollof")));
+
+        index.indexRestaurant(restaurant(1L, "New Name", "X", product(11L, "Waakye")));
+        index.indexProduct(1L, product(12L, "Kelewele"));
+        index.removeProduct(11L);
+
+        assertTrue(index.searchRestaurantsByName("old", 10).isEmpty());
+        assertEquals(List.of(1L), ids(index.searchRestaurantsByName("new", 10)));
+        assertTrue(index.searchMenuItemsByName("jollof", 10).isEmpty());
+        assertTrue(index.searchMenuItemsByName("waakye", 10).isEmpty());
+        assertEquals(1, index.searchMenuItemsByName("kele", 10).size());
+
+        index.removeRestaurant(1L);
+
+        assertEquals(0, index.restaurantCount());
+        assertEquals(0, index.productCount());
+        assertTrue(index.searchMenuItemsByName("kele", 10).isEmpty());
+    }
+
+    @Test
+    void searchMenuItemsByName_withPopularity_shouldRankMostPopularFirstThenByMatch() {
+        CatalogSearchIndex index = new CatalogSearchIndex();
+        index.indexRestaurant(restaurant(1L, "Roma", "A",
+                product(10L, "Pizza"), product(11L, "Pizza Bianca"), product(12L, "Calzone pizza"), product(13L, "Salad")));
+        Map<Long, Double> popularity = Map.of(12L, 5.0, 13L, 9.0);
+
+        List<ProductResponse> result = index.searchMenuItemsByName("pizza", 2, id -> popularity.getOrDefault(id, 0.0));
+
+        assertEquals(List.of(12L, 10L), result.stream().map(ProductResponse::getId).toList());
+    }
+}
@@ -1,28 +1,44 @@
 package com.tech.restaurant_service.service;
 
+import com.tech.restaurant_service.cache.MenuCache;
+import com.tech.restaurant_service.dto.CursorPageResponse;
 import com.tech.restaurant_service.dto.ProductRequest;
 import com.tech.restaurant_service.dto.ProductResponse;
 import com.tech.restaurant_service.dto.RestaurantRequest;
 import com.tech.restaurant_service.dto.RestaurantResponse;
+import com.tech.restaurant_service.dto.RestaurantStatsResponse;
+import com.tech.restaurant_service.dto.RestaurantSummaryResponse;
 import com.tech.restaurant_service.entity.Product;
 import com.tech.restaurant_service.entity.Restaurant;
 import com.tech.restaurant_service.exception.AccessDeniedException;
 import com.tech.restaurant_service.exception.ResourceNotFoundException;
+import com.tech.restaurant_service.mapper.RestaurantMapper;
 import com.tech.restaurant_service.repository.ProductRepository;
 import com.tech.restaurant_service.repository.RestaurantRepository;
+import com.tech.restaurant_service.search.CatalogSearchIndex;
+import com.tech.restaurant_service.stats.OrderStatsAggregator;
+import com.tech.restaurant_service.stats.ProductPopularity;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -36,8 +52,29 @@ class RestaurantServiceImplTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Spy
+    private RestaurantMapper restaurantMapper = new RestaurantMapper();
+
+    @Spy
+    private MenuCache menuCache = new MenuCache(100, 300);
+
+    @Mock
+    private MenuInvalidationProducer menuInvalidationProducer;
+
     @Mock
-    private ModelMapper modelMapper;
+    private ProductPriceProducer productPriceProducer;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private CatalogSearchIndex searchIndex = new CatalogSearchIndex();
+
+    @Mock
+    private OrderStatsAggregator orderStatsAggregator;
+
+    @Mock
+    private ProductPopularity productPopularity;
 
     @InjectMocks
     private RestaurantServiceImpl restaurantService;
@@ -51,6 +88,8 @@ class RestaurantServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        ReflectionTestUtils.setField(restaurantService, "entityManager", entityManager);
+
         restaurant = Restaurant.builder()
                 .id(1L)
                 .name("Test Restaurant")
@@ -66,6 +105,7 @@ class RestaurantServiceImplTest {
         restaurantResponse.setId(1L);
         restaurantResponse.setName("Test Restaurant");
         restaurantResponse.setAddress("123 Test St");
+        restaurantResponse.setMenu(Collections.emptyList());
 
         product = Product.builder()
                 .id(101L)
@@ -90,7 +130,6 @@ class RestaurantServiceImplTest {
     @Test
     void getAllRestaurants_shouldReturnListOfRestaurants() {
         when(restaurantRepository.findAll()).thenReturn(Arrays.asList(restaurant));
-        when(modelMapper.map(any(Restaurant.class), eq(RestaurantResponse.class))).thenReturn(restaurantResponse);
 
         List<RestaurantResponse> result = restaurantService.getAllRestaurants();
 
@@ -99,20 +138,67 @@ class RestaurantServiceImplTest {
         assertEquals(1, result.size());
         assertEquals(restaurantResponse, result.get(0));
         verify(restaurantRepository, times(1)).findAll();
-        verify(modelMapper, times(1)).map(any(Restaurant.class), eq(RestaurantResponse.class));
+        verify(restaurantMapper, times(1)).toResponse(any(Restaurant.class));
+    }
+
+    @Test
+    void getRestaurantSummaries_shouldReturnProjectionWithoutMenus() {
+        RestaurantSummaryResponse summary = new RestaurantSummaryResponse(1L, "Test Restaurant", "123 Test St");
+        when(restaurantRepository.findAllSummaries()).thenReturn(List.of(summary));
+
+        List<RestaurantSummaryResponse> result = restaurantService.getRestaurantSummaries();
+
+        assertEquals(List.of(summary), result);
+        verify(restaurantRepository, never()).findAll();
+        verifyNoInteractions(restaurantMapper);
+    }
+
+    @Test
+    void getRestaurantsPage_shouldReturnNextCursor_whenMoreRowsExist() {
+        List<Restaurant> rows = new ArrayList<>();
+        for (long id = 11; id <= 13; id++) {
+            rows.add(Restaurant.builder().id(id).name("R" + id).address("Address").build());
+        }
+        when(restaurantRepository.findByIdGreaterThanOrderByIdAsc(10L, Limit.of(3))).thenReturn(rows);
+
+        CursorPageResponse<RestaurantResponse> result = restaurantService.getRestaurantsPage(10L, 2);
+
+        assertEquals(2, result.getItems().size());
+        assertEquals(12L, result.getNextCursor());
+    }
+
+    @Test
+    void getRestaurantsPage_shouldReturnNullCursor_onLastPage() {
+        when(restaurantRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(RestaurantServiceImpl.MAX_PAGE_SIZE + 1)))
+                .thenReturn(Arrays.asList(restaurant));
+
+        CursorPageResponse<RestaurantResponse> result = restaurantService.getRestaurantsPage(null, 10_000);
+
+        assertEquals(1, result.getItems().size());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void streamAllRestaurants_shouldMapAndDetachEachRow() {
+        when(restaurantRepository.streamAllByOrderByIdAsc()).thenReturn(Stream.of(restaurant));
+        List<RestaurantResponse> written = new ArrayList<>();
+
+        restaurantService.streamAllRestaurants(written::add);
+
+        assertEquals(Arrays.asList(restaurantResponse), written);
+        verify(entityManager, times(1)).detach(restaurant);
     }
 
     @Test
     void getRestaurantById_shouldReturnRestaurant_whenFound() {
         when(restaurantRepository.findById(1L)).thenReturn(Optional.of(restaurant));
-        when(modelMapper.map(any(Restaurant.class), eq(RestaurantResponse.class))).thenReturn(restaurantResponse);
 
         Optional<RestaurantResponse> result = restaurantService.getRestaurantById(1L);
 
         assertTrue(result.isPresent());
         assertEquals(restaurantResponse, result.get());
         verify(restaurantRepository, times(1)).findById(1L);
-        verify(modelMapper, times(1)).map(any(Restaurant.class), eq(RestaurantResponse.class));
+        verify(restaurantMapper, times(1)).toResponse(any(Restaurant.class));
     }
 
     @Test
@@ -123,29 +209,26 @@ class RestaurantServiceImplTest {
 
         assertFalse(result.isPresent());
         verify(restaurantRepository, times(1)).findById(1L);
-        verify(modelMapper, never()).map(any(), any());
+        verifyNoInteractions(restaurantMapper);
     }
 
     @Test
     void createRestaurant_shouldReturnCreatedRestaurant() {
-        when(modelMapper.map(any(RestaurantRequest.class), eq(Restaurant.class))).thenReturn(restaurant);
         when(restaurantRepository.save(any(Restaurant.class))).thenReturn(restaurant);
-        when(modelMapper.map(any(Restaurant.class), eq(RestaurantResponse.class))).thenReturn(restaurantResponse);
 
         RestaurantResponse result = restaurantService.createRestaurant(restaurantRequest);
 
         assertNotNull(result);
         assertEquals(restaurantResponse, result);
-        verify(modelMapper, times(1)).map(restaurantRequest, Restaurant.class);
-        verify(restaurantRepository, times(1)).save(restaurant);
-        verify(modelMapper, times(1)).map(restaurant, RestaurantResponse.class);
+        verify(restaurantMapper, times(1)).toEntity(restaurantRequest);
+        verify(restaurantRepository, times(1)).save(any(Restaurant.class));
+        verify(restaurantMapper, times(1)).toResponse(restaurant);
     }
 
     @Test
     void updateRestaurant_shouldReturnUpdatedRestaurant_whenFound() {
         when(restaurantRepository.findById(1L)).thenReturn(Optional.of(restaurant));
         when(restaurantRepository.save(any(Restaurant.class))).thenReturn(restaurant);
-        when(modelMapper.map(any(Restaurant.class), eq(RestaurantResponse.class))).thenReturn(restaurantResponse);
 
         RestaurantResponse result = restaurantService.updateRestaurant(1L, restaurantRequest);
 
@@ -153,7 +236,7 @@ class RestaurantServiceImplTest {
         assertEquals(restaurantResponse, result);
         verify(restaurantRepository, times(1)).findById(1L);
         verify(restaurantRepository, times(1)).save(restaurant);
-        verify(modelMapper, times(1)).map(restaurant, RestaurantResponse.class);
+        verify(restaurantMapper, times(1)).toResponse(restaurant);
     }
 
     @Test
@@ -163,33 +246,36 @@ class RestaurantServiceImplTest {
         assertThrows(ResourceNotFoundException.class, () -> restaurantService.updateRestaurant(1L, restaurantRequest));
         verify(restaurantRepository, times(1)).findById(1L);
         verify(restaurantRepository, never()).save(any());
-        verify(modelMapper, never()).map(any(), any());
+        verifyNoInteractions(restaurantMapper);
     }
 
     @Test
     void deleteRestaurant_shouldDeleteRestaurant() {
+        when(productRepository.findIdsByRestaurantId(1L)).thenReturn(List.of(101L, 102L));
         doNothing().when(restaurantRepository).deleteById(1L);
 
         restaurantService.deleteRestaurant(1L);
 
         verify(restaurantRepository, times(1)).deleteById(1L);
+        verify(menuCache, times(1)).invalidate(1L);
+        verify(menuInvalidationProducer, times(1)).sendMenuInvalidation(1L);
+        verify(productPriceProducer, times(1)).sendRemoval(1L, 101L);
+        verify(productPriceProducer, times(1)).sendRemoval(1L, 102L);
     }
 
     @Test
     void addMenuItem_shouldReturnAddedMenuItem_whenRestaurantFound() {
         when(restaurantRepository.findById(1L)).thenReturn(Optional.of(restaurant));
-        when(modelMapper.map(any(ProductRequest.class), eq(Product.class))).thenReturn(product);
         when(productRepository.save(any(Product.class))).thenReturn(product);
-        when(modelMapper.map(any(Product.class), eq(ProductResponse.class))).thenReturn(productResponse);
 
         ProductResponse result = restaurantService.addMenuItem(1L, productRequest);
 
         assertNotNull(result);
         assertEquals(productResponse, result);
         verify(restaurantRepository, times(1)).findById(1L);
-        verify(modelMapper, times(1)).map(productRequest, Product.class);
-        verify(productRepository, times(1)).save(product);
-        verify(modelMapper, times(1)).map(product, ProductResponse.class);
+        verify(restaurantMapper, times(1)).toEntity(productRequest);
+        verify(productRepository, times(1)).save(any(Product.class));
+        verify(restaurantMapper, times(1)).toResponse(product);
     }
 
     @Test
@@ -198,7 +284,7 @@ class RestaurantServiceImplTest {
 
         assertThrows(ResourceNotFoundException.class, () -> restaurantService.addMenuItem(1L, productRequest));
         verify(restaurantRepository, times(1)).findById(1L);
-        verify(modelMapper, never()).map(any(ProductRequest.class), eq(Product.class));
+        verify(restaurantMapper, never()).toEntity(any(ProductRequest.class));
         verify(productRepository, never()).save(any());
     }
 
@@ -206,7 +292,6 @@ class RestaurantServiceImplTest {
     void updateMenuItem_shouldReturnUpdatedMenuItem_whenFoundAndBelongsToRestaurant() {
         when(productRepository.findById(101L)).thenReturn(Optional.of(product));
         when(productRepository.save(any(Product.class))).thenReturn(product);
-        when(modelMapper.map(any(Product.class), eq(ProductResponse.class))).thenReturn(productResponse);
 
         ProductResponse result = restaurantService.updateMenuItem(1L, 101L, productRequest);
 
@@ -214,7 +299,8 @@ class RestaurantServiceImplTest {
         assertEquals(productResponse, result);
         verify(productRepository, times(1)).findById(101L);
         verify(productRepository, times(1)).save(product);
-        verify(modelMapper, times(1)).map(product, ProductResponse.class);
+        verify(restaurantMapper, times(1)).toResponse(product);
+        verify(productPriceProducer, times(1)).sendPriceChange(1L, 101L, product.getPrice());
     }
 
     @Test
@@ -234,6 +320,7 @@ class RestaurantServiceImplTest {
         assertThrows(AccessDeniedException.class, () -> restaurantService.updateMenuItem(1L, 102L, productRequest));
         verify(productRepository, times(1)).findById(102L);
         verify(productRepository, never()).save(any());
+        verify(productPriceProducer, never()).sendPriceChange(any(), any(), any());
     }
 
     @Test
@@ -245,6 +332,7 @@ class RestaurantServiceImplTest {
 
         verify(productRepository, times(1)).findById(101L);
         verify(productRepository, times(1)).delete(product);
+        verify(productPriceProducer, times(1)).sendRemoval(1L, 101L);
     }
 
     @Test
@@ -270,7 +358,6 @@ class RestaurantServiceImplTest {
     void getMenuForRestaurant_shouldReturnListOfProducts_whenRestaurantFound() {
         restaurant.setMenu(Arrays.asList(product));
         when(restaurantRepository.findById(1L)).thenReturn(Optional.of(restaurant));
-        when(modelMapper.map(any(Product.class), eq(ProductResponse.class))).thenReturn(productResponse);
 
         List<ProductResponse> result = restaurantService.getMenuForRestaurant(1L);
 
@@ -279,7 +366,52 @@ class RestaurantServiceImplTest {
         assertEquals(1, result.size());
         assertEquals(productResponse, result.get(0));
         verify(restaurantRepository, times(1)).findById(1L);
-        verify(modelMapper, times(1)).map(any(Product.class), eq(ProductResponse.class));
+        verify(restaurantMapper, times(1)).toResponse(any(Product.class));
+    }
+
+    @Test
+    void getPopularMenuForRestaurant_shouldOrderCachedMenuByPopularity() {
+        Product other = Product.builder().id(102L).name("Other Product").price(BigDecimal.ONE).restaurant(restaurant).build();
+        Product third = Product.builder().id(103L).name("Third Product").price(BigDecimal.ONE).restaurant(restaurant).build();
+        restaurant.setMenu(Arrays.asList(product, other, third));
+        when(restaurantRepository.findById(1L)).thenReturn(Optional.of(restaurant));
+        when(productPopularity.scores()).thenReturn(new ProductPopularity.Scores(Map.of(102L, 3.0, 103L, 7.0), 1));
+
+        List<ProductResponse> result = restaurantService.getPopularMenuForRestaurant(1L);
+
+        assertEquals(List.of(103L, 102L, 101L), result.stream().map(ProductResponse::getId).toList());
+        assertEquals(List.of(101L, 102L, 103L),
+                restaurantService.getMenuForRestaurant(1L).stream().map(ProductResponse::getId).toList());
+        verify(restaurantRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void getMenuForRestaurant_shouldServeSecondCallFromCache() {
+        restaurant.setMenu(Arrays.asList(product));
+        when(restaurantRepository.findById(1L)).thenReturn(Optional.of(restaurant));
+
+        restaurantService.getMenuForRestaurant(1L);
+        List<ProductResponse> result = restaurantService.getMenuForRestaurant(1L);
+
+        assertEquals(1, result.size());
+        verify(restaurantRepository, times(1)).findById(1L);
+        assertEquals(1, menuCache.getHitCount());
+        assertEquals(1, menuCache.getMissCount());
+    }
+
+    @Test
+    void getMenuForRestaurant_shouldReloadAfterMenuItemUpdated() {
+        restaurant.setMenu(Arrays.asList(product));
+        when(restaurantRepository.findById(1L)).thenReturn(Optional.of(restaurant));
+        when(productRepository.findById(101L)).thenReturn(Optional.of(product));
+        when(productRepository.save(any(Product.class))).thenReturn(product);
+
+        restaurantService.getMenuForRestaurant(1L);
+        restaurantService.updateMenuItem(1L, 101L, productRequest);
+        restaurantService.getMenuForRestaurant(1L);
+
+        verify(restaurantRepository, times(2)).findById(1L);
+        verify(menuInvalidationProducer, times(1)).sendMenuInvalidation(1L);
     }
 
     @Test
@@ -288,20 +420,19 @@ class RestaurantServiceImplTest {
 
         assertThrows(ResourceNotFoundException.class, () -> restaurantService.getMenuForRestaurant(1L));
         verify(restaurantRepository, times(1)).findById(1L);
-        verify(modelMapper, never()).map(any(), any());
+        verifyNoInteractions(restaurantMapper);
     }
 
     @Test
     void getMenuItemById_shouldReturnProduct_whenFoundAndBelongsToRestaurant() {
         when(productRepository.findById(101L)).thenReturn(Optional.of(product));
-        when(modelMapper.map(any(Product.class), eq(ProductResponse.class))).thenReturn(productResponse);
 
         Optional<ProductResponse> result = restaurantService.getMenuItemById(1L, 101L);
 
         assertTrue(result.isPresent());
         assertEquals(productResponse, result.get());
         verify(productRepository, times(1)).findById(101L);
-        verify(modelMapper, times(1)).map(any(Product.class), eq(ProductResponse.class));
+        verify(restaurantMapper, times(1)).toResponse(any(Product.class));
     }
 
     @Test
@@ -312,7 +443,7 @@ class RestaurantServiceImplTest {
 
         assertFalse(result.isPresent());
         verify(productRepository, times(1)).findById(101L);
-        verify(modelMapper, never()).map(any(), any());
+        verifyNoInteractions(restaurantMapper);
     }
 
     @Test
@@ -324,13 +455,12 @@ class RestaurantServiceImplTest {
 
         assertFalse(result.isPresent());
         verify(productRepository, times(1)).findById(102L);
-        verify(modelMapper, never()).map(any(), any());
+        verifyNoInteractions(restaurantMapper);
     }
 
     @Test
     void getAllMenuItems_shouldReturnListOfProducts() {
         when(productRepository.findAll()).thenReturn(Arrays.asList(product));
-        when(modelMapper.map(any(Product.class), eq(ProductResponse.class))).thenReturn(productResponse);
 
         List<ProductResponse> result = restaurantService.getAllMenuItems();
 
@@ -339,66 +469,133 @@ class RestaurantServiceImplTest {
         assertEquals(1, result.size());
         assertEquals(productResponse, result.get(0));
         verify(productRepository, times(1)).findAll();
-        verify(modelMapper, times(1)).map(any(Product.class), eq(ProductResponse.class));
+        verify(restaurantMapper, times(1)).toResponse(any(Product.class));
+    }
+
+    @Test
+    void getMenuItemsPage_shouldReturnNextCursor_whenMoreRowsExist() {
+        Product next = Product.builder().id(102L).name("Next").restaurant(restaurant).build();
+        when(productRepository.findByIdGreaterThanOrderByIdAsc(100L, Limit.of(2))).thenReturn(Arrays.asList(product, next));
+
+        CursorPageResponse<ProductResponse> result = restaurantService.getMenuItemsPage(100L, 1);
+
+        assertEquals(Arrays.asList(productResponse), result.getItems());
+        assertEquals(101L, result.getNextCursor());
+    }
+
+    @Test
+    void streamAllMenuItems_shouldMapAndDetachEachRow() {
+        when(productRepository.streamAllByOrderByIdAsc()).thenReturn(Stream.of(product));
+        List<ProductResponse> written = new ArrayList<>();
+
+        restaurantService.streamAllMenuItems(written::add);
+
+        assertEquals(Arrays.asList(productResponse), written);
+        verify(entityManager, times(1)).detach(product);
     }
 
     @Test
     void searchMenuItemsByName_shouldReturnMatchingProducts() {
-        when(productRepository.findByNameContainingIgnoreCase("Test")).thenReturn(Arrays.asList(product));
-        when(modelMapper.map(any(Product.class), eq(ProductResponse.class))).thenReturn(productResponse);
+        searchIndex.indexProduct(1L, productResponse);
 
-        List<ProductResponse> result = restaurantService.searchMenuItemsByName("Test");
+        List<ProductResponse> result = restaurantService.searchMenuItemsByName("Test", 10);
 
-        assertNotNull(result);
-        assertFalse(result.isEmpty());
-        assertEquals(1, result.size());
-        assertEquals(productResponse, result.get(0));
-        verify(productRepository, times(1)).findByNameContainingIgnoreCase("Test");
-        verify(modelMapper, times(1)).map(any(Product.class), eq(ProductResponse.class));
+        assertEquals(List.of(productResponse), result);
+        verify(searchIndex, times(1)).searchMenuItemsByName("Test", 10);
+        verifyNoInteractions(productRepository);
     }
 
     @Test
     void searchRestaurantsByMenuItem_shouldReturnMatchingRestaurants() {
-        when(restaurantRepository.findByMenuNameContainingIgnoreCase("Test")).thenReturn(Arrays.asList(restaurant));
-        when(modelMapper.map(any(Restaurant.class), eq(RestaurantResponse.class))).thenReturn(restaurantResponse);
+        restaurantResponse.setMenu(List.of(productResponse));
+        searchIndex.indexRestaurant(restaurantResponse);
 
-        List<RestaurantResponse> result = restaurantService.searchRestaurantsByMenuItem("Test");
+        List<RestaurantResponse> result = restaurantService.searchRestaurantsByMenuItem("test product", 10);
 
-        assertNotNull(result);
-        assertFalse(result.isEmpty());
-        assertEquals(1, result.size());
-        assertEquals(restaurantResponse, result.get(0));
-        verify(restaurantRepository, times(1)).findByMenuNameContainingIgnoreCase("Test");
-        verify(modelMapper, times(1)).map(any(Restaurant.class), eq(RestaurantResponse.class));
+        assertEquals(List.of(restaurantResponse), result);
+        verifyNoInteractions(restaurantRepository);
     }
 
     @Test
     void searchRestaurantsByCity_shouldReturnMatchingRestaurants() {
-        when(restaurantRepository.findByAddressContainingIgnoreCase("Test")).thenReturn(Arrays.asList(restaurant));
-        when(modelMapper.map(any(Restaurant.class), eq(RestaurantResponse.class))).thenReturn(restaurantResponse);
+        searchIndex.indexRestaurant(restaurantResponse);
 
-        List<RestaurantResponse> result = restaurantService.searchRestaurantsByCity("Test");
+        List<RestaurantResponse> result = restaurantService.searchRestaurantsByCity("Test", 10);
 
-        assertNotNull(result);
-        assertFalse(result.isEmpty());
-        assertEquals(1, result.size());
-        assertEquals(restaurantResponse, result.get(0));
-        verify(restaurantRepository, times(1)).findByAddressContainingIgnoreCase("Test");
-        verify(modelMapper, times(1)).map(any(Restaurant.class), eq(RestaurantResponse.class));
+        assertEquals(List.of(restaurantResponse), result);
+        verifyNoInteractions(restaurantRepository);
     }
 
     @Test
     void searchRestaurantsByName_shouldReturnMatchingRestaurants() {
-        when(restaurantRepository.findByNameContainingIgnoreCase("Test")).thenReturn(Arrays.asList(restaurant));
-        when(modelMapper.map(any(Restaurant.class), eq(RestaurantResponse.class))).thenReturn(restaurantResponse);
+        searchIndex.indexRestaurant(restaurantResponse);
 
-        List<RestaurantResponse> result = restaurantService.searchRestaurantsByName("Test");
+        List<RestaurantResponse> result = restaurantService.searchRestaurantsByName("Test", 10);
 
-        assertNotNull(result);
-        assertFalse(result.isEmpty());
-        assertEquals(1, result.size());
-        assertEquals(restaurantResponse, result.get(0));
-        verify(restaurantRepository, times(1)).findByNameContainingIgnoreCase("Test");
-        verify(modelMapper, times(1)).map(any(Restaurant.class), eq(RestaurantResponse.class));
+        assertEquals(List.of(restaurantResponse), result);
+        verifyNoInteractions(restaurantRepository);
+    }
+
+    @Test
+    void searchRestaurantsByName_shouldClampLimit() {
+        searchIndex.indexRestaurant(restaurantResponse);
+
+        restaurantService.searchRestaurantsByName("Test", 10_000);
+
+        verify(searchIndex, times(1)).searchRestaurantsByName("Test", RestaurantServiceImpl.MAX_PAGE_SIZE);
+    }
+
+    @Test
+    void writes_shouldKeepSearchIndexUpToDate() {
+        when(restaurantRepository.save(any(Restaurant.class))).thenReturn(restaurant);
+        restaurantService.createRestaurant(restaurantRequest);
+        assertEquals(1, restaurantService.searchRestaurantsByName("test restaurant", 10).size());
+
+        when(restaurantRepository.findById(1L)).thenReturn(Optional.of(restaurant));
+        when(productRepository.save(any(Product.class))).thenReturn(product);
+        restaurantService.addMenuItem(1L, productRequest);
+        assertEquals(List.of(productResponse), restaurantService.searchMenuItemsByName("product", 10));
+
+        when(productRepository.findById(101L)).thenReturn(Optional.of(product));
+        restaurantService.deleteMenuItem(1L, 101L);
+        assertTrue(restaurantService.searchMenuItemsByName("product", 10).isEmpty());
+
+        restaurantService.deleteRestaurant(1L);
+        assertTrue(restaurantService.searchRestaurantsByName("test restaurant", 10).isEmpty());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void searchRestaurants_shouldQueryCompositeSpecificationAndReturnCursor() {
+        List<Restaurant> rows = new ArrayList<>();
+        for (long id = 5; id <= 7; id++) {
+            rows.add(Restaurant.builder().id(id).name("R" + id).address("Address").build());
+        }
+        when(restaurantRepository.findBy(any(Specification.class), any(Function.class))).thenReturn(rows);
+
+        CursorPageResponse<RestaurantResponse> result = restaurantService.searchRestaurants("r", "address", "pizza", 4L, 2);
+
+        assertEquals(2, result.getItems().size());
+        assertEquals(6L, result.getNextCursor());
+        verify(restaurantRepository, times(1)).findBy(any(Specification.class), any(Function.class));
+        verifyNoInteractions(searchIndex);
+    }
+
+    @Test
+    void getRestaurantStats_shouldReturnAggregatedStats() {
+        RestaurantStatsResponse stats = new RestaurantStatsResponse();
+        stats.setRestaurantId(1L);
+        when(restaurantRepository.existsById(1L)).thenReturn(true);
+        when(orderStatsAggregator.getStats(1L)).thenReturn(stats);
+
+        assertSame(stats, restaurantService.getRestaurantStats(1L));
+    }
+
+    @Test
+    void getRestaurantStats_shouldThrowWhenRestaurantNotFound() {
+        when(restaurantRepository.existsById(99L)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () -> restaurantService.getRestaurantStats(99L));
+        verifyNoInteractions(orderStatsAggregator);
     }
 }
@@ -0,0 +1,159 @@
+package com.tech.restaurant_service.stats;
+
+import com.tech.restaurant_service.dto.OrderStatsBucket;
+import com.tech.restaurant_service.dto.ProductOrderCount;
+import com.tech.restaurant_service.dto.RestaurantStatsResponse;
+import com.tech.restaurant_service.entity.RestaurantOrderStats;
+import com.tech.restaurant_service.entity.RestaurantProductStats;
+import com.tech.restaurant_service.repository.RestaurantOrderStatsRepository;
+import com.tech.restaurant_service.repository.RestaurantProductStatsRepository;
+import com.tech.shared_events.event.OrderItemEvent;
+import com.tech.shared_events.event.OrderPlacedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class OrderStatsAggregatorTest {
+
+    private RestaurantOrderStatsRepository orderStatsRepository;
+    private RestaurantProductStatsRepository productStatsRepository;
+    private OrderStatsAggregator aggregator;
+    private long lastOrderId;
+
+    @BeforeEach
+    void setUp() {
+        orderStatsRepository = mock(RestaurantOrderStatsRepository.class);
+        productStatsRepository = mock(RestaurantProductStatsRepository.class);
+        aggregator = new OrderStatsAggregator(orderStatsRepository, productStatsRepository,
+                mock(PlatformTransactionManager.class), 48, 2, 3);
+    }
+
+    private OrderPlacedEvent event(Long restaurantId, String total, LocalDateTime orderDate, OrderItemEvent... items) {
+        return event(++lastOrderId, restaurantId, total, orderDate, items);
+    }
+
+    private static OrderPlacedEvent event(long orderId, Long restaurantId, String total, LocalDateTime orderDate, OrderItemEvent... items) {
+        return new OrderPlacedEvent(orderId, 1L, restaurantId, new BigDecimal(total), orderDate, List.of(items));
+    }
+
+    private static OrderItemEvent item(long productId, int quantity) {
+        return new OrderItemEvent(productId, quantity, BigDecimal.ONE);
+    }
+
+    @Test
+    void getStats_shouldIncludeDeltasNotFlushedYet() {
+        LocalDateTime now = LocalDateTime.now();
+        aggregator.handle(List.of(
+                event(7L, "10.00", now, item(1, 2), item(2, 1)),
+                event(7L, "5.50", now, item(1, 1), item(3, 4)),
+                event(9L, "99.00", now, item(1, 50)),
+                event(null, "1.00", now)));
+        aggregator.handle(List.of(event(7L, "2.50", now.minusHours(3), item(2, 1))));
+
+        RestaurantStatsResponse stats = aggregator.getStats(7L);
+
+        assertEquals(3, stats.getOrders());
+        assertEquals(new BigDecimal("18.00"), stats.getRevenue());
+        assertEquals(OrderStatsAggregator.MINUTES_SHOWN, stats.getOrdersPerMinute().size());
+        assertEquals(2, stats.getOrdersPerMinute().stream().mapToLong(OrderStatsBucket::getOrders).sum());
+        assertEquals(OrderStatsAggregator.HOURS_SHOWN, stats.getOrdersPerHour().size());
+        assertEquals(1, stats.getOrdersPerHour().get(OrderStatsAggregator.HOURS_SHOWN - 4).getOrders());
+        assertEquals(List.of(new ProductOrderCount(3L, 4), new ProductOrderCount(1L, 3)), stats.getTopProducts());
+    }
+
+    @Test
+    void getStats_shouldCombineStoredRowsWithPendingDeltas() {
+        LocalDateTime minute = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+        when(orderStatsRepository.findByRestaurantIdAndBucketStartGreaterThanEqualOrderByBucketStartAsc(eq(7L), any()))
+                .thenReturn(List.of(new RestaurantOrderStats(1L, 7L, minute, 4, new BigDecimal("40.00"))));
+        when(productStatsRepository.sumQuantitiesByProduct(eq(7L), any()))
+                .thenReturn(List.of(new ProductOrderCount(2L, 6)));
+        aggregator.handle(List.of(event(7L, "10.00", minute, item(1, 5))));
+
+        RestaurantStatsResponse stats = aggregator.getStats(7L);
+
+        assertEquals(5, stats.getOrders());
+        assertEquals(new BigDecimal("50.00"), stats.getRevenue());
+        assertEquals(List.of(new ProductOrderCount(2L, 6), new ProductOrderCount(1L, 5)), stats.getTopProducts());
+    }
+
+    @Test
+    void flush_shouldIncrementExistingRowsAndInsertMissingOnes() {
+        LocalDateTime minute = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+        when(orderStatsRepository.increment(eq(7L), eq(minute), anyLong(), any())).thenReturn(1);
+        aggregator.handle(List.of(
+                event(7L, "10.00", minute, item(1, 2)),
+                event(9L, "4.00", minute, item(1, 1)),
+                event(7L, "3.00", minute, item(1, 1))));
+
+        aggregator.flush();
+
+        verify(orderStatsRepository).increment(7L, minute, 2, new BigDecimal("13.00"));
+        verify(orderStatsRepository).increment(9L, minute, 1, new BigDecimal("4.00"));
+        verify(orderStatsRepository).save(new RestaurantOrderStats(null, 9L, minute, 1, new BigDecimal("4.00")));
+        verify(orderStatsRepository, times(1)).save(any());
+        LocalDateTime hour = minute.truncatedTo(ChronoUnit.HOURS);
+        verify(productStatsRepository).increment(7L, hour, 1L, 3);
+        verify(productStatsRepository).save(new RestaurantProductStats(null, 7L, hour, 1L, 3));
+        assertEquals(0, aggregator.getStats(7L).getOrders());
+    }
+
+    @Test
+    void flush_shouldKeepDeltasWhenWriteFails() {
+        LocalDateTime now = LocalDateTime.now();
+        when(orderStatsRepository.increment(anyLong(), any(), anyLong(), any())).thenThrow(new QueryTimeoutException("timeout"));
+        aggregator.handle(List.of(event(7L, "10.00", now, item(1, 2))));
+
+        aggregator.flush();
+        aggregator.handle(List.of(event(7L, "5.00", now, item(1, 1))));
+
+        RestaurantStatsResponse stats = aggregator.getStats(7L);
+        assertEquals(2, stats.getOrders());
+        assertEquals(List.of(new ProductOrderCount(1L, 3)), stats.getTopProducts());
+    }
+
+    @Test
+    void handle_shouldIgnoreEventsOlderThanRetention() {
+        aggregator.handle(List.of(event(7L, "10.00", LocalDateTime.now().minusDays(3), item(1, 2))));
+
+        aggregator.flush();
+
+        verifyNoInteractions(orderStatsRepository, productStatsRepository);
+    }
+
+    @Test
+    void handle_shouldCountRedeliveredOrderOnce() {
+        LocalDateTime now = LocalDateTime.now();
+        OrderPlacedEvent order = event(100L, 7L, "10.00", now, item(1, 2));
+
+        aggregator.handle(List.of(order, event(101L, 7L, "5.00", now, item(1, 1)), order));
+        aggregator.handle(List.of(order));
+
+        RestaurantStatsResponse stats = aggregator.getStats(7L);
+        assertEquals(2, stats.getOrders());
+        assertEquals(new BigDecimal("15.00"), stats.getRevenue());
+        assertEquals(List.of(new ProductOrderCount(1L, 3)), stats.getTopProducts());
+    }
+
+    @Test
+    void handle_shouldForgetOrdersOutsideDedupWindow() {
+        LocalDateTime now = LocalDateTime.now();
+        OrderPlacedEvent order = event(100L, 7L, "10.00", now, item(1, 2));
+
+        aggregator.handle(List.of(order));
+        aggregator.handle(List.of(event(7L, "1.00", now), event(7L, "1.00", now), event(7L, "1.00", now)));
+        aggregator.handle(List.of(order));
+
+        assertEquals(5, aggregator.getStats(7L).getOrders());
+    }
+}
@@ -0,0 +1,105 @@
+package com.tech.restaurant_service.stats;
+
+import com.tech.restaurant_service.entity.RestaurantProductStats;
+import com.tech.restaurant_service.repository.RestaurantProductStatsRepository;
+import com.tech.shared_events.event.OrderItemEvent;
+import com.tech.shared_events.event.OrderPlacedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ProductPopularityTest {
+
+    private final RestaurantProductStatsRepository productStatsRepository = mock(RestaurantProductStatsRepository.class);
+
+    private long lastOrderId;
+
+    private OrderPlacedEvent event(LocalDateTime orderDate, OrderItemEvent... items) {
+        return new OrderPlacedEvent(++lastOrderId, 1L, 7L, BigDecimal.TEN, orderDate, List.of(items));
+    }
+
+    private static OrderItemEvent item(long productId, int quantity) {
+        return new OrderItemEvent(productId, quantity, BigDecimal.ONE);
+    }
+
+    @Test
+    void handle_shouldScoreProductsByQuantityOrdered() {
+        ProductPopularity popularity = new ProductPopularity(productStatsRepository, 100, 24, 100);
+        LocalDateTime now = LocalDateTime.now();
+
+        popularity.handle(List.of(event(now, item(1, 2), item(2, 2)), event(now, item(1, 3), item(3, 9))));
+        ProductPopularity.Scores scores = popularity.scores();
+
+        assertEquals(5, scores.of(1L), 0.01);
+        assertTrue(scores.of(3L) > scores.of(1L));
+        assertTrue(scores.of(1L) > scores.of(2L));
+        assertEquals(0, scores.of(4L));
+    }
+
+    @Test
+    void handle_shouldDecayOlderOrdersByHalfLife() {
+        ProductPopularity popularity = new ProductPopularity(productStatsRepository, 100, 1, 100);
+        LocalDateTime now = LocalDateTime.now();
+
+        popularity.handle(List.of(event(now.minusHours(2), item(1, 8)), event(now, item(2, 2))));
+        popularity.handle(List.of(event(now.plusHours(5), item(3, 1))));
+        ProductPopularity.Scores scores = popularity.scores();
+
+        assertEquals(2, scores.of(1L), 0.01);
+        assertEquals(2, scores.of(2L), 0.01);
+        // Orders dated in the future count as placed now.
+        assertEquals(1, scores.of(3L), 0.01);
+    }
+
+    @Test
+    void handle_shouldReplaceLowestScoredProductOnceFull() {
+        ProductPopularity popularity = new ProductPopularity(productStatsRepository, 2, 24, 100);
+        LocalDateTime now = LocalDateTime.now();
+
+        popularity.handle(List.of(event(now, item(1, 5), item(2, 1))));
+        ProductPopularity.Scores before = popularity.scores();
+        popularity.handle(List.of(event(now, item(3, 2))));
+        ProductPopularity.Scores after = popularity.scores();
+
+        assertEquals(5, after.of(1L), 0.01);
+        assertEquals(0, after.of(2L));
+        assertEquals(3, after.of(3L), 0.01);
+        assertEquals(1, before.of(2L), 0.01);
+        assertEquals(0, before.of(3L));
+    }
+
+    @Test
+    void loadRecentOrders_shouldSeedScoresFromHourlyStats() {
+        LocalDateTime hour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        when(productStatsRepository.findByBucketStartGreaterThanEqual(any())).thenReturn(List.of(
+                new RestaurantProductStats(1L, 7L, hour, 1L, 4),
+                new RestaurantProductStats(2L, 7L, hour.minusHours(30), 2L, 40)));
+        ProductPopularity popularity = new ProductPopularity(productStatsRepository, 100, 24, 100);
+
+        popularity.loadRecentOrders();
+        popularity.handle(List.of(event(LocalDateTime.now(), item(1, 1))));
+        ProductPopularity.Scores scores = popularity.scores();
+
+        assertTrue(scores.of(1L) > 4.5 && scores.of(1L) <= 5);
+        assertTrue(scores.of(2L) > 15 && scores.of(2L) < 20);
+    }
+
+    @Test
+    void handle_shouldCountRedeliveredOrderOnce() {
+        ProductPopularity popularity = new ProductPopularity(productStatsRepository, 100, 24, 100);
+        LocalDateTime now = LocalDateTime.now();
+        OrderPlacedEvent order = event(now, item(1, 2));
+
+        popularity.handle(List.of(order, event(now, item(1, 3)), order));
+        popularity.handle(List.of(order));
+
+        assertEquals(5, popularity.scores().of(1L), 0.01);
+    }
+}
@@ -0,0 +1,137 @@
+package com.tech.shared_events.codec;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reads the values {@link BinaryWriter} wrote. Truncated or corrupt input
+ * fails with {@link IllegalArgumentException}.
+ */
+final class BinaryReader {
+
+    private final byte[] data;
+    private int position;
+
+    BinaryReader(byte[] data, int offset) {
+        this.data = data;
+        this.position = offset;
+    }
+
+    int readByte() {
+        require(1);
+        return data[position++] & 0xFF;
+    }
+
+    long readVarint() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint at offset " + position);
+    }
+
+    long readLong() {
+        long value = readVarint();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    int readInt() {
+        return Math.toIntExact(readLong());
+    }
+
+    int readLength() {
+        long length = readVarint();
+        if (length < 0 || length > data.length - position) {
+            throw new IllegalArgumentException("Length " + length + " at offset " + position + " runs past the end of the data");
+        }
+        return (int) length;
+    }
+
+    BigDecimal readDecimal() {
+        int scale = readInt();
+        int length = readLength();
+        if (length == 0) {
+            throw new IllegalArgumentException("Empty decimal at offset " + position);
+        }
+        if (length <= 8) {
+            long bits = data[position++];
+            for (int i = 1; i < length; i++) {
+                bits = (bits << 8) | (data[position++] & 0xFF);
+            }
+            return BigDecimal.valueOf(bits, scale);
+        }
+        BigInteger unscaled = new BigInteger(Arrays.copyOfRange(data, position, position + length));
+        position += length;
+        return new BigDecimal(unscaled, scale);
+    }
+
+    LocalDateTime readTimestamp() {
+        long seconds = readLong();
+        int nanos = Math.toIntExact(readVarint());
+        return LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+    }
+
+    String readString() {
+        int length = readLength();
+        String value = new String(data, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    /**
+     * Skips a record written with {@code fields}, for array elements no reader
+     * field maps to.
+     */
+    void skipRecord(List<EventSchema.Field> fields) {
+        int bitmapStart = position;
+        int bitmapLength = (fields.size() + 7) / 8;
+        require(bitmapLength);
+        position += bitmapLength;
+        for (int i = 0; i < fields.size(); i++) {
+            if ((data[bitmapStart + i / 8] & (1 << (i % 8))) != 0) {
+                skip(fields.get(i));
+            }
+        }
+    }
+
+    void skip(EventSchema.Field field) {
+        switch (field.type()) {
+            case INT, LONG -> readVarint();
+            case DECIMAL -> {
+                readVarint();
+                skipBytes();
+            }
+            case TIMESTAMP -> {
+                readVarint();
+                readVarint();
+            }
+            case STRING -> skipBytes();
+            case ARRAY -> {
+                long count = readVarint();
+                for (long i = 0; i < count; i++) {
+                    skipRecord(field.items());
+                }
+            }
+        }
+    }
+
+    private void skipBytes() {
+        int length = readLength();
+        position += length;
+    }
+
+    private void require(int bytes) {
+        if (position + bytes > data.length) {
+            throw new IllegalArgumentException("Unexpected end of data at offset " + position);
+        }
+    }
+}
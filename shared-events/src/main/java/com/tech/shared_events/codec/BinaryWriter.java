@@ -0,0 +1,90 @@
+package com.tech.shared_events.codec;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * Appends {@link FieldType} values to a growable byte array.
+ */
+final class BinaryWriter {
+
+    private byte[] buffer;
+    private int position;
+
+    BinaryWriter(int initialCapacity) {
+        buffer = new byte[initialCapacity];
+    }
+
+    int position() {
+        return position;
+    }
+
+    void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+    }
+
+    void setByte(int index, int value) {
+        buffer[index] = (byte) value;
+    }
+
+    void writeVarint(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    void writeLong(long value) {
+        writeVarint((value << 1) ^ (value >> 63));
+    }
+
+    void writeDecimal(BigDecimal value) {
+        writeLong(value.scale());
+        BigInteger unscaled = value.unscaledValue();
+        if (unscaled.bitLength() < 64) {
+            // Same bytes as BigInteger.toByteArray() without allocating them.
+            long bits = unscaled.longValue();
+            int length = unscaled.bitLength() / 8 + 1;
+            writeVarint(length);
+            ensureCapacity(length);
+            for (int shift = (length - 1) * 8; shift >= 0; shift -= 8) {
+                buffer[position++] = (byte) (bits >> shift);
+            }
+        } else {
+            writeBytes(unscaled.toByteArray());
+        }
+    }
+
+    void writeTimestamp(LocalDateTime value) {
+        writeLong(value.toEpochSecond(ZoneOffset.UTC));
+        writeVarint(value.getNano());
+    }
+
+    void writeString(String value) {
+        writeBytes(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void writeBytes(byte[] bytes) {
+        writeVarint(bytes.length);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    private void ensureCapacity(int needed) {
+        if (position + needed > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + needed));
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.tech.shared_events.codec;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * One version of an event's wire layout. Records are encoded as a presence
+ * bitmap over {@code fields}, then the value of each present field in order.
+ */
+public record EventSchema(String subject, int version, List<Field> fields) {
+
+    public EventSchema {
+        fields = List.copyOf(fields);
+    }
+
+    /**
+     * A named field. {@code items} describes the elements of an {@link FieldType#ARRAY}
+     * and is empty for every other type.
+     */
+    public record Field(String name, FieldType type, @JsonInclude(JsonInclude.Include.NON_EMPTY) List<Field> items) {
+
+        public Field {
+            items = items == null ? List.of() : List.copyOf(items);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.tech.shared_events.codec;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.Locale;
+
+/**
+ * Wire types a schema field can have. Every field is optional.
+ */
+public enum FieldType {
+    /** Zigzag varint. */
+    INT,
+    /** Zigzag varint. */
+    LONG,
+    /** Scale as a zigzag varint, then the unscaled value as length-prefixed big-endian two's complement. */
+    DECIMAL,
+    /** UTC epoch seconds as a zigzag varint, then nanoseconds as a varint. */
+    TIMESTAMP,
+    /** Length-prefixed UTF-8. */
+    STRING,
+    /** Element count as a varint, then each element as a record of the field's {@code items}. */
+    ARRAY;
+
+    @JsonValue
+    public String schemaName() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    @JsonCreator
+    public static FieldType fromSchemaName(String name) {
+        return valueOf(name.toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,8 @@
+package com.tech.shared_events.codec;
+
+public class IncompatibleSchemaException extends RuntimeException {
+
+    public IncompatibleSchemaException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,96 @@
+package com.tech.shared_events.codec;
+
+import com.tech.shared_events.event.OrderItemEvent;
+import com.tech.shared_events.event.OrderPlacedEvent;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compact binary encoding of {@link OrderPlacedEvent}, versioned by the
+ * {@code order-placed-events} schemas in a {@link SchemaRegistry}.
+ * <p>
+ * A payload is a zero byte, which no JSON document starts with, the writer's
+ * schema version as a varint, and then the event as a record of that version.
+ * Readers decode any registered version by matching its fields to
+ * {@link OrderPlacedEvent} by name: fields this build does not know are
+ * skipped, and fields the writer did not have are left null.
+ */
+public class OrderPlacedEventCodec {
+
+    public static final String SUBJECT = "order-placed-events";
+    public static final int CURRENT_VERSION = 1;
+    public static final byte MAGIC = 0;
+
+    // Properties are numbered in the order they are bound, which the constructor functions rely on.
+    private static final RecordBinding<OrderItemEvent> ITEM_BINDING = new RecordBinding<>(
+            args -> new OrderItemEvent((Long) args[0], (Integer) args[1], (BigDecimal) args[2]))
+            .field("productId", FieldType.LONG, OrderItemEvent::productId)
+            .field("quantity", FieldType.INT, OrderItemEvent::quantity)
+            .field("price", FieldType.DECIMAL, OrderItemEvent::price);
+
+    @SuppressWarnings("unchecked")
+    private static final RecordBinding<OrderPlacedEvent> EVENT_BINDING = new RecordBinding<>(
+            args -> new OrderPlacedEvent((Long) args[0], (Long) args[1], (Long) args[2], (BigDecimal) args[3],
+                    (LocalDateTime) args[4], (List<OrderItemEvent>) args[5]))
+            .field("orderId", FieldType.LONG, OrderPlacedEvent::orderId)
+            .field("customerId", FieldType.LONG, OrderPlacedEvent::customerId)
+            .field("restaurantId", FieldType.LONG, OrderPlacedEvent::restaurantId)
+            .field("totalAmount", FieldType.DECIMAL, OrderPlacedEvent::totalAmount)
+            .field("orderDate", FieldType.TIMESTAMP, OrderPlacedEvent::orderDate)
+            .array("orderItems", ITEM_BINDING, OrderPlacedEvent::orderItems);
+
+    // Room for a typical event with a handful of items, so most encodes never grow the buffer.
+    private static final int INITIAL_BUFFER_SIZE = 128;
+
+    private final SchemaRegistry registry;
+    private final int writerVersion;
+    private final RecordCodec<OrderPlacedEvent> writer;
+    private final Map<Integer, RecordCodec<OrderPlacedEvent>> readers = new ConcurrentHashMap<>();
+
+    public OrderPlacedEventCodec(SchemaRegistry registry) {
+        this(registry, CURRENT_VERSION);
+    }
+
+    /**
+     * A codec that writes {@code writerVersion}. Producers move to a new
+     * version only once every consumer can find it in the registry.
+     */
+    public OrderPlacedEventCodec(SchemaRegistry registry, int writerVersion) {
+        this.registry = registry;
+        this.writerVersion = writerVersion;
+        this.writer = reader(writerVersion);
+    }
+
+    public byte[] encode(OrderPlacedEvent event) {
+        BinaryWriter out = new BinaryWriter(INITIAL_BUFFER_SIZE);
+        out.writeByte(MAGIC);
+        out.writeVarint(writerVersion);
+        writer.write(out, event);
+        return out.toByteArray();
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code data} is not a binary event
+     *         or was written with a version missing from the registry
+     */
+    public OrderPlacedEvent decode(byte[] data) {
+        if (!isBinary(data)) {
+            throw new IllegalArgumentException("Not a binary " + SUBJECT + " payload");
+        }
+        BinaryReader in = new BinaryReader(data, 1);
+        return reader(Math.toIntExact(in.readVarint())).read(in);
+    }
+
+    public static boolean isBinary(byte[] data) {
+        return data != null && data.length > 0 && data[0] == MAGIC;
+    }
+
+    private RecordCodec<OrderPlacedEvent> reader(int version) {
+        return readers.computeIfAbsent(version, v ->
+                new RecordCodec<>(registry.get(SUBJECT, v).fields(), EVENT_BINDING));
+    }
+}
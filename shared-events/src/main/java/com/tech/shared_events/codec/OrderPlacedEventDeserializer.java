@@ -0,0 +1,61 @@
+package com.tech.shared_events.codec;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.tech.shared_events.event.OrderPlacedEvent;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Kafka deserializer for {@code order-placed-events} that accepts both the
+ * binary format and JSON, so consumers can be upgraded before producers
+ * switch formats. Configured like {@link OrderPlacedEventSerializer}.
+ */
+public class OrderPlacedEventDeserializer implements Deserializer<OrderPlacedEvent> {
+
+    // Reads what Spring Kafka's JsonSerializer writes, without needing Spring here.
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    private OrderPlacedEventCodec codec;
+
+    public OrderPlacedEventDeserializer() {
+    }
+
+    public OrderPlacedEventDeserializer(OrderPlacedEventCodec codec) {
+        this.codec = codec;
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        if (codec == null) {
+            codec = new OrderPlacedEventCodec(OrderPlacedEventSerializer.schemaRegistry(configs));
+        }
+    }
+
+    @Override
+    public OrderPlacedEvent deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        if (!OrderPlacedEventCodec.isBinary(data)) {
+            try {
+                return OBJECT_MAPPER.readValue(data, OrderPlacedEvent.class);
+            } catch (IOException e) {
+                throw new SerializationException("Could not read JSON order event from " + topic, e);
+            }
+        }
+        try {
+            return codec.decode(data);
+        } catch (RuntimeException e) {
+            throw new SerializationException("Could not decode binary order event from " + topic, e);
+        }
+    }
+}
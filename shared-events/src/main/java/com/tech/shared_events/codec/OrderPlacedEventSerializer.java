@@ -0,0 +1,45 @@
+package com.tech.shared_events.codec;
+
+import com.tech.shared_events.event.OrderPlacedEvent;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Kafka serializer for the binary {@code order-placed-events} format.
+ * Configured by class name, it reads schemas from the classpath, plus
+ * {@link #SCHEMA_REGISTRY_DIR_CONFIG} when set.
+ */
+public class OrderPlacedEventSerializer implements Serializer<OrderPlacedEvent> {
+
+    public static final String SCHEMA_REGISTRY_DIR_CONFIG = "bytebites.schema-registry.dir";
+
+    private OrderPlacedEventCodec codec;
+
+    public OrderPlacedEventSerializer() {
+    }
+
+    public OrderPlacedEventSerializer(OrderPlacedEventCodec codec) {
+        this.codec = codec;
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        if (codec == null) {
+            codec = new OrderPlacedEventCodec(schemaRegistry(configs));
+        }
+    }
+
+    @Override
+    public byte[] serialize(String topic, OrderPlacedEvent event) {
+        return event == null ? null : codec.encode(event);
+    }
+
+    static SchemaRegistry schemaRegistry(Map<String, ?> configs) {
+        Object directory = configs.get(SCHEMA_REGISTRY_DIR_CONFIG);
+        return directory == null || directory.toString().isBlank()
+                ? new SchemaRegistry()
+                : new SchemaRegistry(Path.of(directory.toString()));
+    }
+}
@@ -0,0 +1,56 @@
+package com.tech.shared_events.codec;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Maps an immutable Java type onto schema fields by name. Each property has
+ * a getter for writing and a position in the argument array the constructor
+ * function receives when reading. A schema field with no property here is
+ * left out when writing and skipped when reading; a property with no schema
+ * field is passed to the constructor as null.
+ */
+final class RecordBinding<T> {
+
+    private final Function<Object[], T> constructor;
+    private final Map<String, Property<T>> properties = new HashMap<>();
+
+    RecordBinding(Function<Object[], T> constructor) {
+        this.constructor = constructor;
+    }
+
+    @SuppressWarnings("unchecked")
+    <V> RecordBinding<T> field(String name, FieldType type, Function<T, V> getter) {
+        if (type == FieldType.ARRAY) {
+            throw new IllegalArgumentException("Bind arrays with array(), which needs the element binding");
+        }
+        properties.put(name, new Property<>(properties.size(), type, (Function<T, Object>) getter, null));
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    <E> RecordBinding<T> array(String name, RecordBinding<E> items, Function<T, List<E>> getter) {
+        properties.put(name, new Property<>(properties.size(), FieldType.ARRAY, (Function<T, Object>) (Function<T, ?>) getter, items));
+        return this;
+    }
+
+    int size() {
+        return properties.size();
+    }
+
+    T construct(Object[] arguments) {
+        return constructor.apply(arguments);
+    }
+
+    Property<T> property(String name) {
+        return properties.get(name);
+    }
+
+    /**
+     * @param index position of this property's value in the constructor arguments
+     */
+    record Property<T>(int index, FieldType type, Function<T, Object> getter, RecordBinding<?> items) {
+    }
+}
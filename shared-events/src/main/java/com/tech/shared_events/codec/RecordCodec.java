@@ -0,0 +1,122 @@
+package com.tech.shared_events.codec;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Writes and reads records of one schema version through a
+ * {@link RecordBinding}. Schema fields are matched to binding properties once,
+ * when the codec is built, so encoding and decoding only walk arrays. Decoded
+ * values go straight into the constructor argument array, with no
+ * intermediate map.
+ * <p>
+ * A record is a presence bitmap with one bit per schema field, followed by
+ * the value of each present field in schema order.
+ */
+final class RecordCodec<T> {
+
+    private final List<EventSchema.Field> fields;
+    private final RecordBinding<T> binding;
+    private final RecordBinding.Property<T>[] properties;
+    private final RecordCodec<Object>[] elements;
+
+    @SuppressWarnings("unchecked")
+    RecordCodec(List<EventSchema.Field> fields, RecordBinding<T> binding) {
+        this.fields = fields;
+        this.binding = binding;
+        this.properties = new RecordBinding.Property[fields.size()];
+        this.elements = new RecordCodec[fields.size()];
+        for (int i = 0; i < fields.size(); i++) {
+            EventSchema.Field field = fields.get(i);
+            RecordBinding.Property<T> property = binding.property(field.name());
+            if (property == null) {
+                continue;
+            }
+            if (property.type() != field.type()) {
+                throw new IncompatibleSchemaException("Field " + field.name() + " is " + field.type() + " in the schema but bound as " + property.type());
+            }
+            properties[i] = property;
+            if (field.type() == FieldType.ARRAY) {
+                elements[i] = new RecordCodec<>(field.items(), (RecordBinding<Object>) property.items());
+            }
+        }
+    }
+
+    void write(BinaryWriter out, T record) {
+        int bitmap = out.position();
+        for (int i = 0; i < fields.size(); i += 8) {
+            out.writeByte(0);
+        }
+        if (record == null) {
+            // A null array element is written as an element with no fields.
+            return;
+        }
+        int bits = 0;
+        for (int i = 0; i < properties.length; i++) {
+            Object value = properties[i] == null ? null : properties[i].getter().apply(record);
+            if (value != null) {
+                bits |= 1 << (i % 8);
+                writeValue(out, i, value);
+            }
+            if (i % 8 == 7 || i == properties.length - 1) {
+                out.setByte(bitmap + i / 8, bits);
+                bits = 0;
+            }
+        }
+    }
+
+    T read(BinaryReader in) {
+        Object[] arguments = new Object[binding.size()];
+        int bits = 0;
+        for (int i = 0; i < properties.length; i++) {
+            if (i % 8 == 0) {
+                bits = in.readByte();
+            }
+            if ((bits & (1 << (i % 8))) == 0) {
+                continue;
+            }
+            if (properties[i] == null) {
+                in.skip(fields.get(i));
+            } else {
+                arguments[properties[i].index()] = readValue(in, i);
+            }
+        }
+        return binding.construct(arguments);
+    }
+
+    private void writeValue(BinaryWriter out, int i, Object value) {
+        switch (properties[i].type()) {
+            case INT -> out.writeLong((Integer) value);
+            case LONG -> out.writeLong((Long) value);
+            case DECIMAL -> out.writeDecimal((BigDecimal) value);
+            case TIMESTAMP -> out.writeTimestamp((LocalDateTime) value);
+            case STRING -> out.writeString((String) value);
+            case ARRAY -> {
+                List<?> list = (List<?>) value;
+                out.writeVarint(list.size());
+                for (Object element : list) {
+                    elements[i].write(out, element);
+                }
+            }
+        }
+    }
+
+    private Object readValue(BinaryReader in, int i) {
+        return switch (properties[i].type()) {
+            case INT -> in.readInt();
+            case LONG -> in.readLong();
+            case DECIMAL -> in.readDecimal();
+            case TIMESTAMP -> in.readTimestamp();
+            case STRING -> in.readString();
+            case ARRAY -> {
+                // Every element takes at least a byte, so the length check bounds the allocation.
+                Object[] list = new Object[in.readLength()];
+                for (int n = 0; n < list.length; n++) {
+                    list[n] = elements[i].read(in);
+                }
+                yield List.of(list);
+            }
+        };
+    }
+}
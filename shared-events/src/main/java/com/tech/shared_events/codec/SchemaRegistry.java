@@ -0,0 +1,147 @@
+package com.tech.shared_events.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * File-based stand-in for a schema registry. Version {@code n} of a subject
+ * is the JSON file {@code <subject>/v<n>.json}, looked up in
+ * {@code directory} if one is configured and then on the classpath under
+ * {@code schemas/}, which holds the versions this build was compiled with.
+ * Pointing every service at one shared directory lets consumers decode
+ * versions registered after they were built.
+ * <p>
+ * A new version is accepted only if every field it shares with any earlier
+ * version keeps that version's type, so a dropped field cannot come back with
+ * a different type. Since all fields are optional, fields may be added or
+ * dropped, and data written with any registered version can be read with any
+ * other.
+ */
+public class SchemaRegistry {
+
+    private static final String CLASSPATH_ROOT = "schemas/";
+
+    private final Path directory;
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final Map<String, EventSchema> schemas = new ConcurrentHashMap<>();
+
+    /**
+     * A registry of the schemas on the classpath only.
+     */
+    public SchemaRegistry() {
+        this(null);
+    }
+
+    public SchemaRegistry(Path directory) {
+        this.directory = directory;
+    }
+
+    public EventSchema get(String subject, int version) {
+        return find(subject, version).orElseThrow(() ->
+                new IllegalArgumentException("No schema registered for " + subject + " version " + version));
+    }
+
+    public Optional<EventSchema> find(String subject, int version) {
+        // Missing versions are not cached, so a schema registered later is still found.
+        return Optional.ofNullable(schemas.computeIfAbsent(subject + "/v" + version + ".json", this::load));
+    }
+
+    /**
+     * Every version of {@code subject}, oldest first.
+     */
+    public List<EventSchema> versions(String subject) {
+        List<EventSchema> versions = new ArrayList<>();
+        for (int version = 1; ; version++) {
+            Optional<EventSchema> schema = find(subject, version);
+            if (schema.isEmpty()) {
+                return versions;
+            }
+            versions.add(schema.get());
+        }
+    }
+
+    /**
+     * Stores {@code fields} as the next version of {@code subject} in the
+     * registry directory.
+     *
+     * @throws IncompatibleSchemaException if a field shared with any earlier
+     *         version changes type
+     */
+    public synchronized EventSchema register(String subject, List<EventSchema.Field> fields) {
+        if (directory == null) {
+            throw new IllegalStateException("The classpath registry is read-only; configure a schema directory to register schemas");
+        }
+        List<EventSchema> versions = versions(subject);
+        EventSchema schema = new EventSchema(subject, versions.size() + 1, fields);
+        // Readers may still be bound to any earlier version, not just the latest.
+        for (EventSchema previous : versions) {
+            checkCompatible(previous, schema);
+        }
+        Path file = directory.resolve(subject).resolve("v" + schema.version() + ".json");
+        try {
+            Files.createDirectories(file.getParent());
+            objectMapper.writeValue(file.toFile(), schema);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write schema " + file, e);
+        }
+        return schema;
+    }
+
+    /**
+     * @throws IncompatibleSchemaException if a field of {@code next} has the
+     *         same name as a field of {@code previous} but a different type, or
+     *         either schema names a field twice
+     */
+    public static void checkCompatible(EventSchema previous, EventSchema next) {
+        checkCompatible(next.subject(), previous.fields(), next.fields());
+    }
+
+    private static void checkCompatible(String path, List<EventSchema.Field> previous, List<EventSchema.Field> next) {
+        Map<String, EventSchema.Field> previousByName = byName(path, previous);
+        byName(path, next).forEach((name, field) -> {
+            EventSchema.Field old = previousByName.get(name);
+            if (old == null) {
+                return;
+            }
+            if (old.type() != field.type()) {
+                throw new IncompatibleSchemaException(path + "." + name + " changes type from " + old.type() + " to " + field.type());
+            }
+            checkCompatible(path + "." + name, old.items(), field.items());
+        });
+    }
+
+    private static Map<String, EventSchema.Field> byName(String path, List<EventSchema.Field> fields) {
+        Map<String, EventSchema.Field> byName = new HashMap<>();
+        for (EventSchema.Field field : fields) {
+            if (byName.put(field.name(), field) != null) {
+                throw new IncompatibleSchemaException(path + " has more than one field named " + field.name());
+            }
+        }
+        return byName;
+    }
+
+    private EventSchema load(String name) {
+        try {
+            if (directory != null && Files.isRegularFile(directory.resolve(name))) {
+                return objectMapper.readValue(directory.resolve(name).toFile(), EventSchema.class);
+            }
+            try (InputStream in = SchemaRegistry.class.getClassLoader().getResourceAsStream(CLASSPATH_ROOT + name)) {
+                return in == null ? null : objectMapper.readValue(in, EventSchema.class);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read schema " + name, e);
+        }
+    }
+}
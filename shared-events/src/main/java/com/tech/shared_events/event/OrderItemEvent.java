@@ -0,0 +1,6 @@
+package com.tech.shared_events.event;
+
+import java.math.BigDecimal;
+
+public record OrderItemEvent(Long productId, Integer quantity, BigDecimal price) {
+}
@@ -0,0 +1,43 @@
+package com.tech.shared_events.event;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * An order as it was placed. Immutable, so the same instance can be handed
+ * to the Kafka producer, the outbox and any number of listeners.
+ * <p>
+ * {@link #toString()} is a one-line summary rather than every item: Kafka's
+ * producer and consumer debug logs render each record they handle, and large
+ * orders should not make those lines grow with them.
+ */
+public record OrderPlacedEvent(Long orderId,
+                               Long customerId,
+                               Long restaurantId,
+                               BigDecimal totalAmount,
+                               LocalDateTime orderDate,
+                               List<OrderItemEvent> orderItems) {
+
+    public OrderPlacedEvent {
+        // List.copyOf keeps a list that is already immutable, so built and decoded events are not copied twice.
+        orderItems = orderItems == null ? null : List.copyOf(orderItems);
+    }
+
+    /**
+     * The Kafka record key. Events for one order share a partition, so
+     * consumers see them in order.
+     */
+    public String key() {
+        return String.valueOf(orderId);
+    }
+
+    @Override
+    public String toString() {
+        return "OrderPlacedEvent{orderId=" + orderId
+               + ", restaurantId=" + restaurantId
+               + ", totalAmount=" + totalAmount
+               + ", items=" + (orderItems == null ? 0 : orderItems.size())
+               + '}';
+    }
+}
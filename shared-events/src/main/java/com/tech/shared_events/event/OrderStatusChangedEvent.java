@@ -0,0 +1,25 @@
+package com.tech.shared_events.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * A status transition of one order. Carries only what consumers need to react
+ * to the change; the full order is available from the order API.
+ * {@code version} is the order's version after the change, so consumers can
+ * drop deltas that arrive out of date.
+ */
+public record OrderStatusChangedEvent(Long orderId,
+                                      Long restaurantId,
+                                      Long customerId,
+                                      String previousStatus,
+                                      String status,
+                                      Long version,
+                                      LocalDateTime changedAt) {
+
+    /**
+     * The Kafka record key, the same as {@link OrderPlacedEvent#key()}.
+     */
+    public String key() {
+        return String.valueOf(orderId);
+    }
+}
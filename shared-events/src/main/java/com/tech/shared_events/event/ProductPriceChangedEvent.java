@@ -0,0 +1,10 @@
+package com.tech.shared_events.event;
+
+import java.math.BigDecimal;
+
+/**
+ * A menu item price published by restaurant-service. A null {@code price}
+ * means the item was removed from the menu.
+ */
+public record ProductPriceChangedEvent(Long productId, Long restaurantId, BigDecimal price) {
+}
@@ -0,0 +1,210 @@
+package com.tech.shared_events.codec;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.tech.shared_events.event.OrderItemEvent;
+import com.tech.shared_events.event.OrderPlacedEvent;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderPlacedEventDeserializerTest {
+
+    private static final String TOPIC = "order-placed-events";
+    // Writes dates the way the services' Spring-configured JsonSerializer does.
+    private static final ObjectMapper JSON = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    @TempDir
+    Path schemaDir;
+
+    private static OrderPlacedEvent event() {
+        return new OrderPlacedEvent(42L, 3L, 7L, new BigDecimal("27.48"), LocalDateTime.of(2026, 10, 18, 12, 30, 5, 123_000_000),
+                List.of(new OrderItemEvent(5L, 2, new BigDecimal("9.99")),
+                        new OrderItemEvent(6L, 1, new BigDecimal("-123456789012345678901234.5"))));
+    }
+
+    private static EventSchema.Field field(String name, FieldType type, EventSchema.Field... items) {
+        return new EventSchema.Field(name, type, List.of(items));
+    }
+
+    /**
+     * v1 without customerId, with a coupon code on the order and a note on each item.
+     */
+    private static SchemaRegistry registryWithVersion2(Path directory) {
+        SchemaRegistry registry = new SchemaRegistry(directory);
+        registry.register(OrderPlacedEventCodec.SUBJECT, List.of(
+                field("orderId", FieldType.LONG),
+                field("restaurantId", FieldType.LONG),
+                field("couponCode", FieldType.STRING),
+                field("totalAmount", FieldType.DECIMAL),
+                field("orderDate", FieldType.TIMESTAMP),
+                field("orderItems", FieldType.ARRAY,
+                        field("productId", FieldType.LONG),
+                        field("quantity", FieldType.INT),
+                        field("note", FieldType.STRING),
+                        field("price", FieldType.DECIMAL))));
+        return registry;
+    }
+
+    @Test
+    void deserialize_shouldRoundTripBinaryEventsInFewerBytesThanJson() throws JsonProcessingException {
+        OrderPlacedEventCodec codec = new OrderPlacedEventCodec(new SchemaRegistry());
+        OrderPlacedEvent event = event();
+
+        byte[] binary = codec.encode(event);
+        OrderPlacedEvent decoded = new OrderPlacedEventDeserializer(codec).deserialize(TOPIC, binary);
+
+        assertEquals(event, decoded);
+        assertTrue(binary.length * 3 < JSON.writeValueAsBytes(event).length);
+    }
+
+    @Test
+    void deserialize_shouldLeaveNullFieldsUnset() {
+        OrderPlacedEventCodec codec = new OrderPlacedEventCodec(new SchemaRegistry());
+        OrderPlacedEvent event = new OrderPlacedEvent(1L, null, 7L, null, null, null);
+
+        OrderPlacedEvent decoded = codec.decode(codec.encode(event));
+
+        assertEquals(event, decoded);
+    }
+
+    @Test
+    void deserialize_shouldStillReadJson() throws JsonProcessingException {
+        OrderPlacedEvent event = event();
+        byte[] json = JSON.writeValueAsBytes(event);
+
+        OrderPlacedEvent decoded = new OrderPlacedEventDeserializer(new OrderPlacedEventCodec(new SchemaRegistry())).deserialize(TOPIC, json);
+
+        assertEquals(event, decoded);
+    }
+
+    @Test
+    void deserialize_shouldSkipFieldsFromNewerWriterAndLeaveDroppedOnesNull() {
+        registryWithVersion2(schemaDir);
+        ByteArrayOutputStream v2 = new ByteArrayOutputStream();
+        v2.write(OrderPlacedEventCodec.MAGIC);
+        writeVarint(v2, 2);
+        v2.write(0b100111); // orderId, restaurantId, couponCode, orderItems
+        writeLong(v2, 42);
+        writeLong(v2, 7);
+        writeString(v2, "SAVE10");
+        writeVarint(v2, 1);
+        v2.write(0b0111); // productId, quantity, note
+        writeLong(v2, 5);
+        writeLong(v2, 2);
+        writeString(v2, "no onions");
+
+        OrderPlacedEvent decoded = new OrderPlacedEventDeserializer(new OrderPlacedEventCodec(new SchemaRegistry(schemaDir)))
+                .deserialize(TOPIC, v2.toByteArray());
+
+        assertEquals(42L, decoded.orderId());
+        assertEquals(7L, decoded.restaurantId());
+        assertNull(decoded.customerId());
+        assertNull(decoded.totalAmount());
+        assertEquals(1, decoded.orderItems().size());
+        assertEquals(5L, decoded.orderItems().get(0).productId());
+        assertEquals(2, decoded.orderItems().get(0).quantity());
+        assertNull(decoded.orderItems().get(0).price());
+    }
+
+    @Test
+    void deserialize_shouldReadEventsWrittenWithAnyRegisteredVersion() {
+        SchemaRegistry registry = registryWithVersion2(schemaDir);
+        OrderPlacedEventCodec reader = new OrderPlacedEventCodec(registry);
+        OrderPlacedEvent event = event();
+
+        OrderPlacedEvent fromV1 = reader.decode(new OrderPlacedEventCodec(registry, 1).encode(event));
+        OrderPlacedEvent fromV2 = reader.decode(new OrderPlacedEventCodec(registry, 2).encode(event));
+
+        assertEquals(event, fromV1);
+        assertEquals(new OrderPlacedEvent(event.orderId(), null, event.restaurantId(), event.totalAmount(),
+                event.orderDate(), event.orderItems()), fromV2);
+    }
+
+    @Test
+    void deserialize_shouldFailOnUnknownVersionOrTruncatedPayload() {
+        byte[] v2 = new OrderPlacedEventCodec(registryWithVersion2(schemaDir), 2).encode(event());
+        OrderPlacedEventCodec codec = new OrderPlacedEventCodec(new SchemaRegistry());
+        OrderPlacedEventDeserializer deserializer = new OrderPlacedEventDeserializer(codec);
+        byte[] v1 = codec.encode(event());
+
+        assertThrows(SerializationException.class, () -> deserializer.deserialize(TOPIC, v2));
+        assertThrows(SerializationException.class, () -> deserializer.deserialize(TOPIC, Arrays.copyOf(v1, v1.length - 3)));
+    }
+
+    @Test
+    void register_shouldRejectFieldsThatChangeType() {
+        SchemaRegistry registry = new SchemaRegistry(schemaDir);
+        List<EventSchema.Field> v1 = registry.get(OrderPlacedEventCodec.SUBJECT, 1).fields();
+        List<EventSchema.Field> retypedId = new ArrayList<>(v1);
+        retypedId.set(0, field("orderId", FieldType.STRING));
+        List<EventSchema.Field> retypedPrice = new ArrayList<>(v1);
+        retypedPrice.set(5, field("orderItems", FieldType.ARRAY, field("price", FieldType.STRING)));
+
+        assertThrows(IncompatibleSchemaException.class, () -> registry.register(OrderPlacedEventCodec.SUBJECT, retypedId));
+        assertThrows(IncompatibleSchemaException.class, () -> registry.register(OrderPlacedEventCodec.SUBJECT, retypedPrice));
+        assertEquals(1, registry.versions(OrderPlacedEventCodec.SUBJECT).size());
+    }
+
+    @Test
+    void register_shouldRejectDroppedFieldComingBackWithAnotherType() {
+        SchemaRegistry registry = registryWithVersion2(schemaDir);
+        List<EventSchema.Field> v3 = new ArrayList<>(registry.get(OrderPlacedEventCodec.SUBJECT, 2).fields());
+        v3.add(field("customerId", FieldType.STRING));
+
+        assertThrows(IncompatibleSchemaException.class, () -> registry.register(OrderPlacedEventCodec.SUBJECT, v3));
+        assertEquals(2, registry.versions(OrderPlacedEventCodec.SUBJECT).size());
+
+        v3.set(v3.size() - 1, field("customerId", FieldType.LONG));
+        registry.register(OrderPlacedEventCodec.SUBJECT, v3);
+        OrderPlacedEvent event = event();
+        assertEquals(event, new OrderPlacedEventCodec(registry, 1).decode(new OrderPlacedEventCodec(registry, 3).encode(event)));
+    }
+
+    @Test
+    void bundledSchemas_shouldEachBeCompatibleWithEveryEarlierVersion() {
+        List<EventSchema> versions = new SchemaRegistry().versions(OrderPlacedEventCodec.SUBJECT);
+
+        assertTrue(versions.size() >= OrderPlacedEventCodec.CURRENT_VERSION);
+        for (int i = 1; i < versions.size(); i++) {
+            for (int j = 0; j < i; j++) {
+                SchemaRegistry.checkCompatible(versions.get(j), versions.get(i));
+            }
+        }
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static void writeLong(ByteArrayOutputStream out, long value) {
+        writeVarint(out, (value << 1) ^ (value >> 63));
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(out, bytes.length);
+        out.writeBytes(bytes);
+    }
+}